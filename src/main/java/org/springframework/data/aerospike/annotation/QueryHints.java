@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.annotation;
+
+import com.aerospike.client.policy.Replica;
+import com.aerospike.client.query.QueryDuration;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Query policy hints of a repository query method. Hints override the client's default query policy and the
+ * configured max records only for queries of the annotated method. Attributes left with their default values are not
+ * applied.
+ * <p>
+ * Hints are read once per query method, see
+ * {@link org.springframework.data.aerospike.repository.query.QueryPolicyHints} for setting them on a query directly.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+public @interface QueryHints {
+
+    /**
+     * Socket idle timeout in milliseconds, 0 means no timeout. Negative value means not set.
+     */
+    int socketTimeout() default -1;
+
+    /**
+     * Total transaction timeout in milliseconds, 0 means no timeout. Negative value means not set.
+     */
+    int totalTimeout() default -1;
+
+    /**
+     * Approximate maximum amount of records to return, 0 means no limit. Negative value means not set.
+     */
+    long maxRecords() default -1;
+
+    /**
+     * Limit of records per second processed on each server node, 0 means no limit. Negative value means not set.
+     */
+    int recordsPerSecond() default -1;
+
+    /**
+     * Replica algorithm to use. Empty array means not set, otherwise a single value is expected.
+     */
+    Replica[] replica() default {};
+
+    /**
+     * Whether to read bins of records. Only {@code false} changes queries returning bins, e.g. to read only record
+     * metadata. Empty array means not set, otherwise a single value is expected.
+     */
+    boolean[] includeBinData() default {};
+
+    /**
+     * Expected duration of the query, e.g. {@link QueryDuration#SHORT} for interactive queries returning a small
+     * amount of records. Empty array means not set, otherwise a single value is expected.
+     */
+    QueryDuration[] expectedDuration() default {};
+}
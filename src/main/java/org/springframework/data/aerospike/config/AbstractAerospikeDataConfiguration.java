@@ -68,6 +68,12 @@ public abstract class AbstractAerospikeDataConfiguration extends AerospikeDataCo
         long queryMaxRecords = settings.getDataSettings().getQueryMaxRecords();
         log.info("AerospikeDataSettings.queryMaxRecords: {}", queryMaxRecords);
         queryEngine.setQueryMaxRecords(queryMaxRecords);
+        int queryPartitionRanges = settings.getDataSettings().getQueryPartitionRanges();
+        log.info("AerospikeDataSettings.queryPartitionRanges: {}", queryPartitionRanges);
+        queryEngine.setPartitionRanges(queryPartitionRanges);
+        queryEngine.setPartitionRangesConcurrency(settings.getDataSettings().getQueryPartitionRangesConcurrency());
+        queryEngine.setQueryThreads(settings.getDataSettings().getQueryThreads());
+        queryEngine.setUnionConcurrency(settings.getDataSettings().getQueryUnionConcurrency());
         if (!settings.getDataSettings().isWriteSortedMaps()) {
             log.info("AerospikeDataSettings.writeSortedMaps is set to false, " +
                 "Maps and POJOs will be written as unsorted Maps (degrades performance of Map-related operations," +
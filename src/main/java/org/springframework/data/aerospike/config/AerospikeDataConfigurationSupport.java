@@ -55,8 +55,10 @@ import org.springframework.data.aerospike.index.AerospikeIndexResolver;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikeSimpleTypes;
 import org.springframework.data.aerospike.mapping.Document;
+import org.springframework.data.aerospike.query.CostBasedQueryPlanner;
 import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
 import org.springframework.data.aerospike.query.QueryContextBuilder;
+import org.springframework.data.aerospike.query.QueryPlanner;
 import org.springframework.data.aerospike.query.cache.IndexesCache;
 import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
@@ -74,6 +76,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
+import static org.springframework.data.aerospike.util.Utils.getSetObjectsCount;
 import static org.springframework.data.aerospike.util.Utils.setStringFromConfig;
 
 /**
@@ -95,8 +98,19 @@ public abstract class AerospikeDataConfigurationSupport implements EnvironmentAw
     }
 
     @Bean(name = "aerospikeQueryContextBuilder")
-    public QueryContextBuilder queryContextBuilder(IndexesCache indexesCache) {
-        return new QueryContextBuilder(indexesCache);
+    public QueryContextBuilder queryContextBuilder(IndexesCache indexesCache, QueryPlanner queryPlanner,
+                                                   AerospikeSettings settings) {
+        boolean queryPlannerEnabled = settings.getDataSettings().isQueryPlannerEnabled();
+        log.info("AerospikeDataSettings.queryPlannerEnabled: {}", queryPlannerEnabled);
+        // Records are estimated for query plans and approximate counts even if the planner is disabled
+        return new QueryContextBuilder(indexesCache, queryPlannerEnabled ? queryPlanner : null,
+            settings.getDataSettings().getQueryUnionMaxInValues(), queryPlanner);
+    }
+
+    @Bean(name = "aerospikeQueryPlanner")
+    public QueryPlanner queryPlanner(IndexesCache indexesCache, IAerospikeClient aerospikeClient) {
+        return new CostBasedQueryPlanner(indexesCache,
+            (namespace, setName) -> getSetObjectsCount(aerospikeClient, namespace, setName));
     }
 
     @Bean(name = "aerospikeIndexCache")
@@ -40,10 +40,66 @@ public class AerospikeDataSettings {
     int serverVersionRefreshSeconds = 3600;
     // Limit amount of results returned by server. Non-positive value means no limit
     long queryMaxRecords = 10_000L;
+    // Split queries into <N> partition ranges executed in parallel. Non-positive value or 1 means a single query stream
+    int queryPartitionRanges = 0;
+    // Maximum amount of partition ranges of a query executed concurrently. Non-positive value means all ranges at once
+    int queryPartitionRangesConcurrency = 0;
+    // Maximum amount of threads executing partition ranges and union queries of the blocking query engine. Queries
+    // above the limit wait for a thread
+    int queryThreads = 64;
+    // Maximum amount of secondary index queries of a union (OR or IN on indexed bins) executed concurrently.
+    // Non-positive value means all queries of a union at once
+    int queryUnionConcurrency = 16;
+    // Maximum amount of values of IN on an indexed bin queried as a union of secondary index queries, one per value.
+    // IN with more values is evaluated as a filter expression. Non-positive value means IN is never queried as a union
+    int queryUnionMaxInValues = 100;
+    // Spill sorted query results without a limit to temporary files in runs of <N> records, so that sorting does not
+    // require keeping all records in memory. Non-positive value means sorting in memory
+    int querySortSpillThreshold = 0;
+    // Choose secondary index Filter of combined queries and the execution of unions by estimated costs based on index
+    // statistics, observed executions and set sizes. Set sizes are refreshed in background
+    boolean queryPlannerEnabled = false;
     // Maximum batch size for batch read operations
     int batchReadSize = 100;
+    // Maximum amount of batch read chunks executed concurrently. Value of 1 or less means reading chunks one by one
+    int batchReadConcurrency = 1;
     // Maximum batch size for batch write operations
     int batchWriteSize = 100;
+    // Maximum amount of batch write chunks executed concurrently. Value of 1 or less means writing chunks one by one
+    int batchWriteConcurrency = 1;
+    // Maximum amount of threads executing batch chunks concurrently in the blocking template, shared by all batch
+    // operations. When all threads are busy, chunks are executed by the calling thread
+    int batchThreads = 64;
+    // Emit results of concurrently executed reactive batch chunks in the order of chunks (true),
+    // or as soon as each chunk completes (false)
+    boolean batchChunksOrdered = true;
+    // Adjust batch read and write sizes per set based on observed latency, payload size and timeouts
+    boolean adaptiveBatchSizing = false;
+    // Minimal batch size and increment step used by adaptive batch sizing
+    int adaptiveBatchSizeMin = 10;
+    // Maximal batch size used by adaptive batch sizing
+    int adaptiveBatchSizeMax = 5000;
+    // Batch latency in milliseconds above which adaptive batch sizing decreases batch size
+    int adaptiveBatchTargetLatencyMillis = 100;
+    // Estimated batch payload in bytes above which adaptive batch sizing decreases batch size. Non-positive value means
+    // no limit
+    int adaptiveBatchMaxPayloadBytes = 1_048_576;
+    // Coalesce concurrent writes of single documents (save and insert) into batch writes
+    boolean writeCoalescing = false;
+    // Maximum amount of documents in a coalesced batch write
+    int writeCoalescingMaxBatchSize = 100;
+    // Maximum time in milliseconds a document waits for other documents before a coalesced batch is written
+    int writeCoalescingLingerMillis = 2;
+    // Coalesce concurrent reads of single documents by id into batch reads
+    boolean readCoalescing = false;
+    // Maximum amount of keys in a coalesced batch read
+    int readCoalescingMaxBatchSize = 100;
+    // Maximum time in milliseconds a read waits for other reads before a coalesced batch is read
+    int readCoalescingLingerMillis = 1;
+    // Maximum amount of threads writing or reading coalesced batches after linger time in the blocking template
+    int coalescingThreads = 16;
+    // Snapshot bins of read entities, so that saving them writes only changed bins
+    boolean changeTracking = false;
     // Define how @Id fields (primary keys) and Map keys are stored: false - always as String,
     // true - preserve original type if supported
     boolean keepOriginalKeyTypes = false;
@@ -67,7 +123,42 @@ public class AerospikeDataSettings {
             setIntFromConfig(this::setServerVersionRefreshSeconds, environment, CONFIG_PREFIX_DATA,
                 "serverVersionRefreshSeconds");
             setIntFromConfig(this::setQueryMaxRecords, environment, CONFIG_PREFIX_DATA, "queryMaxRecords");
+            setIntFromConfig(this::setQueryPartitionRanges, environment, CONFIG_PREFIX_DATA, "queryPartitionRanges");
+            setIntFromConfig(this::setQueryPartitionRangesConcurrency, environment, CONFIG_PREFIX_DATA,
+                "queryPartitionRangesConcurrency");
+            setIntFromConfig(this::setQueryThreads, environment, CONFIG_PREFIX_DATA, "queryThreads");
+            setIntFromConfig(this::setQueryUnionConcurrency, environment, CONFIG_PREFIX_DATA,
+                "queryUnionConcurrency");
+            setIntFromConfig(this::setQueryUnionMaxInValues, environment, CONFIG_PREFIX_DATA,
+                "queryUnionMaxInValues");
+            setIntFromConfig(this::setQuerySortSpillThreshold, environment, CONFIG_PREFIX_DATA,
+                "querySortSpillThreshold");
+            setBoolFromConfig(this::setQueryPlannerEnabled, environment, CONFIG_PREFIX_DATA, "queryPlannerEnabled");
+            setIntFromConfig(this::setBatchReadConcurrency, environment, CONFIG_PREFIX_DATA, "batchReadConcurrency");
             setIntFromConfig(this::setBatchWriteSize, environment, CONFIG_PREFIX_DATA, "batchWriteSize");
+            setIntFromConfig(this::setBatchWriteConcurrency, environment, CONFIG_PREFIX_DATA,
+                "batchWriteConcurrency");
+            setIntFromConfig(this::setBatchThreads, environment, CONFIG_PREFIX_DATA, "batchThreads");
+            setBoolFromConfig(this::setBatchChunksOrdered, environment, CONFIG_PREFIX_DATA, "batchChunksOrdered");
+            setBoolFromConfig(this::setAdaptiveBatchSizing, environment, CONFIG_PREFIX_DATA, "adaptiveBatchSizing");
+            setIntFromConfig(this::setAdaptiveBatchSizeMin, environment, CONFIG_PREFIX_DATA, "adaptiveBatchSizeMin");
+            setIntFromConfig(this::setAdaptiveBatchSizeMax, environment, CONFIG_PREFIX_DATA, "adaptiveBatchSizeMax");
+            setIntFromConfig(this::setAdaptiveBatchTargetLatencyMillis, environment, CONFIG_PREFIX_DATA,
+                "adaptiveBatchTargetLatencyMillis");
+            setIntFromConfig(this::setAdaptiveBatchMaxPayloadBytes, environment, CONFIG_PREFIX_DATA,
+                "adaptiveBatchMaxPayloadBytes");
+            setBoolFromConfig(this::setWriteCoalescing, environment, CONFIG_PREFIX_DATA, "writeCoalescing");
+            setIntFromConfig(this::setWriteCoalescingMaxBatchSize, environment, CONFIG_PREFIX_DATA,
+                "writeCoalescingMaxBatchSize");
+            setIntFromConfig(this::setWriteCoalescingLingerMillis, environment, CONFIG_PREFIX_DATA,
+                "writeCoalescingLingerMillis");
+            setBoolFromConfig(this::setReadCoalescing, environment, CONFIG_PREFIX_DATA, "readCoalescing");
+            setIntFromConfig(this::setReadCoalescingMaxBatchSize, environment, CONFIG_PREFIX_DATA,
+                "readCoalescingMaxBatchSize");
+            setIntFromConfig(this::setReadCoalescingLingerMillis, environment, CONFIG_PREFIX_DATA,
+                "readCoalescingLingerMillis");
+            setIntFromConfig(this::setCoalescingThreads, environment, CONFIG_PREFIX_DATA, "coalescingThreads");
+            setBoolFromConfig(this::setChangeTracking, environment, CONFIG_PREFIX_DATA, "changeTracking");
             setBoolFromConfig(this::setKeepOriginalKeyTypes, environment, CONFIG_PREFIX_DATA, "keepOriginalKeyTypes");
             setBoolFromConfig(this::setWriteSortedMaps, environment, CONFIG_PREFIX_DATA, "writeSortedMaps");
             setStringFromConfig(this::setClassKey, environment, CONFIG_PREFIX_DATA, "classKey");
@@ -52,6 +52,13 @@ public class AerospikeReadData {
         return new AerospikeReadData(key, binsMap, aeroRecord.getTimeToLive(), aeroRecord.generation);
     }
 
+    /**
+     * Returns data of the same record with the given bins
+     */
+    AerospikeReadData withAeroRecord(Map<String, Object> aeroRecord) {
+        return new AerospikeReadData(key, aeroRecord, expiration, version);
+    }
+
     public Object getValue(String key) {
         return aeroRecord.get(key);
     }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.convert;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Value;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.lang.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps snapshots of bins of entities read from the database, so that saving an entity writes only bins changed since
+ * it was read or saved.
+ * <p>
+ * A snapshot contains the bin values an entity converts to, together with the key and the generation of the record.
+ * For an entity that has been read, the snapshot keeps the read data and converts it to bin values only when the entity
+ * is saved, so reading entities does not convert them twice. Byte arrays, lists and maps can be shared with the
+ * entity and changed in place, so snapshots keep copies of them. Entities are referenced weakly and compared by
+ * identity, so a snapshot is discarded when its entity is garbage collected. Entities written using custom converters
+ * and entities without an id property are not tracked.
+ */
+public class EntityChangeTracker {
+
+    private final AerospikeMappingContext mappingContext;
+    private final MappingAerospikeReadConverter readConverter;
+    private final MappingAerospikeWriteConverter writeConverter;
+    private final Map<EntityReference, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collectedEntities = new ReferenceQueue<>();
+
+    /**
+     * Snapshot of an entity, either with bin values of a saved entity or with the data a read entity was created from
+     */
+    private record Snapshot(Key key, int generation, @Nullable Map<String, Value> bins,
+                            @Nullable AerospikeReadData readData) {
+
+    }
+
+    /**
+     * Bins changed since an entity was read or saved
+     *
+     * @param bins       Changed bins, removed bins have null values
+     * @param generation Generation of the record when the entity was read or saved
+     */
+    public record Changes(List<Bin> bins, int generation) {
+
+    }
+
+    EntityChangeTracker(AerospikeMappingContext mappingContext, MappingAerospikeReadConverter readConverter,
+                        MappingAerospikeWriteConverter writeConverter) {
+        this.mappingContext = mappingContext;
+        this.readConverter = readConverter;
+        this.writeConverter = writeConverter;
+    }
+
+    /**
+     * Takes a snapshot of an entity that has been read from the given data
+     */
+    void track(Object entity, AerospikeReadData data) {
+        AerospikePersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entity.getClass());
+        if (persistentEntity == null || !persistentEntity.hasIdProperty()
+            || writeConverter.hasCustomWriteConverter(entity.getClass())) {
+            return;
+        }
+        Map<String, Object> aeroRecord = new HashMap<>();
+        data.getAeroRecord().forEach((binName, value) -> aeroRecord.put(binName, copyMutable(value)));
+        put(entity, new Snapshot(data.getKey(), data.getVersion(), null, data.withAeroRecord(aeroRecord)));
+    }
+
+    /**
+     * Takes a snapshot of an entity that has been saved
+     *
+     * @param entity     The saved entity
+     * @param data       The data the entity has been saved with
+     * @param generation Generation of the record after saving
+     */
+    public void track(Object entity, AerospikeWriteData data, int generation) {
+        Map<String, Value> bins = new HashMap<>();
+        data.getBins().forEach(bin -> bins.put(bin.name, copyMutableValue(bin.value)));
+        put(entity, new Snapshot(data.getKey(), generation, bins, null));
+    }
+
+    /**
+     * Returns bins of an entity changed since its snapshot
+     *
+     * @param entity The entity to save
+     * @param data   The data of the entity converted for saving
+     * @return Changes or null if there is no snapshot of the entity for the key of the data
+     */
+    @Nullable
+    public Changes getChanges(Object entity, AerospikeWriteData data) {
+        Snapshot snapshot = snapshots.get(new EntityReference(entity, null));
+        if (snapshot == null || !isSameRecord(snapshot.key(), data.getKey())) return null;
+        Map<String, Value> snapshotBins = snapshot.bins() != null
+            ? snapshot.bins()
+            : getReadBins(entity.getClass(), snapshot.readData());
+        if (snapshotBins == null) return null;
+
+        List<Bin> changedBins = new ArrayList<>();
+        Map<String, Value> removedBins = new HashMap<>(snapshotBins);
+        for (Bin bin : data.getBins()) {
+            removedBins.remove(bin.name);
+            if (!Objects.equals(snapshotBins.get(bin.name), bin.value)) {
+                changedBins.add(bin);
+            }
+        }
+        removedBins.keySet().forEach(binName -> changedBins.add(Bin.asNull(binName)));
+        return new Changes(changedBins, snapshot.generation());
+    }
+
+    /**
+     * Discards the snapshot of an entity
+     */
+    public void forget(Object entity) {
+        snapshots.remove(new EntityReference(entity, null));
+    }
+
+    /**
+     * Converts the data an entity has been read from to bin values the same way as the entity is converted for writing
+     */
+    @Nullable
+    private Map<String, Value> getReadBins(Class<?> type, AerospikeReadData data) {
+        Object readEntity = readConverter.read(type, data);
+        Map<String, Object> convertedBins = readEntity == null ? null : writeConverter.convertBins(readEntity);
+        if (convertedBins == null) return null;
+
+        Map<String, Value> bins = toValues(data.getKey(), convertedBins);
+        // Bins missing in the record are written when the entity is saved, and bins not mapped to properties are
+        // removed
+        bins.keySet().retainAll(data.getAeroRecord().keySet());
+        data.getAeroRecord().keySet().forEach(binName -> bins.putIfAbsent(binName, Value.getAsNull()));
+        return bins;
+    }
+
+    private void put(Object entity, Snapshot snapshot) {
+        removeCollectedEntities();
+        snapshots.put(new EntityReference(entity, collectedEntities), snapshot);
+    }
+
+    private void removeCollectedEntities() {
+        Reference<?> reference;
+        while ((reference = collectedEntities.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private static Map<String, Value> toValues(Key key, Map<String, Object> convertedBins) {
+        // Bin values are created the same way as for writing
+        AerospikeWriteData data = AerospikeWriteData.forWrite(key.namespace);
+        convertedBins.forEach(data::addBin);
+        Map<String, Value> bins = new HashMap<>();
+        data.getBins().forEach(bin -> bins.put(bin.name, bin.value));
+        return bins;
+    }
+
+    private static Value copyMutableValue(Value value) {
+        if (value instanceof Value.BytesValue || value instanceof Value.ListValue || value instanceof Value.MapValue) {
+            return Value.get(copyMutable(value.getObject()));
+        }
+        return value;
+    }
+
+    /**
+     * Copies byte arrays, lists and maps deeply, other values are returned as they are
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static Object copyMutable(@Nullable Object value) {
+        if (value instanceof byte[] bytes) {
+            return bytes.clone();
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(element -> copy.add(copyMutable(element)));
+            return copy;
+        }
+        if (value instanceof Map<?, ?> map) {
+            // Sorted maps stay sorted, so that they are written as ordered maps
+            Map<Object, Object> copy = map instanceof SortedMap<?, ?> sortedMap
+                ? new TreeMap<>((Comparator<Object>) sortedMap.comparator())
+                : new LinkedHashMap<>();
+            map.forEach((key, element) -> copy.put(key, copyMutable(element)));
+            return copy;
+        }
+        return value;
+    }
+
+    private static boolean isSameRecord(Key snapshotKey, @Nullable Key key) {
+        return key != null && Objects.equals(snapshotKey.namespace, key.namespace)
+            && Arrays.equals(snapshotKey.digest, key.digest);
+    }
+
+    /**
+     * Weak reference to an entity compared by identity
+     */
+    private static final class EntityReference extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        EntityReference(Object entity, @Nullable ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.hashCode = System.identityHashCode(entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof EntityReference other)) return false;
+            Object entity = get();
+            return entity != null && entity == other.get();
+        }
+    }
+}
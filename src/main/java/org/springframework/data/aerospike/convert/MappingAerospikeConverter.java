@@ -27,6 +27,7 @@ import org.springframework.data.convert.SimpleTypeInformationMapper;
 import org.springframework.data.convert.TypeMapper;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.lang.Nullable;
 
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,9 @@ public class MappingAerospikeConverter implements InitializingBean, AerospikeCon
     private final AerospikeDataSettings aerospikeDataSettings;
     private final MappingAerospikeReadConverter readConverter;
     private final MappingAerospikeWriteConverter writeConverter;
+    @Getter
+    @Nullable
+    private final EntityChangeTracker changeTracker;
 
     /**
      * Creates a new {@link MappingAerospikeConverter}.
@@ -66,6 +70,9 @@ public class MappingAerospikeConverter implements InitializingBean, AerospikeCon
                 settings);
         this.readConverter = new MappingAerospikeReadConverter(entityInstantiators, aerospikeTypeAliasAccessor,
             typeMapper, mappingContext, conversions, conversionService);
+        this.changeTracker = settings.isChangeTracking()
+            ? new EntityChangeTracker(mappingContext, readConverter, writeConverter)
+            : null;
     }
 
     @Override
@@ -75,7 +82,11 @@ public class MappingAerospikeConverter implements InitializingBean, AerospikeCon
 
     @Override
     public <R> R read(Class<R> type, final AerospikeReadData data) {
-        return readConverter.read(type, data);
+        R result = readConverter.read(type, data);
+        if (changeTracker != null && result != null) {
+            changeTracker.track(result, data);
+        }
+        return result;
     }
 
     @Override
@@ -30,6 +30,7 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -38,9 +39,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
@@ -102,19 +105,39 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
 
         data.setExpiration(getExpiration(entity, accessor));
 
-        Map<String, Object> convertedProperties = convertProperties(type, entity, accessor, false);
-
         if (!data.hasRequestedBins()) {
-            convertedProperties.forEach(data::addBin);
+            convertProperties(type, entity, accessor, false).forEach(data::addBin);
         } else {
-            convertedProperties.forEach((key, value) -> {
-                if (data.getRequestedBins().contains(key)) {
-                    data.addBin(key, value);
-                }
-            });
+            // Only the requested properties are converted
+            convertRequestedProperties(type, entity, accessor, asSet(data.getRequestedBins())).forEach(data::addBin);
         }
     }
 
+    /**
+     * Converts writable properties of an entity into bin values the same way as
+     * {@link #write(Object, AerospikeWriteData)}, without resolving the key, version and expiration.
+     *
+     * @param source The entity to convert
+     * @return Bin values by bin names, or null if the entity is written using a custom converter
+     */
+    @Nullable
+    Map<String, Object> convertBins(Object source) {
+        if (hasCustomWriteConverter(source.getClass())) {
+            return null;
+        }
+        AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(source.getClass());
+        ConvertingPropertyAccessor<?> accessor =
+            new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(source), conversionService);
+        return convertProperties(TypeInformation.of(source.getClass()), entity, accessor, false);
+    }
+
+    /**
+     * Returns whether entities of the given type are written using a custom converter
+     */
+    boolean hasCustomWriteConverter(Class<?> type) {
+        return conversions.hasCustomWriteTarget(type, AerospikeWriteData.class);
+    }
+
     public Optional<Key> getNewKey(AerospikeWriteData data,
                                    ConvertingPropertyAccessor<?> accessor, AerospikePersistentEntity<?> entity) {
         // set the new key if the one in provided data is null or incomplete
@@ -180,6 +203,34 @@ public class MappingAerospikeWriteConverter implements EntityWriter<Object, Aero
         return target;
     }
 
+    private Map<String, Object> convertRequestedProperties(TypeInformation<?> type,
+                                                           AerospikePersistentEntity<?> entity,
+                                                           ConvertingPropertyAccessor<?> accessor,
+                                                           Set<String> requestedBins) {
+        Map<String, Object> target = settings.isWriteSortedMaps() ? new TreeMap<>() : new HashMap<>();
+        Map<String, Object> typeBins = new HashMap<>(2);
+        typeMapper.writeType(type, typeBins);
+        typeBins.forEach((binName, value) -> {
+            if (requestedBins.contains(binName)) {
+                target.put(binName, value);
+            }
+        });
+        entity.doWithProperties((PropertyHandler<AerospikePersistentProperty>) property -> {
+            if (!requestedBins.contains(property.getFieldName()) || isNotWritable(property)) {
+                return;
+            }
+            Object valueToWrite = getValueToWrite(accessor.getProperty(property), property.getTypeInformation());
+            if (valueToWrite != null) {
+                target.put(property.getFieldName(), valueToWrite);
+            }
+        });
+        return target;
+    }
+
+    private static Set<String> asSet(Collection<String> binNames) {
+        return binNames instanceof Set<String> set ? set : new HashSet<>(binNames);
+    }
+
     private boolean isNotWritable(AerospikePersistentProperty property) {
         return property.isIdProperty() || property.isExpirationProperty() || property.isVersionProperty()
             || !property.isWritable();
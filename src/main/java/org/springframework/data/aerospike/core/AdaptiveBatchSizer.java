@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses sizes of batch read and write chunks per set based on feedback of executed batches, using additive increase
+ * and multiplicative decrease (AIMD).
+ * <p>
+ * Sizes start from the configured batch read and write sizes and stay within the configured bounds. A size is
+ * increased by the minimal size after a full batch completes within the target latency and payload size, and is halved
+ * after a batch exceeds the target latency or payload size, or times out. Non-positive configured batch sizes (no
+ * chunking) are not adjusted.
+ */
+public class AdaptiveBatchSizer {
+
+    /**
+     * Type of batch operations
+     */
+    public enum BatchType {
+        READ,
+        WRITE
+    }
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyNanos;
+    private final long maxPayloadBytes;
+    private final int initialReadSize;
+    private final int initialWriteSize;
+    private final Map<String, AtomicInteger> readSizes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> writeSizes = new ConcurrentHashMap<>();
+
+    public AdaptiveBatchSizer(AerospikeDataSettings settings) {
+        this.minSize = Math.max(settings.getAdaptiveBatchSizeMin(), 1);
+        this.maxSize = Math.max(settings.getAdaptiveBatchSizeMax(), minSize);
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(settings.getAdaptiveBatchTargetLatencyMillis());
+        this.maxPayloadBytes = settings.getAdaptiveBatchMaxPayloadBytes();
+        this.initialReadSize = settings.getBatchReadSize();
+        this.initialWriteSize = settings.getBatchWriteSize();
+    }
+
+    /**
+     * Returns the current batch size for the given set
+     *
+     * @param type    Type of batch operation
+     * @param setName Set name
+     * @return Batch size, non-positive if the configured batch size is non-positive
+     */
+    public int getBatchSize(BatchType type, String setName) {
+        int initialSize = getInitialSize(type);
+        if (initialSize <= 0) return initialSize;
+        AtomicInteger size = getSizes(type).get(String.valueOf(setName));
+        return size == null ? clamp(initialSize) : size.get();
+    }
+
+    /**
+     * Returns current batch sizes of all sets with executed batches, e.g. for monitoring
+     *
+     * @param type Type of batch operation
+     * @return Unmodifiable map of batch sizes by set name
+     */
+    public Map<String, Integer> getBatchSizes(BatchType type) {
+        Map<String, Integer> result = new TreeMap<>();
+        getSizes(type).forEach((setName, size) -> result.put(setName, size.get()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Adjusts the batch size of the given set after a batch has completed
+     *
+     * @param type         Type of batch operation
+     * @param setName      Set name
+     * @param batchSize    Amount of records in the batch
+     * @param elapsedNanos Batch latency in nanoseconds
+     * @param payloadBytes Estimated size of records in the batch in bytes
+     */
+    public void onSuccess(BatchType type, String setName, int batchSize, long elapsedNanos, long payloadBytes) {
+        if (getInitialSize(type) <= 0) return;
+        AtomicInteger size = getSize(type, setName);
+        if (elapsedNanos > targetLatencyNanos || (maxPayloadBytes > 0 && payloadBytes > maxPayloadBytes)) {
+            decrease(size);
+        } else if (batchSize >= size.get()) {
+            // Smaller batches (e.g. the last chunk) do not show whether a bigger size would fit
+            size.updateAndGet(current -> Math.min(maxSize, current + minSize));
+        }
+    }
+
+    /**
+     * Decreases the batch size of the given set after a batch has timed out
+     *
+     * @param type    Type of batch operation
+     * @param setName Set name
+     */
+    public void onTimeout(BatchType type, String setName) {
+        if (getInitialSize(type) <= 0) return;
+        decrease(getSize(type, setName));
+    }
+
+    private void decrease(AtomicInteger size) {
+        size.updateAndGet(current -> Math.max(minSize, current / 2));
+    }
+
+    private AtomicInteger getSize(BatchType type, String setName) {
+        return getSizes(type).computeIfAbsent(String.valueOf(setName),
+            name -> new AtomicInteger(clamp(getInitialSize(type))));
+    }
+
+    private Map<String, AtomicInteger> getSizes(BatchType type) {
+        return type == BatchType.READ ? readSizes : writeSizes;
+    }
+
+    private int getInitialSize(BatchType type) {
+        return type == BatchType.READ ? initialReadSize : initialWriteSize;
+    }
+
+    private int clamp(int size) {
+        return Math.min(maxSize, Math.max(minSize, size));
+    }
+}
@@ -17,6 +17,7 @@ package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Value;
 import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.exp.Expression;
@@ -25,13 +26,17 @@ import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.ResultSet;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.dsl.api.DSLParser;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.model.CountMode;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
+import org.springframework.data.aerospike.query.PartitionsCursor;
+import org.springframework.data.aerospike.query.QueryPlan;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 import org.springframework.data.domain.Sort;
@@ -404,6 +409,11 @@ public interface AerospikeOperations {
 
     /**
      * Delete records using a query using the set associated with the given entityClass.
+     * <p>
+     * Deleting is done by server-side background query when the entity has no version property and the query is not
+     * sorted, limited or distinct, so the records are not transferred to the client. In this case all matching records
+     * are deleted, the amount is not limited by {@link AerospikeDataSettings#getQueryMaxRecords()}. Otherwise matching
+     * records are read (up to query max records) and then deleted using batch operations.
      *
      * @param query       The query to check if any matching records exist. Must not be {@literal null}.
      * @param entityClass The class to extract set name from. Must not be {@literal null}.
@@ -419,6 +429,65 @@ public interface AerospikeOperations {
      */
     <T> void delete(Query query, Class<T> entityClass, String setName);
 
+    /**
+     * Delete records matching a query in the set associated with the given entityClass using server-side background
+     * query. The records are not transferred to the client and generation (version) is not checked.
+     * <p>
+     * The method returns as soon as the background query is started, the returned task can be used to wait for
+     * completion ({@link ExecuteTask#waitTillComplete()}) or to check the status ({@link ExecuteTask#queryStatus()}).
+     *
+     * @param query            The query to filter records. Can be {@literal null} to delete all records of the set.
+     *                         Must not be sorted, limited, distinct or contain id qualifier.
+     * @param entityClass      The class to extract set name from. Must not be {@literal null}.
+     * @param recordsPerSecond Limit of records per second deleted on each server node, 0 means no limit.
+     * @return {@link ExecuteTask} of the background query.
+     */
+    <T> ExecuteTask deleteUsingBackgroundQuery(@Nullable Query query, Class<T> entityClass, int recordsPerSecond);
+
+    /**
+     * Delete records matching a query within the given set using server-side background query. The records are not
+     * transferred to the client and generation (version) is not checked.
+     *
+     * @param query            The query to filter records. Can be {@literal null} to delete all records of the set.
+     *                         Must not be sorted, limited, distinct or contain id qualifier.
+     * @param setName          Set name to use. Must not be {@literal null}.
+     * @param recordsPerSecond Limit of records per second deleted on each server node, 0 means no limit.
+     * @return {@link ExecuteTask} of the background query.
+     */
+    ExecuteTask deleteUsingBackgroundQuery(@Nullable Query query, String setName, int recordsPerSecond);
+
+    /**
+     * Apply the given operations to every record matching a query in the set associated with the given entityClass
+     * using server-side background query (e.g. set a bin, increment a counter or clear a field). The records are not
+     * transferred to the client and are not converted, generation (version) is not checked.
+     * <p>
+     * The method returns as soon as the background query is started, the returned task can be used to wait for
+     * completion ({@link ExecuteTask#waitTillComplete()}) or to check the status ({@link ExecuteTask#queryStatus()}).
+     *
+     * @param query            The query to filter records. Can be {@literal null} to update all records of the set.
+     *                         Must not be sorted, limited, distinct or contain id qualifier.
+     * @param entityClass      The class to extract set name from. Must not be {@literal null}.
+     * @param recordsPerSecond Limit of records per second updated on each server node, 0 means no limit.
+     * @param operations       Write operations to apply to each matching record. Must not be empty.
+     * @return {@link ExecuteTask} of the background query.
+     */
+    <T> ExecuteTask updateByQuery(@Nullable Query query, Class<T> entityClass, int recordsPerSecond,
+                                  Operation... operations);
+
+    /**
+     * Apply the given operations to every record matching a query within the given set using server-side background
+     * query. The records are not transferred to the client and are not converted, generation (version) is not
+     * checked.
+     *
+     * @param query            The query to filter records. Can be {@literal null} to update all records of the set.
+     *                         Must not be sorted, limited, distinct or contain id qualifier.
+     * @param setName          Set name to use. Must not be {@literal null}.
+     * @param recordsPerSecond Limit of records per second updated on each server node, 0 means no limit.
+     * @param operations       Write operations to apply to each matching record. Must not be empty.
+     * @return {@link ExecuteTask} of the background query.
+     */
+    ExecuteTask updateByQuery(@Nullable Query query, String setName, int recordsPerSecond, Operation... operations);
+
     /**
      * Count existing records by ids and a query using the given entityClass.
      * <p>
@@ -1033,6 +1102,23 @@ public interface AerospikeOperations {
      */
     <T, S> Stream<S> findUsingQueryWithoutPostProcessing(Class<T> entityClass, Class<S> targetClass, Query query);
 
+    /**
+     * Find one page of records in the given entityClass set using a query, starting from the position of the given
+     * cursor, and map them to the given target class type. The cursor is updated, so it can be passed to the next call
+     * to continue with the next page, or encoded using {@link PartitionsCursor#toToken()}. Only the records of the
+     * requested page are read. Sorting, offset and distinct are not supported.
+     *
+     * @param query       The {@link Query} to filter results. Can be {@literal null}.
+     * @param entityClass The class to extract set name from. Must not be {@literal null}.
+     * @param targetClass The class to map the records to. Must not be {@literal null}.
+     * @param cursor      The {@link PartitionsCursor} to start from. Must not be {@literal null}.
+     * @param pageSize    The maximum amount of records to return. Must be positive.
+     * @return A List of matching records mapped to targetClass type, it may be smaller than the page size even when
+     * the cursor is not done.
+     */
+    <T, S> List<S> findUsingCursor(@Nullable Query query, Class<T> entityClass, Class<S> targetClass,
+                                   PartitionsCursor cursor, int pageSize);
+
     /**
      * Check by id if a record exists within the set associated with the given entityClass.
      *
@@ -1119,7 +1205,8 @@ public interface AerospikeOperations {
     <T> long count(Query query, Class<T> entityClass);
 
     /**
-     * Return the amount of records in query results within the given set.
+     * Return the amount of records in query results within the given set. Records are counted exactly, see
+     * {@link CountMode#EXACT}.
      *
      * @param query   The query that provides the result set for count.
      * @param setName Set name to use.
@@ -1127,6 +1214,38 @@ public interface AerospikeOperations {
      */
     long count(Query query, String setName);
 
+    /**
+     * Return the amount of records in query results using the given count mode. Set name will be determined by the
+     * given entityClass.
+     *
+     * @param query       The query that provides the result set for count.
+     * @param entityClass The class to extract set name from. Must not be {@literal null}.
+     * @param mode        Whether to count records exactly or to estimate their amount. Must not be {@literal null}.
+     * @return amount of records matching the given query and entity class.
+     */
+    <T> long count(Query query, Class<T> entityClass, CountMode mode);
+
+    /**
+     * Return the amount of records in query results within the given set using the given count mode.
+     *
+     * @param query   The query that provides the result set for count.
+     * @param setName Set name to use.
+     * @param mode    Whether to count records exactly or to estimate their amount. Must not be {@literal null}.
+     * @return amount of documents matching the given query and set.
+     */
+    long count(Query query, String setName, CountMode mode);
+
+    /**
+     * Describe how the given query is going to be executed without running it: which secondary index is used, which
+     * qualifiers are evaluated as a filter expression, whether the whole set is scanned and how many records are
+     * estimated to be read. Set name will be determined by the given entityClass.
+     *
+     * @param query       The query to describe, can be {@literal null}.
+     * @param entityClass The class to extract set name from. Must not be {@literal null}.
+     * @return {@link QueryPlan} of the query.
+     */
+    <T> QueryPlan explain(@Nullable Query query, Class<T> entityClass);
+
     /**
      * Count existing records by ids and a query using the given entityClass.
      * <p>
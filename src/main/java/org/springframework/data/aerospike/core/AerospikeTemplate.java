@@ -27,18 +27,22 @@ import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.ResultSet;
 import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.client.task.IndexTask;
 import com.aerospike.dsl.api.DSLParser;
 import com.aerospike.dsl.client.exp.Exp;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.model.CountMode;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
 import org.springframework.data.aerospike.index.IndexesCacheRefresher;
 import org.springframework.data.aerospike.index.IndexesCacheRetriever;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.query.PartitionsCursor;
+import org.springframework.data.aerospike.query.QueryPlan;
 import org.springframework.data.aerospike.query.QueryEngine;
 import org.springframework.data.aerospike.query.cache.IndexRefresher;
 import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
@@ -54,6 +58,8 @@ import org.springframework.util.Assert;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -68,6 +74,7 @@ import static org.springframework.data.aerospike.core.BatchUtils.batchSizeMatch;
 import static org.springframework.data.aerospike.core.TemplateUtils.getDistinctPredicate;
 import static org.springframework.data.aerospike.core.TemplateUtils.operations;
 import static org.springframework.data.aerospike.core.ValidationUtils.verifyUnsortedWithOffset;
+import static org.springframework.data.aerospike.core.MappingUtils.getBinNamesFromTargetClass;
 import static org.springframework.data.aerospike.core.MappingUtils.mapToEntity;
 import static org.springframework.data.aerospike.core.TemplateUtils.*;
 import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.parseDslExpression;
@@ -93,6 +100,12 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
     private final TemplateContext templateContext;
     private final IndexesCacheHolder indexCacheHolder;
     private final DSLParser dslParser;
+    @Nullable
+    private final WriteCoalescer writeCoalescer;
+    @Nullable
+    private final ReadCoalescer readCoalescer;
+    private final ThreadPoolExecutor batchChunksExecutor;
+    private final ThreadPoolExecutor coalescerExecutor;
 
     public AerospikeTemplate(IAerospikeClient client,
                              String namespace,
@@ -109,6 +122,10 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         this.client = client;
         this.queryEngine = queryEngine;
         this.indexRefresher = indexRefresher;
+        this.batchChunksExecutor = Utils.newBoundedDaemonExecutor("aerospike-batch-chunks",
+            converter.getAerospikeDataSettings().getBatchThreads());
+        this.coalescerExecutor = Utils.newBoundedDaemonExecutor("aerospike-coalescer",
+            converter.getAerospikeDataSettings().getCoalescingThreads());
         this.templateContext = TemplateContext.builder()
             .client(client)
             .converter(converter)
@@ -117,10 +134,26 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             .exceptionTranslator(exceptionTranslator)
             .writePolicyDefault(writePolicyDefault)
             .batchWritePolicyDefault(batchWritePolicyDefault)
+            .batchSizer(adaptiveBatchSizer)
+            .batchChunksExecutor(batchChunksExecutor)
             .queryEngine(queryEngine)
             .build();
         this.indexCacheHolder = indexCacheHolder;
         this.dslParser = dslParser;
+        this.writeCoalescer = createWriteCoalescer(batchRecords -> {
+            client.operate(client.copyBatchPolicyDefault(), batchRecords);
+            return CompletableFuture.completedFuture(null);
+        }, templateContext, coalescerExecutor);
+        this.readCoalescer = createReadCoalescer(templateContext, coalescerExecutor);
+    }
+
+    /**
+     * Stops the threads executing batch chunks concurrently and coalesced batches. Called when the template bean is
+     * destroyed
+     */
+    public void close() {
+        batchChunksExecutor.shutdownNow();
+        coalescerExecutor.shutdownNow();
     }
 
     @Override
@@ -159,8 +192,15 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        if (writeCoalescer != null && !PolicyUtils.hasTransaction(client)) {
+            writeCoalescer.write(document, setName, SAVE_OPERATION);
+            return;
+        }
         AerospikeWriteData data = writeData(document, setName, templateContext);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        if (saveChangedBins(document, data, entity.hasVersionProperty(), templateContext)) {
+            return;
+        }
         if (entity.hasVersionProperty()) {
             WritePolicy writePolicy = PolicyUtils.expectGenerationCasAwarePolicy(data,
                 templateContext.writePolicyDefault);
@@ -208,6 +248,10 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        if (writeCoalescer != null && !PolicyUtils.hasTransaction(client)) {
+            writeCoalescer.write(document, setName, INSERT_OPERATION);
+            return;
+        }
         AerospikeWriteData data = writeData(document, setName, templateContext);
         WritePolicy writePolicy = PolicyUtils.ignoreGenerationPolicy(data, RecordExistsAction.CREATE_ONLY,
             templateContext.writePolicyDefault);
@@ -389,6 +433,12 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(entityClass, "Entity class must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        // Background queries cannot be a part of a transaction
+        if (isBackgroundDeleteApplicable(query, entityClass, templateContext) && !PolicyUtils.hasTransaction(client)) {
+            waitForBackgroundQuery(deleteUsingBackgroundQuery(query, setName, 0), templateContext);
+            return;
+        }
+
         List<T> findQueryResults = find(query, entityClass, setName).filter(Objects::nonNull).toList();
 
         if (!findQueryResults.isEmpty()) {
@@ -404,6 +454,41 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         delete(query, entityClass, getSetName(entityClass));
     }
 
+    @Override
+    public <T> ExecuteTask deleteUsingBackgroundQuery(@Nullable Query query, Class<T> entityClass,
+                                                      int recordsPerSecond) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        return deleteUsingBackgroundQuery(query, getSetName(entityClass), recordsPerSecond);
+    }
+
+    @Override
+    public ExecuteTask deleteUsingBackgroundQuery(@Nullable Query query, String setName, int recordsPerSecond) {
+        Assert.notNull(setName, "Set name must not be null!");
+
+        if (query != null && queryHasServerVersionSupport(query)) {
+            query.getCriteriaObject().setServerVersionSupport(getServerVersionSupport());
+        }
+        return executeUsingBackgroundQuery(setName, query, recordsPerSecond, templateContext, Operation.delete());
+    }
+
+    @Override
+    public <T> ExecuteTask updateByQuery(@Nullable Query query, Class<T> entityClass, int recordsPerSecond,
+                                         Operation... operations) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        return updateByQuery(query, getSetName(entityClass), recordsPerSecond, operations);
+    }
+
+    @Override
+    public ExecuteTask updateByQuery(@Nullable Query query, String setName, int recordsPerSecond,
+                                     Operation... operations) {
+        Assert.notNull(setName, "Set name must not be null!");
+
+        if (query != null && queryHasServerVersionSupport(query)) {
+            query.getCriteriaObject().setServerVersionSupport(getServerVersionSupport());
+        }
+        return executeUsingBackgroundQuery(setName, query, recordsPerSecond, templateContext, operations);
+    }
+
     @Override
     public <T> void deleteByIdsUsingQuery(Collection<?> ids, Class<T> entityClass, @Nullable Query query) {
         deleteByIdsUsingQuery(ids, entityClass, getSetName(entityClass), query);
@@ -760,6 +845,13 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityClass);
             Key key = getKey(id, setName, templateContext);
 
+            if (readCoalescer != null && query == null && !entity.isTouchOnRead()
+                && !PolicyUtils.hasTransaction(client)) {
+                boolean isTargetClass = targetClass != null && targetClass != entityClass;
+                String[] binNames = isTargetClass ? getBinNamesFromTargetClass(targetClass, mappingContext) : null;
+                return mapToEntity(key, isTargetClass ? targetClass : entityClass,
+                    readCoalescer.read(key, entityClass, binNames), templateContext.converter);
+            }
             if (targetClass != null && targetClass != entityClass) {
                 return getRecordMapToTargetClass(entity, key, targetClass, query, templateContext);
             }
@@ -874,6 +966,18 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
             getDistinctPredicate(query), query, templateContext);
     }
 
+    @Override
+    public <T, S> List<S> findUsingCursor(@Nullable Query query, Class<T> entityClass, Class<S> targetClass,
+                                          PartitionsCursor cursor, int pageSize) {
+        Assert.notNull(entityClass, "Entity class must not be null!");
+        Assert.notNull(targetClass, "Target class must not be null!");
+
+        if (query != null && queryHasServerVersionSupport(query)) {
+            query.getCriteriaObject().setServerVersionSupport(getServerVersionSupport());
+        }
+        return findPageUsingCursor(getSetName(entityClass), targetClass, query, cursor, pageSize, templateContext);
+    }
+
     @Override
     public <T> Stream<T> findInRange(long offset, long limit, Sort sort,
                                      Class<T> entityClass) {
@@ -931,7 +1035,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(query, "Query passed in to exist can't be null");
         Assert.notNull(setName, "Set name must not be null!");
 
-        return findExistingKeyRecordsUsingQuery(setName, query, templateContext).findAny().isPresent();
+        return existsUsingQuery(setName, query, templateContext);
     }
 
     @Override
@@ -941,10 +1045,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     @Override
     public boolean existsByIdsUsingQuery(Collection<?> ids, String setName, @Nullable Query query) {
-        long findQueryResults = BatchUtils.findByIdsUsingQueryWithoutMapping(ids, setName, query, templateContext)
-            .filter(Objects::nonNull)
-            .count();
-        return findQueryResults > 0;
+        return BatchUtils.existsByIdsUsingQuery(ids, setName, query, templateContext);
     }
 
     @Override
@@ -958,14 +1059,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
         Assert.notNull(setName, "Set name must not be null!");
 
         try {
-            Node[] nodes = client.getNodes();
-            int replicationFactor = Utils.getReplicationFactor(client, nodes, namespace);
-
-            long totalObjects = Arrays.stream(nodes)
-                .mapToLong(node -> Utils.getObjectsCount(client, node, namespace, setName))
-                .sum();
-
-            return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+            return Utils.getSetObjectsCount(client, namespace, setName);
         } catch (AerospikeException e) {
             throw ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
         }
@@ -979,7 +1073,33 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     @Override
     public long count(Query query, String setName) {
-        return findExistingKeyRecordsUsingQuery(setName, query, templateContext).count();
+        return count(query, setName, CountMode.EXACT);
+    }
+
+    @Override
+    public <T> long count(Query query, Class<T> entityClass, CountMode mode) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        return count(query, getSetName(entityClass), mode);
+    }
+
+    @Override
+    public long count(Query query, String setName, CountMode mode) {
+        Assert.notNull(mode, "Count mode must not be null!");
+        return countUsingQuery(setName, query, mode, templateContext);
+    }
+
+    @Override
+    public <T> QueryPlan explain(@Nullable Query query, Class<T> entityClass) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        if (query != null && queryHasServerVersionSupport(query)) {
+            query.getCriteriaObject().setServerVersionSupport(getServerVersionSupport());
+        }
+
+        try {
+            return templateContext.queryEngine.explain(getNamespace(), getSetName(entityClass), query);
+        } catch (AerospikeException e) {
+            throw ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
+        }
     }
 
     @Override
@@ -989,9 +1109,7 @@ public class AerospikeTemplate extends BaseAerospikeTemplate implements Aerospik
 
     @Override
     public long countByIdsUsingQuery(Collection<?> ids, String setName, @Nullable Query query) {
-        return BatchUtils.findByIdsUsingQueryWithoutMapping(ids, setName, query, templateContext)
-            .filter(Objects::nonNull)
-            .count();
+        return BatchUtils.countByIdsUsingQuery(ids, setName, query, templateContext);
     }
 
     @Override
@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
@@ -29,8 +30,11 @@ import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import java.util.concurrent.Executor;
+
 /**
  * Base class for Aerospike templates
  *
@@ -49,6 +53,12 @@ abstract class BaseAerospikeTemplate {
     protected final BatchWritePolicy batchWritePolicyDefault;
     @Getter
     protected final ServerVersionSupport serverVersionSupport;
+    /**
+     * Chooses batch sizes if adaptive batch sizing is enabled, otherwise null
+     */
+    @Getter
+    @Nullable
+    protected final AdaptiveBatchSizer adaptiveBatchSizer;
 
     BaseAerospikeTemplate(String namespace,
                           MappingAerospikeConverter converter,
@@ -67,10 +77,45 @@ abstract class BaseAerospikeTemplate {
         this.writePolicyDefault = writePolicyDefault;
         this.batchWritePolicyDefault = getFromWritePolicy(writePolicyDefault);
         this.serverVersionSupport = serverVersionSupport;
+        this.adaptiveBatchSizer = converter.getAerospikeDataSettings().isAdaptiveBatchSizing()
+            ? new AdaptiveBatchSizer(converter.getAerospikeDataSettings())
+            : null;
 
         loggerSetup();
     }
 
+    /**
+     * Creates a {@link WriteCoalescer} if coalescing of single document writes is enabled
+     *
+     * @param batchWriter     Writes batches using the client of the template
+     * @param templateContext The context of the template
+     * @param flushExecutor   Executes batches written after linger time
+     * @return {@link WriteCoalescer} or null if write coalescing is disabled
+     */
+    @Nullable
+    WriteCoalescer createWriteCoalescer(WriteCoalescer.BatchWriter batchWriter, TemplateContext templateContext,
+                                        Executor flushExecutor) {
+        AerospikeDataSettings settings = converter.getAerospikeDataSettings();
+        if (!settings.isWriteCoalescing()) return null;
+        return new WriteCoalescer(batchWriter, templateContext, settings.getWriteCoalescingMaxBatchSize(),
+            settings.getWriteCoalescingLingerMillis(), flushExecutor);
+    }
+
+    /**
+     * Creates a {@link ReadCoalescer} if coalescing of single document reads is enabled
+     *
+     * @param templateContext The context of the template, used to read batches
+     * @param flushExecutor   Executes batches read after linger time
+     * @return {@link ReadCoalescer} or null if read coalescing is disabled
+     */
+    @Nullable
+    ReadCoalescer createReadCoalescer(TemplateContext templateContext, Executor flushExecutor) {
+        AerospikeDataSettings settings = converter.getAerospikeDataSettings();
+        if (!settings.isReadCoalescing()) return null;
+        return new ReadCoalescer(templateContext, settings.getReadCoalescingMaxBatchSize(),
+            settings.getReadCoalescingLingerMillis(), flushExecutor);
+    }
+
     /**
      * Defines the types of operations that can be performed on an Aerospike record.
      */
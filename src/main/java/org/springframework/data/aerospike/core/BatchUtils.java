@@ -11,8 +11,11 @@ import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
 import com.aerospike.client.reactor.dto.KeysRecords;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.core.AdaptiveBatchSizer.BatchType;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
@@ -28,7 +31,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -52,6 +64,13 @@ import static org.springframework.data.aerospike.util.Utils.iterableToList;
 @Slf4j
 public final class BatchUtils {
 
+    // Empty bin names to read only record headers (each BatchRead is created with readAllBins=false)
+    private static final String[] NO_BINS = new String[0];
+    // Estimated size in bytes of a number, boolean or other scalar bin value
+    private static final long SCALAR_SIZE_ESTIMATE = 8;
+    // Estimated size in bytes of a list element, or of a map key or value
+    private static final long ELEMENT_SIZE_ESTIMATE = 16;
+
     private BatchUtils() {
         throw new UnsupportedOperationException("Utility class BatchUtils cannot be instantiated");
     }
@@ -59,7 +78,8 @@ public final class BatchUtils {
     /**
      * Applies a chunked batch write operation to a collection of documents. This method chunks the input documents into
      * batches based on the configured batch write size and performs the specified operation (save, insert, update,
-     * delete) for each batch. It handles the iteration and batching, delegating the actual write operation to
+     * delete) for each batch. If batch write concurrency is greater than 1, up to that many batches are written at the
+     * same time. It handles the iteration and batching, delegating the actual write operation to
      * {@link #batchWriteAllDocuments(Collection, String, BaseAerospikeTemplate.OperationType, BatchPolicy,
      * TemplateContext)}.
      *
@@ -77,18 +97,41 @@ public final class BatchUtils {
         BatchPolicy batchPolicy = (BatchPolicy) enrichPolicyWithTransaction(templateContext.client,
             templateContext.client.copyBatchPolicyDefault());
 
-        int batchSize = templateContext.converter.getAerospikeDataSettings().getBatchWriteSize();
+        int batchSize = getBatchSize(BatchType.WRITE, setName, templateContext);
         if (batchSize <= 0) {
             // For non-positive batchSize, write records straight away without chunking
             batchWriteAllDocuments(iterableToList(documents), setName, operationType, batchPolicy, templateContext);
             return;
         }
 
+        int concurrency = getBatchWriteConcurrency(templateContext);
+        if (concurrency > 1) {
+            List<List<T>> chunks = new ArrayList<>();
+            List<T> docsList = new ArrayList<>(batchSize);
+            for (T doc : documents) {
+                if (batchSizeMatch(batchSize, docsList.size())) {
+                    chunks.add(docsList);
+                    docsList = new ArrayList<>(batchSize);
+                }
+                docsList.add(doc);
+            }
+            if (!docsList.isEmpty()) {
+                chunks.add(docsList);
+            }
+            // Each chunk checks its own results and updates versions of its own documents
+            runConcurrently(templateContext.batchChunksExecutor, chunks.size(), concurrency, chunkIndex ->
+                batchWriteAllDocuments(chunks.get(chunkIndex), setName, operationType, batchPolicy,
+                    templateContext));
+            return;
+        }
+
         List<T> docsList = new ArrayList<>();
         for (T doc : documents) {
             if (batchSizeMatch(batchSize, docsList.size())) {
                 batchWriteAllDocuments(docsList, setName, operationType, batchPolicy, templateContext);
                 docsList.clear();
+                // Batch size can be adjusted after each batch
+                batchSize = getBatchSize(BatchType.WRITE, setName, templateContext);
             }
             docsList.add(doc);
         }
@@ -134,12 +177,17 @@ public final class BatchUtils {
         List<BatchRecord> batchWriteRecords = batchWriteDataList.stream()
             .map(BatchWriteData::batchRecord)
             .collect(Collectors.toList());
+        long startNanos = System.nanoTime();
         try {
             templateContext.client.operate(batchPolicy, batchWriteRecords);
         } catch (AerospikeException e) {
+            if (templateContext.batchSizer != null && e instanceof AerospikeException.Timeout) {
+                templateContext.batchSizer.onTimeout(BatchType.WRITE, setName);
+            }
             // no exception is thrown for versions mismatch, only record's result code shows it
             throw ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
         }
+        recordBatchWrite(setName, batchWriteRecords, System.nanoTime() - startNanos, templateContext);
 
         checkForErrorsAndUpdateVersion(batchWriteDataList, batchWriteRecords, operationType, templateContext);
     }
@@ -220,7 +268,7 @@ public final class BatchUtils {
             return;
         }
 
-        int batchSize = templateContext.converter.getAerospikeDataSettings().getBatchWriteSize();
+        int batchSize = getBatchSize(BatchType.WRITE, setName, templateContext);
         if (batchSize <= 0) {
             // For non-positive batchSize, delete records straight away without chunking
             doDeleteByIds(iterableToList(ids), setName, skipNonExisting, templateContext);
@@ -353,8 +401,8 @@ public final class BatchUtils {
      * @throws IllegalArgumentException if keys or set name are null, or if an invalid paginated query is provided
      * @throws AerospikeException       if an error occurs during the batch read
      */
-    private static Record[] findByKeysUsingQuery(Collection<Key> keys, @Nullable String[] binNames,
-                                                 @Nullable Query query, TemplateContext templateContext) {
+    static Record[] findByKeysUsingQuery(Collection<Key> keys, @Nullable String[] binNames,
+                                        @Nullable Query query, TemplateContext templateContext) {
         Assert.notNull(keys, "Keys must not be null!");
         if (isQueryCriteriaNotNull(query)) {
             // Paginated queries with offset and no sorting (i.e. original order)
@@ -381,7 +429,8 @@ public final class BatchUtils {
      * provided {@link BatchPolicy} with transaction information and reads records in chunks based on the configured
      * batch read size. If the collection of keys is smaller than or equal to the batch size, or if the batch size is
      * non-positive, all records are read at once without chunking. Otherwise, the keys are processed in batches to
-     * optimize performance.
+     * optimize performance. If batch read concurrency is greater than 1, up to that many chunks are read at the same
+     * time, and the records are returned in the order of the keys.
      *
      * @param batchPolicy     The {@link BatchPolicy} to use for the batch read operation
      * @param keys            A {@link Collection} of {@link Key}s representing the records to retrieve
@@ -393,7 +442,8 @@ public final class BatchUtils {
                                               TemplateContext templateContext) {
         BatchPolicy batchPolicyEnriched = (BatchPolicy) enrichPolicyWithTransaction(templateContext.client,
             batchPolicy);
-        int batchSize = templateContext.converter.getAerospikeDataSettings().getBatchReadSize();
+        String setName = keys.isEmpty() ? null : keys.iterator().next().setName;
+        int batchSize = getBatchSize(BatchType.READ, setName, templateContext);
 
         // For smaller collections of keys or non-positive batchSize, read records straight away without chunking
         if (keys.size() <= batchSize || batchSize <= 0) {
@@ -401,6 +451,23 @@ public final class BatchUtils {
                 .toArray(Record[]::new);
         }
 
+        int concurrency = templateContext.converter.getAerospikeDataSettings().getBatchReadConcurrency();
+        if (concurrency > 1) {
+            Key[] allKeys = keys.toArray(Key[]::new);
+            Record[] allRecords = new Record[allKeys.length];
+            int chunkSize = batchSize;
+            int chunksCount = (allKeys.length + chunkSize - 1) / chunkSize;
+            runConcurrently(templateContext.batchChunksExecutor, chunksCount, concurrency, chunkIndex -> {
+                int from = chunkIndex * chunkSize;
+                Key[] keysChunk = Arrays.copyOfRange(allKeys, from, Math.min(from + chunkSize, allKeys.length));
+                // Each chunk fills its own range of the results, so the original order of keys is kept
+                Record[] records = batchRead(batchPolicyEnriched, keysChunk, binNames, templateContext)
+                    .toArray(Record[]::new);
+                System.arraycopy(records, 0, allRecords, from, records.length);
+            });
+            return allRecords;
+        }
+
         // Pre-allocate result list with estimated capacity
         List<Record> allRecords = new ArrayList<>(keys.size());
         List<Key> keysChunk = new ArrayList<>(batchSize);
@@ -412,6 +479,8 @@ public final class BatchUtils {
                 batchRead(batchPolicyEnriched, keysChunk.toArray(Key[]::new), binNames, templateContext)
                     .forEach(allRecords::add);
                 keysChunk.clear();
+                // Batch size can be adjusted after each batch
+                batchSize = getBatchSize(BatchType.READ, setName, templateContext);
             }
         }
 
@@ -424,6 +493,137 @@ public final class BatchUtils {
         return allRecords.toArray(Record[]::new);
     }
 
+    /**
+     * Returns the amount of batch write chunks written concurrently. Within a transaction chunks are written one by
+     * one, so that the writes of the transaction are sent from a single thread in the order of documents
+     */
+    static int getBatchWriteConcurrency(TemplateContext templateContext) {
+        if (hasTransaction(templateContext.client)) return 1;
+        return templateContext.converter.getAerospikeDataSettings().getBatchWriteConcurrency();
+    }
+
+    /**
+     * Returns the batch size for the given set, chosen by the adaptive batch sizer if enabled, otherwise the configured
+     * one
+     */
+    private static int getBatchSize(BatchType type, @Nullable String setName, TemplateContext templateContext) {
+        if (templateContext.batchSizer != null) {
+            return templateContext.batchSizer.getBatchSize(type, setName);
+        }
+        AerospikeDataSettings settings = templateContext.converter.getAerospikeDataSettings();
+        return type == BatchType.READ ? settings.getBatchReadSize() : settings.getBatchWriteSize();
+    }
+
+    /**
+     * Reports a completed batch write to the adaptive batch sizer, if enabled. Records that timed out are reported as
+     * a timeout of the whole batch.
+     */
+    private static void recordBatchWrite(String setName, Collection<BatchRecord> batchWriteRecords, long elapsedNanos,
+                                         TemplateContext templateContext) {
+        AdaptiveBatchSizer batchSizer = templateContext.batchSizer;
+        if (batchSizer == null) return;
+        long payloadBytes = 0;
+        for (BatchRecord batchRecord : batchWriteRecords) {
+            if (batchRecord != null && batchRecord.resultCode == ResultCode.TIMEOUT) {
+                batchSizer.onTimeout(BatchType.WRITE, setName);
+                return;
+            }
+            if (batchRecord instanceof BatchWrite batchWrite && batchWrite.ops != null) {
+                for (Operation operation : batchWrite.ops) {
+                    payloadBytes += estimateSize(operation.value);
+                }
+            }
+        }
+        batchSizer.onSuccess(BatchType.WRITE, setName, batchWriteRecords.size(), elapsedNanos, payloadBytes);
+    }
+
+    /**
+     * Estimates size of bin values of the given records in bytes, see {@link #estimateSize(Object)}
+     */
+    private static long estimateRecordsSize(Record[] records) {
+        long size = 0;
+        for (Record record : records) {
+            if (record == null || record.bins == null) continue;
+            for (Object value : record.bins.values()) {
+                size += estimateSize(value);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Estimates size of a bin value in bytes without serializing it: strings and byte arrays by their length, other
+     * scalars by a flat size, lists and maps by a flat size per element not taking nested values into account. The
+     * estimation is only used to compare payloads of batches, so it does not need to be exact
+     */
+    static long estimateSize(@Nullable Object value) {
+        Object object = value instanceof Value aerospikeValue ? aerospikeValue.getObject() : value;
+        if (object == null) return 0;
+        if (object instanceof String string) return string.length();
+        if (object instanceof byte[] bytes) return bytes.length;
+        if (object instanceof Collection<?> collection) return (long) collection.size() * ELEMENT_SIZE_ESTIMATE;
+        if (object instanceof Map<?, ?> map) return (long) map.size() * 2 * ELEMENT_SIZE_ESTIMATE;
+        return SCALAR_SIZE_ESTIMATE;
+    }
+
+    /**
+     * Runs tasks with indexes from 0 to tasksCount - 1, at most the given amount of them at the same time. The calling
+     * thread runs tasks as well, and helpers that have not started by the time it runs out of tasks (e.g. because all
+     * threads of the executor are busy) are cancelled, so the caller never waits for a free thread. After the first
+     * failure no more tasks are started, and the failure is rethrown once the running tasks complete.
+     *
+     * @param executor    Executor running helpers of the calling thread, if null all tasks are run by the caller
+     * @param tasksCount  The amount of tasks
+     * @param concurrency Maximum amount of tasks running at the same time
+     * @param task        The task receiving its index
+     */
+    static void runConcurrently(@Nullable ExecutorService executor, int tasksCount, int concurrency,
+                                IntConsumer task) {
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            int index;
+            while (failure.get() == null && (index = nextIndex.getAndIncrement()) < tasksCount) {
+                try {
+                    task.accept(index);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        };
+
+        int workersCount = executor == null ? 1 : Math.min(concurrency, tasksCount);
+        List<Future<?>> workers = new ArrayList<>(Math.max(workersCount - 1, 0));
+        for (int i = 1; i < workersCount; i++) {
+            try {
+                workers.add(executor.submit(worker));
+            } catch (RejectedExecutionException e) {
+                // Executor is shut down, remaining tasks are run by the calling thread
+                break;
+            }
+        }
+        worker.run();
+        for (Future<?> future : workers) {
+            // Does not interrupt running helpers
+            if (future.cancel(false)) continue;
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+                workers.forEach(running -> running.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, e.getCause());
+            }
+        }
+
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException runtimeException) throw runtimeException;
+        if (e instanceof Error error) throw error;
+        if (e != null) throw new IllegalStateException("Batch operation has been interrupted", e);
+    }
+
     /**
      * Performs a batch read operation to retrieve records from the database.
      * <br>
@@ -439,6 +639,25 @@ public final class BatchUtils {
      */
     private static Stream<Record> batchRead(BatchPolicy batchPolicy, Key[] keys, String[] binNames,
                                             TemplateContext templateContext) {
+        AdaptiveBatchSizer batchSizer = templateContext.batchSizer;
+        if (batchSizer == null || keys.length == 0) {
+            return doBatchRead(batchPolicy, keys, binNames, templateContext);
+        }
+        String setName = keys[0].setName;
+        long startNanos = System.nanoTime();
+        try {
+            Record[] records = doBatchRead(batchPolicy, keys, binNames, templateContext).toArray(Record[]::new);
+            batchSizer.onSuccess(BatchType.READ, setName, keys.length, System.nanoTime() - startNanos,
+                estimateRecordsSize(records));
+            return Arrays.stream(records);
+        } catch (AerospikeException.Timeout e) {
+            batchSizer.onTimeout(BatchType.READ, setName);
+            throw e;
+        }
+    }
+
+    private static Stream<Record> doBatchRead(BatchPolicy batchPolicy, Key[] keys, String[] binNames,
+                                              TemplateContext templateContext) {
         if (binNames != null) {
             // When target class is given with empty bin names (e.g., id projection with sendKeys=true),
             // bins will not be read (each BatchRead will be created with readAllBins=false)
@@ -450,25 +669,68 @@ public final class BatchUtils {
     }
 
     /**
-     * Finds records by their IDs using a {@link Query} and returns them as a {@link Stream} without mapping them to
-     * specific entity types.
+     * Counts existing records by their IDs using a {@link Query}. Only record headers are read, the query's filter
+     * expression is applied by the server.
      *
-     * @param ids             A collection of IDs for the records to find
+     * @param ids             A collection of IDs of the records to count
+     * @param setName         The name of the set where the records are located
+     * @param query           The query to apply for filtering, can be null
+     * @param templateContext The context containing Aerospike client, and other necessary components
+     * @return The amount of existing records matching the query
+     * @throws IllegalArgumentException if the set name is null
+     * @throws AerospikeException       if an error occurs during the batch read
+     */
+    static long countByIdsUsingQuery(Collection<?> ids, String setName, @Nullable Query query,
+                                     TemplateContext templateContext) {
+        Assert.notNull(setName, "Set name must not be null!");
+        Assert.notNull(templateContext, "TemplateContext name must not be null!");
+
+        List<Key> keys = MappingUtils.getKeys(ids, setName, templateContext).toList();
+        Record[] headers = findByKeysUsingQuery(keys, NO_BINS, query, templateContext);
+        return Arrays.stream(headers).filter(Objects::nonNull).count();
+    }
+
+    /**
+     * Checks whether at least one record exists by the given IDs using a {@link Query}. Only record headers are read,
+     * chunk by chunk, and no more chunks are read after the first existing record is found.
+     *
+     * @param ids             A collection of IDs of the records to check
      * @param setName         The name of the set where the records are located
-     * @param query           The query to apply for filtering or pagination
+     * @param query           The query to apply for filtering, can be null
      * @param templateContext The context containing Aerospike client, and other necessary components
-     * @return A {@link Stream} of the found records
+     * @return true if at least one existing record matches the query
      * @throws IllegalArgumentException if the set name is null
      * @throws AerospikeException       if an error occurs during the batch read
      */
-    static Stream<Record> findByIdsUsingQueryWithoutMapping(Collection<?> ids, String setName, Query query,
-                                                            TemplateContext templateContext) {
+    static boolean existsByIdsUsingQuery(Collection<?> ids, String setName, @Nullable Query query,
+                                         TemplateContext templateContext) {
         Assert.notNull(setName, "Set name must not be null!");
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
+        if (isQueryCriteriaNotNull(query)) {
+            verifyUnsortedWithOffset(query.getSort(), query.getOffset());
+        }
 
-        Stream<Key> keys = MappingUtils.getKeys(ids, setName, templateContext);
-        Record[] records = findByKeysUsingQuery(keys.toList(), null, query, templateContext);
-        return Arrays.stream(records);
+        List<Key> keys = MappingUtils.getKeys(ids, setName, templateContext).toList();
+        if (keys.isEmpty()) {
+            return false;
+        }
+        try {
+            BatchPolicy batchPolicy = (BatchPolicy) enrichPolicyWithTransaction(templateContext.client,
+                getBatchPolicyFilterExp(query, templateContext));
+            int from = 0;
+            while (from < keys.size()) {
+                int batchSize = getBatchSize(BatchType.READ, setName, templateContext);
+                int to = batchSize <= 0 ? keys.size() : Math.min(from + batchSize, keys.size());
+                Key[] keysChunk = keys.subList(from, to).toArray(Key[]::new);
+                if (batchRead(batchPolicy, keysChunk, NO_BINS, templateContext).anyMatch(Objects::nonNull)) {
+                    return true;
+                }
+                from = to;
+            }
+            return false;
+        } catch (AerospikeException e) {
+            throw ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
+        }
     }
 
     /**
@@ -521,16 +783,17 @@ public final class BatchUtils {
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
 
         return Flux.defer(() -> {
-            int batchSize = templateContext.converter.getAerospikeDataSettings().getBatchWriteSize();
+            int batchSize = getBatchSize(BatchType.WRITE, setName, templateContext);
             if (batchSize <= 0) {
                 // For non-positive batchSize, write records straight away without chunking
                 return batchWriteAllDocumentsReactively(iterableToList(documents), setName, operationType,
                     templateContext);
             }
             // Create chunks
-            return createNullTolerantBatches(documents, batchSize)
-                .concatMap(batch -> batchWriteAllDocumentsReactively(batch, setName, operationType,
-                    templateContext));
+            int concurrency = templateContext.converter.getAerospikeDataSettings().getBatchWriteConcurrency();
+            return processChunksReactively(createNullTolerantBatches(documents, batchSize),
+                batch -> batchWriteAllDocumentsReactively(batch, setName, operationType, templateContext),
+                concurrency, templateContext.converter.getAerospikeDataSettings().isBatchChunksOrdered());
         });
     }
 
@@ -604,8 +867,9 @@ public final class BatchUtils {
                                                                      BaseAerospikeTemplate.OperationType operationType,
                                                                      TemplateContext templateContext) {
         return enrichPolicyWithTransaction(templateContext.reactorClient, batchPolicy)
-            .flatMap(batchPolicyEnriched ->
-                templateContext.reactorClient.operate((BatchPolicy) batchPolicyEnriched, batchWriteRecords))
+            .flatMap(batchPolicyEnriched -> observeBatchWrite(
+                templateContext.reactorClient.operate((BatchPolicy) batchPolicyEnriched, batchWriteRecords),
+                batchWriteRecords, templateContext))
             .onErrorMap(e -> ExceptionUtils.translateError(e, templateContext.exceptionTranslator))
             .flatMap(ignore -> checkForErrorsAndUpdateVersionForReactive(batchWriteDataList, batchWriteRecords,
                 operationType, templateContext))
@@ -690,7 +954,7 @@ public final class BatchUtils {
             return Mono.empty();
         }
 
-        int batchSize = templateContext.converter.getAerospikeDataSettings().getBatchWriteSize();
+        int batchSize = getBatchSize(BatchType.WRITE, setName, templateContext);
         if (batchSize <= 0) {
             // For non-positive batchSize, delete records straight away without chunking
             return doDeleteByIdsReactively(iterableToList(ids), setName, skipNonExisting, templateContext);
@@ -870,30 +1134,72 @@ public final class BatchUtils {
     static Flux<KeyRecord> batchReadInChunksReactively(BatchPolicy batchPolicy, Key[] keys,
                                                        @Nullable Class<?> targetClass,
                                                        TemplateContext templateContext) {
+        String[] binNames = getBinNamesFromTargetClassOrNull(null, targetClass, templateContext.mappingContext);
+        return batchReadBinsInChunksReactively(batchPolicy, keys, binNames, templateContext);
+    }
+
+    /**
+     * Performs chunked batch read of the given bins and retrieves a {@link Flux} of {@link KeyRecord} objects. The
+     * method enriches the given batch policy with transaction details.
+     *
+     * @param batchPolicy     The batch policy to apply to the operation
+     * @param keys            An array of Aerospike client {@link Key}s to retrieve
+     * @param binNames        Bin names to read, null to read all bins, empty to read only record headers
+     * @param templateContext The context containing Aerospike reactive client and other components
+     * @return A {@link Flux} of {@link KeyRecord}s
+     */
+    private static Flux<KeyRecord> batchReadBinsInChunksReactively(BatchPolicy batchPolicy, Key[] keys,
+                                                                   @Nullable String[] binNames,
+                                                                   TemplateContext templateContext) {
         Mono<Policy> enrichedPolicyMono = enrichPolicyWithTransaction(templateContext.reactorClient, batchPolicy);
-        int batchSize = templateContext.converter.getAerospikeDataSettings().getBatchReadSize();
+        int batchSize = getBatchSize(BatchType.READ, keys.length == 0 ? null : keys[0].setName, templateContext);
 
         return enrichedPolicyMono
             .flatMapMany(batchPolicyEnriched -> {
                 if (batchSize <= 0) {
                     // Process all keys in one go without chunking if batchSize value is non-positive
-                    return batchReadReactively((BatchPolicy) batchPolicyEnriched, keys, targetClass, templateContext)
+                    return batchReadReactively((BatchPolicy) batchPolicyEnriched, keys, binNames, templateContext)
                         .flatMapIterable(BatchUtils::keysRecordsToList);
                 } else {
                     // Read by keys in chunks
-                    return Flux.fromArray(keys)
-                        .buffer(batchSize)
-                        .flatMapSequential(keyList -> {
-                            // Convert each chunk back to array and process
-                            Key[] keysChunk = keyList.toArray(new Key[0]);
-                            return batchReadReactively((BatchPolicy) batchPolicyEnriched, keysChunk, targetClass,
-                                templateContext)
-                                .flatMapIterable(BatchUtils::keysRecordsToList);
-                        }, 1); // Use maximal concurrency of 1 to ensure the chunks are processed in order
+                    int concurrency =
+                        templateContext.converter.getAerospikeDataSettings().getBatchReadConcurrency();
+                    return processChunksReactively(Flux.fromArray(keys).buffer(batchSize), keyList -> {
+                        // Convert each chunk back to array and process
+                        Key[] keysChunk = keyList.toArray(new Key[0]);
+                        return batchReadReactively((BatchPolicy) batchPolicyEnriched, keysChunk, binNames,
+                            templateContext)
+                            .flatMapIterable(BatchUtils::keysRecordsToList);
+                    }, concurrency, templateContext.converter.getAerospikeDataSettings().isBatchChunksOrdered());
                 }
             });
     }
 
+    /**
+     * Processes chunks of a batch operation reactively with at most the given amount of chunks in flight. If
+     * concurrency is 1 or less, chunks are processed one by one. Otherwise, results are emitted in the order of chunks
+     * or as soon as each chunk completes, depending on the configured {@code batchChunksOrdered} setting.
+     *
+     * @param <T>         The type of chunks
+     * @param <R>         The type of results
+     * @param chunks      The chunks to process
+     * @param processor   The function processing a single chunk
+     * @param concurrency Maximum amount of chunks processed at the same time
+     * @param ordered     Whether results of concurrently processed chunks are emitted in the order of chunks
+     * @return A {@link Flux} of results of all chunks
+     */
+    static <T, R> Flux<R> processChunksReactively(Flux<T> chunks,
+                                                  Function<T, ? extends Publisher<? extends R>> processor,
+                                                  int concurrency, boolean ordered) {
+        if (concurrency <= 1) {
+            return chunks.concatMap(processor);
+        }
+        if (ordered) {
+            return chunks.flatMapSequential(processor, concurrency);
+        }
+        return chunks.flatMap(processor, concurrency);
+    }
+
     /**
      * Converts a {@link KeysRecords} object into an {@link Iterable} of {@link KeyRecord} while preserving the original
      * order.
@@ -917,27 +1223,59 @@ public final class BatchUtils {
      * Performs a reactive batch read operation.
      * <br>
      * This method asynchronously retrieves records using a provided {@link BatchPolicy}, an array of {@link Key}s, and
-     * an optional target class. If a target class is provided, it retrieves specific bins based on that class.
-     * Otherwise, it retrieves all bins.
+     * optional bin names. If bin names are provided, only those bins are retrieved. Otherwise, it retrieves all bins.
      *
      * @param batchPolicy     The {@link BatchPolicy} to use for the batch read operation
      * @param keys            An array of {@link Key}s representing the records to retrieve
-     * @param targetClass     The {@link Class} of the target entity, used to determine bins, can be {@code null}
-     * @param templateContext The template context providing access to the reactive client and mapping context
+     * @param binNames        Bin names to read, null to read all bins, empty to read only record headers
+     * @param templateContext The template context providing access to the reactive client
      * @return A {@link Mono} that emits a {@link KeysRecords} object containing the retrieved keys and records
      */
     private static Mono<KeysRecords> batchReadReactively(BatchPolicy batchPolicy, Key[] keys,
-                                                         @Nullable Class<?> targetClass,
+                                                         @Nullable String[] binNames,
                                                          TemplateContext templateContext) {
         IAerospikeReactorClient reactorClient = templateContext.reactorClient;
-        String[] binNames = getBinNamesFromTargetClassOrNull(null, targetClass, templateContext.mappingContext);
         if (binNames != null) {
             // When target class is given with empty bin names (e.g., id projection with sendKeys=true),
             // bins will not be read (each BatchRead will be created with readAllBins=false)
-            return reactorClient.get(batchPolicy, getBatchReadsWithBinNames(keys, binNames))
-                .flatMap(batchReads -> batchReadsToKeysRecords(keys, batchReads));
+            return observeBatchRead(reactorClient.get(batchPolicy, getBatchReadsWithBinNames(keys, binNames))
+                .flatMap(batchReads -> batchReadsToKeysRecords(keys, batchReads)), keys, templateContext);
         }
-        return reactorClient.get(batchPolicy, keys);
+        return observeBatchRead(reactorClient.get(batchPolicy, keys), keys, templateContext);
+    }
+
+    /**
+     * Reports latency, payload size and timeouts of a reactive batch read to the adaptive batch sizer, if enabled
+     */
+    private static Mono<KeysRecords> observeBatchRead(Mono<KeysRecords> batchRead, Key[] keys,
+                                                      TemplateContext templateContext) {
+        AdaptiveBatchSizer batchSizer = templateContext.batchSizer;
+        if (batchSizer == null || keys.length == 0) return batchRead;
+        String setName = keys[0].setName;
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return batchRead
+                .doOnNext(keysRecords -> batchSizer.onSuccess(BatchType.READ, setName, keys.length,
+                    System.nanoTime() - startNanos, estimateRecordsSize(keysRecords.records)))
+                .doOnError(AerospikeException.Timeout.class, e -> batchSizer.onTimeout(BatchType.READ, setName));
+        });
+    }
+
+    /**
+     * Reports latency, payload size and timeouts of a reactive batch write to the adaptive batch sizer, if enabled
+     */
+    private static <R> Mono<R> observeBatchWrite(Mono<R> batchWrite, List<BatchRecord> batchWriteRecords,
+                                                 TemplateContext templateContext) {
+        AdaptiveBatchSizer batchSizer = templateContext.batchSizer;
+        if (batchSizer == null || batchWriteRecords.isEmpty()) return batchWrite;
+        String setName = batchWriteRecords.get(0).key.setName;
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return batchWrite
+                .doOnNext(ignore -> recordBatchWrite(setName, batchWriteRecords, System.nanoTime() - startNanos,
+                    templateContext))
+                .doOnError(AerospikeException.Timeout.class, e -> batchSizer.onTimeout(BatchType.WRITE, setName));
+        });
     }
 
     /**
@@ -988,8 +1326,8 @@ public final class BatchUtils {
      * @return A {@link BatchWriteData} object configured for a save operation
      * @throws IllegalArgumentException if the document is null
      */
-    private static <T> BatchWriteData<T> getBatchWriteForSave(T document, String setName,
-                                                              TemplateContext templateContext) {
+    static <T> BatchWriteData<T> getBatchWriteForSave(T document, String setName,
+                                                      TemplateContext templateContext) {
         Assert.notNull(document, "Document must not be null!");
 
         AerospikeWriteData data = TemplateUtils.writeData(document, setName, templateContext);
@@ -1027,8 +1365,8 @@ public final class BatchUtils {
      * @return A {@link BatchWriteData} object configured for an insert operation
      * @throws IllegalArgumentException if the document is null
      */
-    private static <T> BatchWriteData<T> getBatchWriteForInsert(T document, String setName,
-                                                                TemplateContext templateContext) {
+    static <T> BatchWriteData<T> getBatchWriteForInsert(T document, String setName,
+                                                        TemplateContext templateContext) {
         Assert.notNull(document, "Document must not be null!");
 
         AerospikeWriteData data = TemplateUtils.writeData(document, setName, templateContext);
@@ -1225,11 +1563,12 @@ public final class BatchUtils {
     }
 
     /**
-     * Finds records reactively by their IDs using a query without entity mapping.
+     * Finds record headers reactively by their IDs using a query without entity mapping.
      *
      * <p>This method retrieves a {@link Flux} of {@link KeyRecord} instances based on a collection of IDs, a set name,
-     * and an optional query. It performs a batch read in chunks reactively and does not map the results to specific
-     * entity classes.</p>
+     * and an optional query. It performs a batch read in chunks reactively, reading only record headers (no bins), and
+     * does not map the results to specific entity classes. Records that do not exist or do not match the query have
+     * null records.</p>
      *
      * @param ids             A {@link Collection} of IDs of the records to find
      * @param setName         The name of the set where the records are stored
@@ -1237,9 +1576,9 @@ public final class BatchUtils {
      * @param templateContext The template context to be used
      * @return A {@link Flux} of {@link KeyRecord} instances
      */
-    static Flux<KeyRecord> findByIdsUsingQueryWithoutEntityMappingReactively(Collection<?> ids, String setName,
-                                                                             @Nullable Query query,
-                                                                             TemplateContext templateContext) {
+    static Flux<KeyRecord> findHeadersByIdsUsingQueryReactively(Collection<?> ids, String setName,
+                                                                @Nullable Query query,
+                                                                TemplateContext templateContext) {
         Assert.notNull(ids, "Ids must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
@@ -1250,7 +1589,7 @@ public final class BatchUtils {
         BatchPolicy batchPolicy = getBatchPolicyForReactive(query, templateContext);
         Key[] keys = getKeys(iterableToList(ids), setName, templateContext).toArray(Key[]::new);
 
-        return batchReadInChunksReactively(batchPolicy, keys, null, templateContext);
+        return batchReadBinsInChunksReactively(batchPolicy, keys, NO_BINS, templateContext);
     }
 
     /**
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread shared by coalescers of single document reads and writes to schedule pending batches after linger time.
+ */
+final class CoalescerExecutors {
+
+    private static final ScheduledThreadPoolExecutor LINGER_SCHEDULER = createLingerScheduler();
+
+    private CoalescerExecutors() {
+        throw new UnsupportedOperationException("Utility class CoalescerExecutors cannot be instantiated");
+    }
+
+    /**
+     * Schedules a flush of a pending batch
+     *
+     * @param flush         The task executing the batch
+     * @param lingerMillis  Delay in milliseconds
+     * @param flushExecutor Executor of the task, so that a slow batch does not delay others
+     * @return Future of the scheduled task that can be cancelled when the batch is executed earlier
+     */
+    static ScheduledFuture<?> scheduleFlush(Runnable flush, long lingerMillis, Executor flushExecutor) {
+        return LINGER_SCHEDULER.schedule(() -> execute(flush, flushExecutor), lingerMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static void execute(Runnable flush, Executor flushExecutor) {
+        try {
+            flushExecutor.execute(flush);
+        } catch (RejectedExecutionException e) {
+            // The executor is shut down, the batch is still executed so that its callers do not wait forever
+            flush.run();
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createLingerScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "aerospike-coalescer-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -23,9 +23,11 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -145,10 +147,10 @@ public class MappingUtils {
      * @param document        The document instance
      * @param fields          A collection of field names to convert
      * @param templateContext The context containing the mapping context and exception translator
-     * @return A {@link List} of strings representing the corresponding Aerospike bin names
+     * @return A {@link Set} of strings representing the corresponding Aerospike bin names, in the order of fields
      * @throws AerospikeException if a field cannot be converted to a bin name (e.g., field does not exist)
      */
-    static <T> List<String> fieldsToBinNames(T document, Collection<String> fields, TemplateContext templateContext) {
+    static <T> Set<String> fieldsToBinNames(T document, Collection<String> fields, TemplateContext templateContext) {
         AerospikePersistentEntity<?> entity =
             templateContext.mappingContext.getRequiredPersistentEntity(document.getClass());
 
@@ -165,7 +167,7 @@ public class MappingUtils {
                 throw ExceptionUtils.translateError(new AerospikeException("Cannot convert field: " + field +
                     " to bin name. field doesn't exists."), templateContext.exceptionTranslator);
             })
-            .collect(Collectors.toList());
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     /**
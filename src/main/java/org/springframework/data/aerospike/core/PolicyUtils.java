@@ -47,6 +47,28 @@ public final class PolicyUtils {
         return policy;
     }
 
+    /**
+     * Checks whether there is an active transaction bound to the current thread for the given client
+     *
+     * @param client The Aerospike client instance
+     * @return true if operations of the client are executed within a transaction
+     */
+    static boolean hasTransaction(IAerospikeClient client) {
+        return TransactionSynchronizationManager.hasResource(client);
+    }
+
+    /**
+     * Checks whether there is an active transaction in the current reactive transaction context for the given client
+     *
+     * @param reactorClient The Aerospike reactor client instance
+     * @return Mono&lt;Boolean&gt; emitting true if operations of the client are executed within a transaction
+     */
+    static Mono<Boolean> hasTransaction(IAerospikeReactorClient reactorClient) {
+        return TransactionContextManager.currentContext()
+            .map(ctx -> ctx.getResources().get(reactorClient) != null)
+            .onErrorResume(NoTransactionException.class, ignored -> Mono.just(false));
+    }
+
     /**
      * Retrieves {@link Policy} with a filter expression applied based on the provided query. If the query contains
      * criteria, a filter expression is built using the {@link QueryEngine}. Otherwise, {@code null} is returned.
@@ -121,6 +143,24 @@ public final class PolicyUtils {
         return templateContext.client.copyBatchPolicyDefault();
     }
 
+    /**
+     * Creates {@link WritePolicy} for writing bins changed since a document was read or saved. The existing record is
+     * updated only if its generation is equal to the generation of the document's snapshot.
+     *
+     * @param data               The {@link AerospikeWriteData} containing the document's expiration
+     * @param generation         The generation of the record when the document was read or saved
+     * @param writePolicyDefault The default {@link WritePolicy} to use as a base
+     * @return A {@link WritePolicy} configured to update the record with the given generation
+     */
+    static WritePolicy changedBinsPolicy(AerospikeWriteData data, int generation, WritePolicy writePolicyDefault) {
+        return WritePolicyBuilder.builder(writePolicyDefault)
+            .generationPolicy(GenerationPolicy.EXPECT_GEN_EQUAL)
+            .generation(generation)
+            .expiration(data.getExpiration())
+            .recordExistsAction(RecordExistsAction.UPDATE_ONLY)
+            .build();
+    }
+
     /**
      * Creates {@link WritePolicy} configured for optimistic locking (CAS) based on the document's version.
      * <p>
@@ -20,7 +20,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 /**
@@ -47,6 +50,9 @@ public final class PostProcessingUtils {
 
         if (query.getSort() != null && query.getSort().isSorted()) {
             Comparator<T> comparator = TemplateUtils.getComparator(query);
+            if (query.hasRows()) {
+                return selectTopK(results, comparator, query.hasOffset() ? query.getOffset() : 0, query.getRows());
+            }
             results = results.sorted(comparator);
         }
         if (query.hasOffset()) {
@@ -74,6 +80,9 @@ public final class PostProcessingUtils {
     static <T> Stream<T> applyPostProcessingOnResults(Stream<T> results, Sort sort, long offset, long limit) {
         if (sort != null && sort.isSorted()) {
             Comparator<T> comparator = TemplateUtils.getComparator(sort);
+            if (limit > 0) {
+                return selectTopK(results, comparator, Math.max(offset, 0), limit);
+            }
             results = results.sorted(comparator);
         }
 
@@ -102,6 +111,9 @@ public final class PostProcessingUtils {
 
         if (query.getSort() != null && query.getSort().isSorted()) {
             Comparator<T> comparator = TemplateUtils.getComparator(query);
+            if (query.hasRows()) {
+                return selectTopK(results, comparator, query.hasOffset() ? query.getOffset() : 0, query.getRows());
+            }
             results = results.sort(comparator);
         }
 
@@ -129,6 +141,9 @@ public final class PostProcessingUtils {
     static <T> Flux<T> applyPostProcessingOnResults(Flux<T> results, Sort sort, long offset, long limit) {
         if (sort != null && sort.isSorted()) {
             Comparator<T> comparator = TemplateUtils.getComparator(sort);
+            if (limit > 0) {
+                return selectTopK(results, comparator, Math.max(offset, 0), limit);
+            }
             results = results.sort(comparator);
         }
 
@@ -141,4 +156,127 @@ public final class PostProcessingUtils {
         }
         return results;
     }
+
+    /**
+     * Applies post-processing operations (sorting, offset, limit) to a given {@link Stream} using an explicit
+     * {@link Comparator}, e.g. to sort raw records before mapping them.
+     *
+     * @param <T>        The type of elements in the stream
+     * @param results    The input {@link Stream} of results
+     * @param comparator The {@link Comparator} to sort with
+     * @param offset     The number of elements to skip from the beginning of the sorted stream
+     * @param limit      The maximum number of elements to retain in the stream, negative for no limit
+     * @return A new {@link Stream} with post-processing operations applied
+     */
+    static <T> Stream<T> applyPostProcessingOnResults(Stream<T> results, Comparator<T> comparator, long offset,
+                                                      long limit) {
+        if (limit >= 0) {
+            return selectTopK(results, comparator, Math.max(offset, 0), limit);
+        }
+        results = results.sorted(comparator);
+        return offset > 0 ? results.skip(offset) : results;
+    }
+
+    /**
+     * Applies post-processing operations (sorting, offset, limit) to a given {@link Flux} using an explicit
+     * {@link Comparator}, e.g. to sort raw records before mapping them.
+     *
+     * @param <T>        The type of elements in the flux
+     * @param results    The input {@link Flux} of results
+     * @param comparator The {@link Comparator} to sort with
+     * @param offset     The number of elements to skip from the beginning of the sorted flux
+     * @param limit      The maximum number of elements to retain in the flux, negative for no limit
+     * @return A new {@link Flux} with post-processing operations applied
+     */
+    static <T> Flux<T> applyPostProcessingOnResults(Flux<T> results, Comparator<T> comparator, long offset,
+                                                    long limit) {
+        if (limit >= 0) {
+            return selectTopK(results, comparator, Math.max(offset, 0), limit);
+        }
+        results = results.sort(comparator);
+        return offset > 0 ? results.skip(offset) : results;
+    }
+
+    /**
+     * Sorts the given {@link Stream} keeping only the first offset + limit elements in memory, then skips the offset.
+     * The order of equal elements is the same as with a full sort.
+     *
+     * @param <T>        The type of elements in the stream
+     * @param results    The input {@link Stream} of results
+     * @param comparator The {@link Comparator} to sort with
+     * @param offset     The number of elements to skip from the beginning of the sorted results
+     * @param limit      The maximum number of elements to return
+     * @return A new {@link Stream} with at most limit sorted elements
+     */
+    static <T> Stream<T> selectTopK(Stream<T> results, Comparator<T> comparator, long offset, long limit) {
+        // Deferred until the returned stream is consumed, like a sorted stream
+        return Stream.of(results)
+            .flatMap(stream -> {
+                TopKBuffer<T> buffer = new TopKBuffer<>(comparator, offset + limit);
+                stream.forEach(buffer::add);
+                return buffer.toSortedList(offset).stream();
+            })
+            .onClose(results::close);
+    }
+
+    /**
+     * Sorts the given {@link Flux} keeping only the first offset + limit elements in memory, then skips the offset.
+     * The order of equal elements is the same as with a full sort.
+     *
+     * @param <T>        The type of elements in the flux
+     * @param results    The input {@link Flux} of results
+     * @param comparator The {@link Comparator} to sort with
+     * @param offset     The number of elements to skip from the beginning of the sorted results
+     * @param limit      The maximum number of elements to return
+     * @return A new {@link Flux} with at most limit sorted elements
+     */
+    static <T> Flux<T> selectTopK(Flux<T> results, Comparator<T> comparator, long offset, long limit) {
+        return results
+            .collect(() -> new TopKBuffer<>(comparator, offset + limit), TopKBuffer::add)
+            .flatMapIterable(buffer -> buffer.toSortedList(offset));
+    }
+
+    /**
+     * Bounded buffer retaining the smallest elements according to a comparator. The greatest retained element is at
+     * the head of the heap, so it can be replaced when a smaller element arrives.
+     */
+    private static final class TopKBuffer<T> {
+
+        private final Comparator<Ranked<T>> rankedComparator;
+        private final PriorityQueue<Ranked<T>> heap;
+        private final long capacity;
+        private long sequence;
+
+        // Sequence number keeps the order of equal elements stable
+        private record Ranked<T>(T element, long sequence) {
+
+        }
+
+        TopKBuffer(Comparator<T> comparator, long capacity) {
+            this.rankedComparator = Comparator.<Ranked<T>, T>comparing(Ranked::element, comparator)
+                .thenComparingLong(Ranked::sequence);
+            this.heap = new PriorityQueue<>(rankedComparator.reversed());
+            // Overflow of offset + limit means no effective bound
+            this.capacity = capacity < 0 ? Long.MAX_VALUE : capacity;
+        }
+
+        void add(T element) {
+            Ranked<T> ranked = new Ranked<>(element, sequence++);
+            if (heap.size() < capacity) {
+                heap.add(ranked);
+            } else if (!heap.isEmpty() && rankedComparator.compare(ranked, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+
+        List<T> toSortedList(long offset) {
+            List<Ranked<T>> sorted = new ArrayList<>(heap);
+            sorted.sort(rankedComparator);
+            if (offset >= sorted.size()) return List.of();
+            return sorted.subList((int) offset, sorted.size()).stream()
+                .map(Ranked::element)
+                .toList();
+        }
+    }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A utility class creating {@link Comparator Comparators} of query results by a property. Comparators are compiled
+ * once per class and property path and cached for reuse, descending order is applied using
+ * {@link Comparator#reversed()}.
+ * <p>
+ * Property values are read using method handles of getters or fields. Nested property paths (e.g. "address.street")
+ * are compiled into a chain of readers resolved by the declared types of the properties, paths that cannot be resolved
+ * this way (e.g. through a property declared as Object) are read by the runtime types of values. Properties of
+ * primitive types are compared without boxing. The ordering is the same
+ * as with {@link org.springframework.beans.support.PropertyComparator}: strings are compared ignoring case, null
+ * values are the last in ascending order, values that are not mutually comparable are treated as equal.
+ */
+final class PropertyComparators {
+
+    // Comparators in ascending order by class and property path
+    private static final ClassValue<Map<String, Comparator<Object>>> COMPARATORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Comparator<Object>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    // Value readers by class and property name, absent if there is no such readable property
+    private static final ClassValue<Map<String, Optional<MethodHandle>>> READERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final MethodType OBJECT_READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private PropertyComparators() {
+        throw new UnsupportedOperationException("Utility class PropertyComparators cannot be instantiated");
+    }
+
+    /**
+     * Returns a {@link Comparator} of objects by the property and direction of the given {@link Sort.Order}
+     *
+     * @param <T>   The type of the objects to compare
+     * @param order The {@link Sort.Order} specifying the property and direction
+     * @return A {@link Comparator} for the specified property
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Comparator<T> getComparator(Sort.Order order) {
+        String propertyPath = order.getProperty();
+        Comparator<Object> comparator = (o1, o2) -> {
+            Class<?> type = o1.getClass();
+            if (type == o2.getClass()) {
+                return COMPARATORS.get(type).computeIfAbsent(propertyPath, path -> compile(type, path))
+                    .compare(o1, o2);
+            }
+            return compareValues(getValue(o1, propertyPath), getValue(o2, propertyPath));
+        };
+        return (Comparator<T>) (order.isAscending() ? comparator : comparator.reversed());
+    }
+
+    private static Comparator<Object> compile(Class<?> type, String propertyPath) {
+        if (!propertyPath.contains(".")) {
+            MethodHandle reader = getReader(type, propertyPath);
+            if (reader != null && reader.type().returnType().isPrimitive()) {
+                return primitiveComparator(reader);
+            }
+            if (reader != null) {
+                MethodHandle objectReader = reader.asType(OBJECT_READER_TYPE);
+                return (o1, o2) -> compareValues(invoke(objectReader, o1), invoke(objectReader, o2));
+            }
+        } else {
+            MethodHandle[] readers = getReadersChain(type, propertyPath);
+            if (readers != null) {
+                return (o1, o2) -> compareValues(invoke(readers, o1), invoke(readers, o2));
+            }
+        }
+        return (o1, o2) -> compareValues(getValue(o1, propertyPath), getValue(o2, propertyPath));
+    }
+
+    /**
+     * Returns readers of each property of a nested path resolved by declared property types, null if a property of
+     * the path cannot be resolved this way
+     */
+    @Nullable
+    private static MethodHandle[] getReadersChain(Class<?> type, String propertyPath) {
+        String[] propertyNames = propertyPath.split("\\.", -1);
+        MethodHandle[] readers = new MethodHandle[propertyNames.length];
+        Class<?> currentType = type;
+        for (int i = 0; i < propertyNames.length; i++) {
+            MethodHandle reader = getReader(currentType, propertyNames[i]);
+            if (reader == null) return null;
+            currentType = reader.type().returnType();
+            readers[i] = reader.asType(OBJECT_READER_TYPE);
+        }
+        return readers;
+    }
+
+    private static Comparator<Object> primitiveComparator(MethodHandle reader) {
+        Class<?> valueType = reader.type().returnType();
+        if (valueType == long.class) {
+            MethodHandle longReader = reader.asType(MethodType.methodType(long.class, Object.class));
+            return (o1, o2) -> {
+                try {
+                    return Long.compare((long) longReader.invokeExact(o1), (long) longReader.invokeExact(o2));
+                } catch (Throwable e) {
+                    throw rethrow(e);
+                }
+            };
+        }
+        if (valueType == double.class || valueType == float.class) {
+            MethodHandle doubleReader = reader.asType(MethodType.methodType(double.class, Object.class));
+            return (o1, o2) -> {
+                try {
+                    return Double.compare((double) doubleReader.invokeExact(o1),
+                        (double) doubleReader.invokeExact(o2));
+                } catch (Throwable e) {
+                    throw rethrow(e);
+                }
+            };
+        }
+        if (valueType == boolean.class) {
+            MethodHandle booleanReader = reader.asType(MethodType.methodType(boolean.class, Object.class));
+            return (o1, o2) -> {
+                try {
+                    return Boolean.compare((boolean) booleanReader.invokeExact(o1),
+                        (boolean) booleanReader.invokeExact(o2));
+                } catch (Throwable e) {
+                    throw rethrow(e);
+                }
+            };
+        }
+        // int, short, byte and char
+        MethodHandle intReader = reader.asType(MethodType.methodType(int.class, Object.class));
+        return (o1, o2) -> {
+            try {
+                return Integer.compare((int) intReader.invokeExact(o1), (int) intReader.invokeExact(o2));
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareValues(@Nullable Object v1, @Nullable Object v2) {
+        try {
+            if (v1 instanceof String s1 && v2 instanceof String s2) {
+                return String.CASE_INSENSITIVE_ORDER.compare(s1, s2);
+            }
+            if (v1 != null) {
+                return v2 != null ? ((Comparable<Object>) v1).compareTo(v2) : -1;
+            }
+            return v2 != null ? 1 : 0;
+        } catch (RuntimeException e) {
+            // Values are not comparable
+            return 0;
+        }
+    }
+
+    /**
+     * Reads the value of a property path, null if the path contains a null value or a property that cannot be read
+     */
+    @Nullable
+    private static Object getValue(Object object, String propertyPath) {
+        Object value = object;
+        int start = 0;
+        while (value != null && start <= propertyPath.length()) {
+            int end = propertyPath.indexOf('.', start);
+            if (end < 0) end = propertyPath.length();
+            MethodHandle reader = getReader(value.getClass(), propertyPath.substring(start, end));
+            if (reader == null) return null;
+            value = invoke(reader.asType(OBJECT_READER_TYPE), value);
+            start = end + 1;
+        }
+        return value;
+    }
+
+    @Nullable
+    private static MethodHandle getReader(Class<?> type, String propertyName) {
+        return READERS.get(type).computeIfAbsent(propertyName, name -> Optional.ofNullable(createReader(type, name)))
+            .orElse(null);
+    }
+
+    @Nullable
+    private static MethodHandle createReader(Class<?> type, String propertyName) {
+        try {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, propertyName);
+            Method readMethod = descriptor == null ? null : descriptor.getReadMethod();
+            if (readMethod != null) {
+                ReflectionUtils.makeAccessible(readMethod);
+                return MethodHandles.lookup().unreflect(readMethod);
+            }
+            Field field = ReflectionUtils.findField(type, propertyName);
+            if (field != null) {
+                ReflectionUtils.makeAccessible(field);
+                return MethodHandles.lookup().unreflectGetter(field);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            // Property cannot be read, its value is treated as null
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Object invoke(MethodHandle objectReader, Object object) {
+        try {
+            return (Object) objectReader.invokeExact(object);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Reads the value of a nested property using a chain of readers, null if the path contains a null value
+     */
+    @Nullable
+    private static Object invoke(MethodHandle[] objectReaders, Object object) {
+        Object value = object;
+        for (int i = 0; i < objectReaders.length && value != null; i++) {
+            value = invoke(objectReaders[i], value);
+        }
+        return value;
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) return runtimeException;
+        if (e instanceof Error error) throw error;
+        return new IllegalStateException("Cannot read property value", e);
+    }
+}
@@ -16,19 +16,24 @@
 package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Operation;
 import com.aerospike.client.cdt.CTX;
 import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.dsl.api.DSLParser;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.model.CountMode;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
+import org.springframework.data.aerospike.query.PartitionsCursor;
+import org.springframework.data.aerospike.query.QueryPlan;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
@@ -38,6 +43,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -389,6 +395,11 @@ public interface ReactiveAerospikeOperations {
 
     /**
      * Delete records using a query using the set associated with the given entityClass.
+     * <p>
+     * Deleting is done by server-side background query when the entity has no version property and the query is not
+     * sorted, limited or distinct, so the records are not transferred to the client. In this case all matching records
+     * are deleted, the amount is not limited by {@link AerospikeDataSettings#getQueryMaxRecords()}. Otherwise matching
+     * records are read (up to query max records) and then deleted using batch operations.
      *
      * @param query       The query to check if any matching records exist. Must not be {@literal null}.
      * @param entityClass The class to extract set name from. Must not be {@literal null}.
@@ -404,6 +415,67 @@ public interface ReactiveAerospikeOperations {
      */
     <T> Mono<Void> delete(Query query, Class<T> entityClass, String setName);
 
+    /**
+     * Reactively delete records matching a query in the set associated with the given entityClass using server-side
+     * background query. The records are not transferred to the client and generation (version) is not checked.
+     * <p>
+     * The returned Mono emits as soon as the background query is started, the task can be used to wait for completion
+     * or to check the status.
+     *
+     * @param query            The query to filter records. Can be {@literal null} to delete all records of the set.
+     *                         Must not be sorted, limited, distinct or contain id qualifier.
+     * @param entityClass      The class to extract set name from. Must not be {@literal null}.
+     * @param recordsPerSecond Limit of records per second deleted on each server node, 0 means no limit.
+     * @return A Mono of {@link ExecuteTask} of the background query.
+     */
+    <T> Mono<ExecuteTask> deleteUsingBackgroundQuery(@Nullable Query query, Class<T> entityClass,
+                                                     int recordsPerSecond);
+
+    /**
+     * Reactively delete records matching a query within the given set using server-side background query. The records
+     * are not transferred to the client and generation (version) is not checked.
+     *
+     * @param query            The query to filter records. Can be {@literal null} to delete all records of the set.
+     *                         Must not be sorted, limited, distinct or contain id qualifier.
+     * @param setName          Set name to use. Must not be {@literal null}.
+     * @param recordsPerSecond Limit of records per second deleted on each server node, 0 means no limit.
+     * @return A Mono of {@link ExecuteTask} of the background query.
+     */
+    Mono<ExecuteTask> deleteUsingBackgroundQuery(@Nullable Query query, String setName, int recordsPerSecond);
+
+    /**
+     * Reactively apply the given operations to every record matching a query in the set associated with the given
+     * entityClass using server-side background query (e.g. set a bin, increment a counter or clear a field). The
+     * records are not transferred to the client and are not converted, generation (version) is not checked.
+     * <p>
+     * The returned Mono emits as soon as the background query is started, the task can be used to wait for completion
+     * or to check the status.
+     *
+     * @param query            The query to filter records. Can be {@literal null} to update all records of the set.
+     *                         Must not be sorted, limited, distinct or contain id qualifier.
+     * @param entityClass      The class to extract set name from. Must not be {@literal null}.
+     * @param recordsPerSecond Limit of records per second updated on each server node, 0 means no limit.
+     * @param operations       Write operations to apply to each matching record. Must not be empty.
+     * @return A Mono of {@link ExecuteTask} of the background query.
+     */
+    <T> Mono<ExecuteTask> updateByQuery(@Nullable Query query, Class<T> entityClass, int recordsPerSecond,
+                                        Operation... operations);
+
+    /**
+     * Reactively apply the given operations to every record matching a query within the given set using server-side
+     * background query. The records are not transferred to the client and are not converted, generation (version) is
+     * not checked.
+     *
+     * @param query            The query to filter records. Can be {@literal null} to update all records of the set.
+     *                         Must not be sorted, limited, distinct or contain id qualifier.
+     * @param setName          Set name to use. Must not be {@literal null}.
+     * @param recordsPerSecond Limit of records per second updated on each server node, 0 means no limit.
+     * @param operations       Write operations to apply to each matching record. Must not be empty.
+     * @return A Mono of {@link ExecuteTask} of the background query.
+     */
+    Mono<ExecuteTask> updateByQuery(@Nullable Query query, String setName, int recordsPerSecond,
+                                    Operation... operations);
+
     /**
      * Count existing records by ids and a query using the given entityClass.
      * <p>
@@ -1014,6 +1086,22 @@ public interface ReactiveAerospikeOperations {
      */
     <T, S> Flux<S> findUsingQueryWithoutPostProcessing(Class<T> entityClass, Class<S> targetClass, Query query);
 
+    /**
+     * Reactively find one page of records in the given entityClass set using a query, starting from the position of
+     * the given cursor, and map them to the given target class type. The cursor is updated when the returned Mono
+     * completes, so it can be passed to the next call to continue with the next page, or encoded using
+     * {@link PartitionsCursor#toToken()}. Sorting, offset and distinct are not supported.
+     *
+     * @param query       The {@link Query} to filter results. Can be {@literal null}.
+     * @param entityClass The class to extract set name from. Must not be {@literal null}.
+     * @param targetClass The class to map the records to. Must not be {@literal null}.
+     * @param cursor      The {@link PartitionsCursor} to start from. Must not be {@literal null}.
+     * @param pageSize    The maximum amount of records to return. Must be positive.
+     * @return A Mono of the List of matching records mapped to targetClass type.
+     */
+    <T, S> Mono<List<S>> findUsingCursor(@Nullable Query query, Class<T> entityClass, Class<S> targetClass,
+                                         PartitionsCursor cursor, int pageSize);
+
     /**
      * Reactively check by id if a record exists within the set associated with the given entityClass.
      *
@@ -1100,7 +1188,8 @@ public interface ReactiveAerospikeOperations {
     <T> Mono<Long> count(Query query, Class<T> entityClass);
 
     /**
-     * Reactively return the amount of records in query results within the given set.
+     * Reactively return the amount of records in query results within the given set. Records are counted exactly, see
+     * {@link CountMode#EXACT}.
      *
      * @param query   The query that provides the result set for count.
      * @param setName The name of the set to count. Must not be {@literal null}.
@@ -1108,6 +1197,38 @@ public interface ReactiveAerospikeOperations {
      */
     Mono<Long> count(Query query, String setName);
 
+    /**
+     * Reactively return the amount of records in query results using the given count mode. Set name will be
+     * determined by the given entityClass.
+     *
+     * @param query       The query that provides the result set for count.
+     * @param entityClass entityClass to extract set name from. Must not be {@literal null}.
+     * @param mode        Whether to count records exactly or to estimate their amount. Must not be {@literal null}.
+     * @return A Mono of the amount of records matching the given query and entity class.
+     */
+    <T> Mono<Long> count(Query query, Class<T> entityClass, CountMode mode);
+
+    /**
+     * Reactively return the amount of records in query results within the given set using the given count mode.
+     *
+     * @param query   The query that provides the result set for count.
+     * @param setName The name of the set to count. Must not be {@literal null}.
+     * @param mode    Whether to count records exactly or to estimate their amount. Must not be {@literal null}.
+     * @return A Mono of the amount of records matching the given query and set name.
+     */
+    Mono<Long> count(Query query, String setName, CountMode mode);
+
+    /**
+     * Reactively describe how the given query is going to be executed without running it: which secondary index is
+     * used, which qualifiers are evaluated as a filter expression, whether the whole set is scanned and how many
+     * records are estimated to be read. Set name will be determined by the given entityClass.
+     *
+     * @param query       The query to describe, can be {@literal null}.
+     * @param entityClass The class to extract set name from. Must not be {@literal null}.
+     * @return A Mono of {@link QueryPlan} of the query.
+     */
+    <T> Mono<QueryPlan> explain(@Nullable Query query, Class<T> entityClass);
+
     /**
      * Count existing records by ids and a query using the given entityClass.
      * <p>
@@ -30,16 +30,20 @@ import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.dsl.api.DSLParser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.core.model.CountMode;
 import org.springframework.data.aerospike.core.model.GroupedEntities;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
 import org.springframework.data.aerospike.index.IndexesCacheRefresher;
 import org.springframework.data.aerospike.index.IndexesCacheRetriever;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
+import org.springframework.data.aerospike.query.PartitionsCursor;
+import org.springframework.data.aerospike.query.QueryPlan;
 import org.springframework.data.aerospike.query.ReactorQueryEngine;
 import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
 import org.springframework.data.aerospike.query.cache.ReactorIndexRefresher;
@@ -99,6 +103,8 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     private final TemplateContext templateContext;
     private final IndexesCacheHolder indexCacheHolder;
     private final DSLParser dslParser;
+    @Nullable
+    private final WriteCoalescer writeCoalescer;
 
     public ReactiveAerospikeTemplate(IAerospikeReactorClient reactorClient,
                                      String namespace,
@@ -123,10 +129,15 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
             .exceptionTranslator(exceptionTranslator)
             .writePolicyDefault(writePolicyDefault)
             .batchWritePolicyDefault(batchWritePolicyDefault)
+            .batchSizer(adaptiveBatchSizer)
             .reactorQueryEngine(queryEngine)
             .build();
         this.indexCacheHolder = indexCacheHolder;
         this.dslParser = dslParser;
+        // Batches are written without blocking, so they are executed by the linger thread
+        this.writeCoalescer = createWriteCoalescer(batchRecords -> reactorClient
+            .operate(reactorClient.getAerospikeClient().copyBatchPolicyDefault(), batchRecords)
+            .toFuture(), templateContext, Runnable::run);
     }
 
     @Override
@@ -153,8 +164,20 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     @Override
     public <T> Mono<T> save(T document, String setName) {
         Assert.notNull(document, "Document for saving must not be null!");
+        if (writeCoalescer != null) {
+            return writeCoalesced(document, setName, SAVE_OPERATION, () -> doSave(document, setName));
+        }
+        return doSave(document, setName);
+    }
+
+    private <T> Mono<T> doSave(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName, templateContext);
         AerospikePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(document.getClass());
+        return saveChangedBinsReactively(document, data, entity.hasVersionProperty(),
+            () -> doSaveFully(document, data, entity), templateContext);
+    }
+
+    private <T> Mono<T> doSaveFully(T document, AerospikeWriteData data, AerospikePersistentEntity<?> entity) {
         if (entity.hasVersionProperty()) {
             WritePolicy writePolicy = PolicyUtils.expectGenerationCasAwarePolicy(data,
                 templateContext.writePolicyDefault);
@@ -176,6 +199,20 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         }
     }
 
+    /**
+     * Writes a document as a part of a coalesced batch write, unless there is an active transaction
+     */
+    private <T> Mono<T> writeCoalesced(T document, String setName, OperationType operationType,
+                                       Supplier<Mono<T>> singleWrite) {
+        return PolicyUtils.hasTransaction(reactorClient)
+            .flatMap(hasTransaction -> {
+                if (hasTransaction) return singleWrite.get();
+                // Batches are written using the non-blocking operate of the reactor client
+                return Mono.fromFuture(() -> writeCoalescer.submit(document, setName, operationType))
+                    .thenReturn(document);
+            });
+    }
+
     @Override
     public <T> Flux<T> saveAll(Iterable<T> documents) {
         if (ValidationUtils.isEmpty(documents)) {
@@ -205,6 +242,13 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(document, "Document must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        if (writeCoalescer != null) {
+            return writeCoalesced(document, setName, INSERT_OPERATION, () -> doInsert(document, setName));
+        }
+        return doInsert(document, setName);
+    }
+
+    private <T> Mono<T> doInsert(T document, String setName) {
         AerospikeWriteData data = writeData(document, setName, templateContext);
         WritePolicy writePolicy = PolicyUtils.ignoreGenerationPolicy(data, RecordExistsAction.CREATE_ONLY,
             templateContext.writePolicyDefault);
@@ -385,6 +429,21 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         Assert.notNull(entityClass, "Entity class must not be null!");
         Assert.notNull(setName, "Set name must not be null!");
 
+        if (isBackgroundDeleteApplicable(query, entityClass, templateContext)) {
+            // Background queries cannot be a part of a transaction
+            return PolicyUtils.hasTransaction(reactorClient)
+                .flatMap(hasTransaction -> {
+                    if (hasTransaction) {
+                        return deleteUsingFindResults(query, entityClass, setName);
+                    }
+                    return deleteUsingBackgroundQuery(query, setName, 0)
+                        .flatMap(task -> waitForBackgroundQueryReactively(task, templateContext));
+                });
+        }
+        return deleteUsingFindResults(query, entityClass, setName);
+    }
+
+    private <T> Mono<Void> deleteUsingFindResults(Query query, Class<T> entityClass, String setName) {
         Mono<List<T>> findQueryResults = find(query, entityClass, setName)
             .filter(Objects::nonNull)
             .collect(Collectors.toUnmodifiableList());
@@ -406,6 +465,43 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         return delete(query, entityClass, getSetName(entityClass));
     }
 
+    @Override
+    public <T> Mono<ExecuteTask> deleteUsingBackgroundQuery(@Nullable Query query, Class<T> entityClass,
+                                                            int recordsPerSecond) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        return deleteUsingBackgroundQuery(query, getSetName(entityClass), recordsPerSecond);
+    }
+
+    @Override
+    public Mono<ExecuteTask> deleteUsingBackgroundQuery(@Nullable Query query, String setName,
+                                                        int recordsPerSecond) {
+        Assert.notNull(setName, "Set name must not be null!");
+
+        if (query != null && queryHasServerVersionSupport(query)) {
+            query.getCriteriaObject().setServerVersionSupport(getServerVersionSupport());
+        }
+        return executeUsingBackgroundQueryReactively(setName, query, recordsPerSecond, templateContext,
+            Operation.delete());
+    }
+
+    @Override
+    public <T> Mono<ExecuteTask> updateByQuery(@Nullable Query query, Class<T> entityClass, int recordsPerSecond,
+                                               Operation... operations) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        return updateByQuery(query, getSetName(entityClass), recordsPerSecond, operations);
+    }
+
+    @Override
+    public Mono<ExecuteTask> updateByQuery(@Nullable Query query, String setName, int recordsPerSecond,
+                                           Operation... operations) {
+        Assert.notNull(setName, "Set name must not be null!");
+
+        if (query != null && queryHasServerVersionSupport(query)) {
+            query.getCriteriaObject().setServerVersionSupport(getServerVersionSupport());
+        }
+        return executeUsingBackgroundQueryReactively(setName, query, recordsPerSecond, templateContext, operations);
+    }
+
     @Override
     public <T> Mono<Void> deleteByIdsUsingQuery(Collection<?> ids, Class<T> entityClass, @Nullable Query query) {
         return deleteByIdsUsingQuery(ids, entityClass, getSetName(entityClass), query);
@@ -909,6 +1005,19 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
         return findWithPostProcessingReactively(setName, targetClass, sort, offset, limit, templateContext);
     }
 
+    @Override
+    public <T, S> Mono<List<S>> findUsingCursor(@Nullable Query query, Class<T> entityClass, Class<S> targetClass,
+                                                PartitionsCursor cursor, int pageSize) {
+        Assert.notNull(entityClass, "Entity class must not be null!");
+        Assert.notNull(targetClass, "Target class must not be null!");
+
+        if (query != null && queryHasServerVersionSupport(query)) {
+            query.getCriteriaObject().setServerVersionSupport(getServerVersionSupport());
+        }
+        return findPageUsingCursorReactively(getSetName(entityClass), targetClass, query, cursor, pageSize,
+            templateContext);
+    }
+
     @Override
     public <T> Flux<T> findInRange(long offset, long limit, Sort sort, Class<T> entityClass) {
         Assert.notNull(entityClass, "Class must not be null!");
@@ -964,7 +1073,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
     public Mono<Boolean> exists(Query query, String setName) {
         Assert.notNull(query, "Query passed in to exist can't be null");
         Assert.notNull(setName, "Set name must not be null!");
-        return findExistingKeyRecordsUsingQueryReactively(setName, query, templateContext).hasElements();
+        return existsUsingQueryReactively(setName, query, templateContext);
     }
 
     @Override
@@ -974,7 +1083,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
     @Override
     public Mono<Boolean> existsByIdsUsingQuery(Collection<?> ids, String setName, @Nullable Query query) {
-        return BatchUtils.findByIdsUsingQueryWithoutEntityMappingReactively(ids, setName, query, templateContext)
+        return BatchUtils.findHeadersByIdsUsingQueryReactively(ids, setName, query, templateContext)
             .filter(keyRecord -> keyRecord != null && keyRecord.record != null)
             .hasElements();
     }
@@ -1004,7 +1113,7 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
     @Override
     public Mono<Long> countByIdsUsingQuery(Collection<?> ids, String setName, @Nullable Query query) {
-        return BatchUtils.findByIdsUsingQueryWithoutEntityMappingReactively(ids, setName, query, templateContext)
+        return BatchUtils.findHeadersByIdsUsingQueryReactively(ids, setName, query, templateContext)
             .filter(keyRecord -> keyRecord != null && keyRecord.record != null)
             .count();
     }
@@ -1018,9 +1127,34 @@ public class ReactiveAerospikeTemplate extends BaseAerospikeTemplate implements
 
     @Override
     public Mono<Long> count(Query query, String setName) {
+        return count(query, setName, CountMode.EXACT);
+    }
+
+    @Override
+    public <T> Mono<Long> count(Query query, Class<T> entityClass, CountMode mode) {
+        Assert.notNull(entityClass, "Class must not be null!");
+
+        return count(query, getSetName(entityClass), mode);
+    }
+
+    @Override
+    public Mono<Long> count(Query query, String setName, CountMode mode) {
         Assert.notNull(setName, "Set for count must not be null!");
+        Assert.notNull(mode, "Count mode must not be null!");
 
-        return findExistingKeyRecordsUsingQueryReactively(setName, query, templateContext).count();
+        return countUsingQueryReactively(setName, query, mode, templateContext);
+    }
+
+    @Override
+    public <T> Mono<QueryPlan> explain(@Nullable Query query, Class<T> entityClass) {
+        Assert.notNull(entityClass, "Class must not be null!");
+        if (query != null && queryHasServerVersionSupport(query)) {
+            query.getCriteriaObject().setServerVersionSupport(getServerVersionSupport());
+        }
+
+        return Mono.fromCallable(() -> templateContext.reactorQueryEngine.explain(getNamespace(),
+                getSetName(entityClass), query))
+            .onErrorMap(e -> ExceptionUtils.translateError(e, templateContext.exceptionTranslator));
     }
 
     @Override
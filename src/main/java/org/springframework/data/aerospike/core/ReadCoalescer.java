@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Coalesces concurrent reads of single records by id into batch reads.
+ * <p>
+ * Reads of the same entity class with the same bin names are collected into a pending batch, which is read using
+ * {@link BatchUtils} when it reaches the maximum size (by the thread adding the last key) or when the linger time
+ * passes since the first key was added. Results are returned to each caller. A key that is already pending shares the
+ * result of that read instead of being read again. Once a batch is being read, later reads of its keys are not served
+ * with its results, so a read issued after a write of the record does not get the record as it was before the write.
+ */
+final class ReadCoalescer {
+
+    private final TemplateContext templateContext;
+    private final int maxBatchSize;
+    private final long lingerMillis;
+    private final Executor flushExecutor;
+    private final Map<BatchKey, PendingBatch> pendingBatches = new HashMap<>();
+    // Results of pending reads, removed when their batch is being read
+    private final Map<ReadKey, CompletableFuture<Record>> reads = new HashMap<>();
+
+    private record BatchKey(Class<?> entityClass, @Nullable List<String> binNames) {
+
+        @Nullable
+        String[] getBinNamesArray() {
+            return binNames == null ? null : binNames.toArray(String[]::new);
+        }
+    }
+
+    private record ReadKey(BatchKey batchKey, Key key) {
+
+    }
+
+    private static final class PendingBatch {
+
+        private final List<Key> keys = new ArrayList<>();
+        private final List<CompletableFuture<Record>> futures = new ArrayList<>();
+        private ScheduledFuture<?> lingerTask;
+    }
+
+    ReadCoalescer(TemplateContext templateContext, int maxBatchSize, long lingerMillis, Executor flushExecutor) {
+        this.templateContext = templateContext;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.lingerMillis = Math.max(lingerMillis, 0);
+        this.flushExecutor = flushExecutor;
+    }
+
+    /**
+     * Read a record as a part of a batch and wait for the result
+     *
+     * @param key         The key of the record
+     * @param entityClass The entity class
+     * @param binNames    Bin names to read, null to read all bins
+     * @return The record or null if it does not exist
+     * @throws org.springframework.dao.DataAccessException the same as for a batch read
+     */
+    @Nullable
+    Record read(Key key, Class<?> entityClass, @Nullable String[] binNames) {
+        try {
+            return submit(key, entityClass, binNames).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    /**
+     * Add a key to a pending batch, or join a pending read of the same key
+     *
+     * @param key         The key of the record
+     * @param entityClass The entity class
+     * @param binNames    Bin names to read, null to read all bins
+     * @return Future completed with the record (null if it does not exist) when the batch is read, or completed
+     * exceptionally with the translated error
+     */
+    CompletableFuture<Record> submit(Key key, Class<?> entityClass, @Nullable String[] binNames) {
+        BatchKey batchKey = new BatchKey(entityClass, binNames == null ? null : Arrays.asList(binNames));
+        ReadKey readKey = new ReadKey(batchKey, key);
+        CompletableFuture<Record> future;
+        PendingBatch full;
+        synchronized (this) {
+            future = reads.get(readKey);
+            if (future != null) return future;
+            future = new CompletableFuture<>();
+            reads.put(readKey, future);
+            PendingBatch batch = pendingBatches.get(batchKey);
+            if (batch == null) {
+                batch = createPendingBatch(batchKey);
+            }
+            batch.keys.add(key);
+            batch.futures.add(future);
+            full = batch.keys.size() >= maxBatchSize ? remove(batchKey, batch) : null;
+        }
+        if (full != null) flush(batchKey, full);
+        return future;
+    }
+
+    private PendingBatch createPendingBatch(BatchKey batchKey) {
+        PendingBatch batch = new PendingBatch();
+        pendingBatches.put(batchKey, batch);
+        batch.lingerTask = CoalescerExecutors.scheduleFlush(() -> flushAfterLinger(batchKey, batch), lingerMillis,
+            flushExecutor);
+        return batch;
+    }
+
+    private void flushAfterLinger(BatchKey batchKey, PendingBatch batch) {
+        synchronized (this) {
+            // The batch could have been read already because of its size
+            if (pendingBatches.get(batchKey) != batch) return;
+            remove(batchKey, batch);
+        }
+        flush(batchKey, batch);
+    }
+
+    private PendingBatch remove(BatchKey batchKey, PendingBatch batch) {
+        pendingBatches.remove(batchKey);
+        batch.lingerTask.cancel(false);
+        // Reads started after this point are not served with results of this batch
+        for (int i = 0; i < batch.keys.size(); i++) {
+            reads.remove(new ReadKey(batchKey, batch.keys.get(i)), batch.futures.get(i));
+        }
+        return batch;
+    }
+
+    private void flush(BatchKey batchKey, PendingBatch batch) {
+        Record[] records = null;
+        Throwable error = null;
+        try {
+            // Errors are translated by BatchUtils
+            records = BatchUtils.findByKeysUsingQuery(batch.keys, batchKey.getBinNamesArray(), null, templateContext);
+        } catch (RuntimeException | Error e) {
+            error = e;
+        }
+        for (int i = 0; i < batch.futures.size(); i++) {
+            if (error != null) {
+                batch.futures.get(i).completeExceptionally(error);
+            } else {
+                batch.futures.get(i).complete(records[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.query.KeyRecord;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.mapping.BasicAerospikePersistentEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A utility class creating {@link Comparator Comparators} of raw {@link KeyRecord}s by bin values, so that query
+ * results can be sorted and paginated before they are mapped to entities.
+ * <p>
+ * Only properties stored as plain bins without conversion are supported (strings and numbers that are not the id,
+ * version or expiration property and have no custom converters). The ordering is the same as the one of
+ * {@link PropertyComparators} applied to the mapped entities.
+ */
+final class RecordComparators {
+
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(String.class, Long.class, Integer.class, Short.class,
+        Byte.class, Double.class, Float.class, long.class, int.class, short.class, byte.class, double.class,
+        float.class);
+
+    private RecordComparators() {
+        throw new UnsupportedOperationException("Utility class RecordComparators cannot be instantiated");
+    }
+
+    /**
+     * Returns a {@link Comparator} of {@link KeyRecord}s by the bins corresponding to the given sort properties of the
+     * target class
+     *
+     * @param sort           The {@link Sort} to apply
+     * @param targetClass    The class the records are going to be mapped to
+     * @param mappingContext The mapping context to resolve bin names
+     * @param converter      The converter to check custom conversions
+     * @return A {@link Comparator} of records, or {@code null} if any of the sort properties cannot be compared using
+     * raw bin values
+     */
+    @Nullable
+    static Comparator<KeyRecord> getComparator(@Nullable Sort sort, Class<?> targetClass,
+                                               MappingContext<BasicAerospikePersistentEntity<?>,
+                                                   AerospikePersistentProperty> mappingContext,
+                                               MappingAerospikeConverter converter) {
+        if (sort == null || sort.isUnsorted()) return null;
+        BasicAerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(targetClass);
+        if (entity == null) return null;
+
+        Comparator<KeyRecord> result = null;
+        for (Sort.Order order : sort) {
+            AerospikePersistentProperty property = getProperty(entity, order.getProperty(), converter);
+            if (property == null) return null;
+            String binName = property.getFieldName();
+            // A missing bin is read as zero into a primitive property
+            Object defaultValue = property.getType().isPrimitive() ? 0L : null;
+            Comparator<KeyRecord> comparator = (r1, r2) -> compareValues(getBinValue(r1, binName, defaultValue),
+                getBinValue(r2, binName, defaultValue));
+            if (order.isDescending()) comparator = comparator.reversed();
+            result = result == null ? comparator : result.thenComparing(comparator);
+        }
+        return result;
+    }
+
+    /**
+     * Returns names of the bins read by the {@link Comparator} created for the same arguments
+     *
+     * @param sort           The {@link Sort} to apply
+     * @param targetClass    The class the records are going to be mapped to
+     * @param mappingContext The mapping context to resolve bin names
+     * @param converter      The converter to check custom conversions
+     * @return Bin names in the order of sort properties, or {@code null} if any of the sort properties cannot be
+     * compared using raw bin values
+     */
+    @Nullable
+    static String[] getSortBinNames(@Nullable Sort sort, Class<?> targetClass,
+                                    MappingContext<BasicAerospikePersistentEntity<?>,
+                                        AerospikePersistentProperty> mappingContext,
+                                    MappingAerospikeConverter converter) {
+        if (sort == null || sort.isUnsorted()) return null;
+        BasicAerospikePersistentEntity<?> entity = mappingContext.getPersistentEntity(targetClass);
+        if (entity == null) return null;
+
+        List<String> binNames = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            AerospikePersistentProperty property = getProperty(entity, order.getProperty(), converter);
+            if (property == null) return null;
+            binNames.add(property.getFieldName());
+        }
+        return binNames.toArray(String[]::new);
+    }
+
+    @Nullable
+    private static AerospikePersistentProperty getProperty(BasicAerospikePersistentEntity<?> entity,
+                                                           String propertyPath, MappingAerospikeConverter converter) {
+        if (propertyPath.contains(".")) return null;
+        AerospikePersistentProperty property = entity.getPersistentProperty(propertyPath);
+        if (property == null || property.isIdProperty() || property.isVersionProperty()
+            || property.isExpirationProperty() || !SUPPORTED_TYPES.contains(property.getType())
+            || converter.getCustomConversions().hasCustomWriteTarget(property.getType())) {
+            return null;
+        }
+        return property;
+    }
+
+    @Nullable
+    private static Object getBinValue(KeyRecord keyRecord, String binName, @Nullable Object defaultValue) {
+        Object value = keyRecord.record == null ? null : keyRecord.record.getValue(binName);
+        return value == null ? defaultValue : value;
+    }
+
+    private static int compareValues(@Nullable Object v1, @Nullable Object v2) {
+        if (v1 == null) return v2 == null ? 0 : 1;
+        if (v2 == null) return -1;
+        if (v1 instanceof String s1 && v2 instanceof String s2) {
+            return String.CASE_INSENSITIVE_ORDER.compare(s1, s2);
+        }
+        if (v1 instanceof Long l1 && v2 instanceof Long l2) {
+            return Long.compare(l1, l2);
+        }
+        if (v1 instanceof Number n1 && v2 instanceof Number n2) {
+            return Double.compare(n1.doubleValue(), n2.doubleValue());
+        }
+        // Values are not comparable
+        return 0;
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.query.KeyRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External merge sorter of {@link KeyRecord}s for sorted queries without a limit.
+ * <p>
+ * Records are buffered in memory up to the given run size. When the buffer is full, it is sorted and written to a
+ * temporary file (a sorted run) containing only record digests, user keys and the values of sort bins. The runs are
+ * k-way merged while iterating. If there are more runs than can be merged at once, groups of consecutive runs are
+ * merged into larger runs first, so that the amount of open files is limited. If at least one run has been spilled,
+ * the iterator returns records containing only sort bins, so the full records have to be read again by their keys.
+ * Otherwise sorted buffered records are returned as is.
+ * <p>
+ * The order of equal records is the same as the order in which they were added. Temporary files are deleted on
+ * {@link #close()}.
+ */
+@Slf4j
+final class SpillingRecordSorter implements AutoCloseable {
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte LONG_VALUE = 1;
+    private static final byte DOUBLE_VALUE = 2;
+    private static final byte STRING_VALUE = 3;
+    private static final byte BYTES_VALUE = 4;
+    private static final int DIGEST_SIZE = 20;
+    // Maximum amount of sorted sources merged at once, each spilled run is an open file while merging
+    private static final int MAX_MERGE_FAN_IN = 64;
+
+    private final Comparator<KeyRecord> comparator;
+    private final String[] sortBinNames;
+    private final int runSize;
+    private final int maxMergeFanIn;
+    private final List<KeyRecord> buffer = new ArrayList<>();
+    private final List<Run> runs = new ArrayList<>();
+    private final List<RunReader> readers = new ArrayList<>();
+    private String namespace;
+    private String setName;
+
+    private record Run(Path path, int size) {
+
+    }
+
+    /**
+     * @param comparator   Comparator of records, reading only the given sort bins
+     * @param sortBinNames Names of the bins the comparator reads
+     * @param runSize      Maximum amount of records to keep in memory before spilling them to a temporary file
+     */
+    SpillingRecordSorter(Comparator<KeyRecord> comparator, String[] sortBinNames, int runSize) {
+        this(comparator, sortBinNames, runSize, MAX_MERGE_FAN_IN);
+    }
+
+    SpillingRecordSorter(Comparator<KeyRecord> comparator, String[] sortBinNames, int runSize, int maxMergeFanIn) {
+        this.comparator = comparator;
+        this.sortBinNames = sortBinNames;
+        this.runSize = Math.max(runSize, 1);
+        this.maxMergeFanIn = Math.max(maxMergeFanIn, 2);
+    }
+
+    void add(KeyRecord keyRecord) {
+        if (namespace == null) {
+            namespace = keyRecord.key.namespace;
+            setName = keyRecord.key.setName;
+        }
+        buffer.add(keyRecord);
+        if (buffer.size() >= runSize) {
+            spill();
+        }
+    }
+
+    /**
+     * @return true if at least one sorted run has been written to a temporary file
+     */
+    boolean isSpilled() {
+        return !runs.isEmpty();
+    }
+
+    /**
+     * @return Amount of sorted runs written to temporary files and not merged into larger runs
+     */
+    int getRunsCount() {
+        return runs.size();
+    }
+
+    /**
+     * Returns records in sorted order. If any records have been spilled, the returned records contain only sort bins.
+     * Records must not be added after calling this method, and this method must be called once.
+     */
+    Iterator<KeyRecord> iterator() {
+        buffer.sort(comparator);
+        if (runs.isEmpty()) {
+            return buffer.iterator();
+        }
+        // The remaining buffer is merged as one more source
+        while (runs.size() + 1 > maxMergeFanIn) {
+            mergeRuns();
+        }
+        List<Iterator<KeyRecord>> sources = new ArrayList<>(runs.size() + 1);
+        for (Run run : runs) {
+            RunReader reader = new RunReader(run);
+            readers.add(reader);
+            sources.add(reader);
+        }
+        // The remaining buffer contains the last added records, so it is merged as the last run
+        sources.add(buffer.iterator());
+        return new MergingIterator(sources);
+    }
+
+    @Override
+    public void close() {
+        readers.forEach(RunReader::close);
+        readers.clear();
+        runs.forEach(SpillingRecordSorter::deleteRun);
+        runs.clear();
+        buffer.clear();
+    }
+
+    private void spill() {
+        buffer.sort(comparator);
+        writeRun(buffer.iterator(), buffer.size());
+        buffer.clear();
+    }
+
+    /**
+     * Merges groups of consecutive runs into larger runs, so the order of equal records is kept
+     */
+    private void mergeRuns() {
+        List<Run> previousRuns = List.copyOf(runs);
+        List<Run> mergedRuns = new ArrayList<>();
+        for (int from = 0; from < previousRuns.size(); from += maxMergeFanIn) {
+            List<Run> group = previousRuns.subList(from, Math.min(from + maxMergeFanIn, previousRuns.size()));
+            mergedRuns.add(group.size() == 1 ? group.get(0) : mergeGroup(group));
+        }
+        runs.clear();
+        runs.addAll(mergedRuns);
+    }
+
+    private Run mergeGroup(List<Run> group) {
+        List<Iterator<KeyRecord>> sources = new ArrayList<>(group.size());
+        int size = 0;
+        for (Run run : group) {
+            RunReader reader = new RunReader(run);
+            readers.add(reader);
+            sources.add(reader);
+            size += run.size();
+        }
+        Run merged = writeRun(new MergingIterator(sources), size);
+        for (Run run : group) {
+            runs.remove(run);
+            deleteRun(run);
+        }
+        readers.removeAll(sources);
+        return merged;
+    }
+
+    private Run writeRun(Iterator<KeyRecord> sorted, int size) {
+        try {
+            Path path = Files.createTempFile("spring-data-aerospike-sort-", ".run");
+            Run run = new Run(path, size);
+            // Registered before writing, so that the file is deleted on close in case of a failure
+            runs.add(run);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+                while (sorted.hasNext()) {
+                    write(out, sorted.next());
+                }
+            }
+            return run;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write sorted records to a temporary file", e);
+        }
+    }
+
+    private static void deleteRun(Run run) {
+        try {
+            Files.deleteIfExists(run.path());
+        } catch (IOException e) {
+            log.warn("Cannot delete temporary sort file {}", run.path(), e);
+        }
+    }
+
+    private void write(DataOutputStream out, KeyRecord keyRecord) throws IOException {
+        out.write(keyRecord.key.digest);
+        writeValue(out, keyRecord.key.userKey == null ? null : keyRecord.key.userKey.getObject());
+        for (String binName : sortBinNames) {
+            writeValue(out, keyRecord.record == null ? null : keyRecord.record.getValue(binName));
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(LONG_VALUE);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE_VALUE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof String string) {
+            writeBytes(out, STRING_VALUE, string.getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[] bytes) {
+            writeBytes(out, BYTES_VALUE, bytes);
+        } else {
+            // Other values are neither supported as sort values nor needed to read a record by digest
+            out.writeByte(NULL_VALUE);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte type, byte[] bytes) throws IOException {
+        out.writeByte(type);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nullable
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case NULL_VALUE -> null;
+            case LONG_VALUE -> in.readLong();
+            case DOUBLE_VALUE -> in.readDouble();
+            case STRING_VALUE -> new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+            case BYTES_VALUE -> in.readNBytes(in.readInt());
+            default -> throw new IllegalStateException("Unexpected value type in a temporary sort file: " + type);
+        };
+    }
+
+    /**
+     * Reads records of a sorted run containing keys and sort bins
+     */
+    private final class RunReader implements Iterator<KeyRecord> {
+
+        private final DataInputStream in;
+        private int remaining;
+
+        RunReader(Run run) {
+            try {
+                this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path())));
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read sorted records from a temporary file", e);
+            }
+            this.remaining = run.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public KeyRecord next() {
+            if (remaining <= 0) throw new NoSuchElementException();
+            try {
+                byte[] digest = in.readNBytes(DIGEST_SIZE);
+                Object userKey = readValue(in);
+                Map<String, Object> bins = new HashMap<>(sortBinNames.length * 2);
+                for (String binName : sortBinNames) {
+                    Object value = readValue(in);
+                    if (value != null) bins.put(binName, value);
+                }
+                if (--remaining == 0) close();
+                return new KeyRecord(new Key(namespace, digest, setName, userKey == null ? null : Value.get(userKey)),
+                    new Record(bins, 0, 0));
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read sorted records from a temporary file", e);
+            }
+        }
+
+        void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                log.warn("Cannot close temporary sort file", e);
+            }
+        }
+    }
+
+    /**
+     * Merges sorted sources, equal records are returned in the order of sources
+     */
+    private final class MergingIterator implements Iterator<KeyRecord> {
+
+        private final PriorityQueue<Head> heads;
+
+        private record Head(KeyRecord keyRecord, int sourceIndex, Iterator<KeyRecord> source) {
+
+        }
+
+        MergingIterator(List<Iterator<KeyRecord>> sources) {
+            Comparator<Head> headComparator = (h1, h2) -> comparator.compare(h1.keyRecord(), h2.keyRecord());
+            this.heads = new PriorityQueue<>(Math.max(sources.size(), 1),
+                headComparator.thenComparingInt(Head::sourceIndex));
+            for (int i = 0; i < sources.size(); i++) {
+                Iterator<KeyRecord> source = sources.get(i);
+                if (source.hasNext()) heads.add(new Head(source.next(), i, source));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public KeyRecord next() {
+            Head head = heads.poll();
+            if (head == null) throw new NoSuchElementException();
+            if (head.source().hasNext()) {
+                heads.add(new Head(head.source().next(), head.sourceIndex(), head.source()));
+            }
+            return head.keyRecord();
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.data.aerospike.query.QueryEngine;
 import org.springframework.data.aerospike.query.ReactorQueryEngine;
 import org.springframework.data.mapping.context.MappingContext;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * This class aggregates essential components and configurations provided via {@link AerospikeTemplate} and
  * {@link ReactiveAerospikeTemplate}, centralizing the dependencies for database operations.
@@ -29,4 +31,6 @@ public class TemplateContext {
     BatchWritePolicy batchWritePolicyDefault;
     QueryEngine queryEngine;
     ReactorQueryEngine reactorQueryEngine;
+    AdaptiveBatchSizer batchSizer;
+    ExecutorService batchChunksExecutor;
 }
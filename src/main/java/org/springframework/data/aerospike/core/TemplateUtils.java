@@ -7,22 +7,25 @@ import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.Value;
-import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.KeyRecord;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
+import com.aerospike.client.task.ExecuteTask;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
-import org.springframework.beans.support.PropertyComparator;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.core.model.CountMode;
 import org.springframework.data.aerospike.convert.AerospikeWriteData;
+import org.springframework.data.aerospike.convert.EntityChangeTracker;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.mapping.AerospikePersistentEntity;
 import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
 import org.springframework.data.aerospike.query.KeyRecordIterator;
+import org.springframework.data.aerospike.query.PartitionsCursor;
+import org.springframework.data.aerospike.query.QueryPlanner;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.util.Utils;
@@ -34,10 +37,12 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,10 +50,15 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.springframework.data.aerospike.core.MappingUtils.getBinNamesFromTargetClassOrNull;
 import static org.springframework.data.aerospike.core.MappingUtils.getKeys;
+import static org.springframework.data.aerospike.core.ValidationUtils.isBackgroundQuerySupported;
+import static org.springframework.data.aerospike.core.ValidationUtils.verifyBackgroundQuerySupported;
+import static org.springframework.data.aerospike.core.ValidationUtils.verifyCursorPaginationSupported;
 import static org.springframework.data.aerospike.core.ValidationUtils.verifyUnsortedWithOffset;
 import static org.springframework.data.aerospike.core.MappingUtils.convertIfNecessary;
 import static org.springframework.data.aerospike.core.QualifierUtils.excludeIdQualifier;
@@ -64,6 +74,8 @@ import static org.springframework.data.aerospike.util.Utils.iterableToList;
 @Slf4j
 public class TemplateUtils {
 
+    private static final int BACKGROUND_QUERY_STATUS_INTERVAL_MILLIS = 50;
+
     private TemplateUtils() {
         throw new UnsupportedOperationException("Utility class TemplateUtils cannot be instantiated");
     }
@@ -331,11 +343,59 @@ public class TemplateUtils {
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
 
         verifyUnsortedWithOffset(query.getSort(), query.getOffset());
+        Comparator<KeyRecord> recordComparator = getRecordComparator(query.getSort(), targetClass, templateContext);
+        if (recordComparator != null) {
+            // Sort and paginate raw records, only the remaining ones are mapped
+            Stream<KeyRecord> records = findRecordsUsingQuery(setName, targetClass, query, templateContext)
+                .filter(getDistinctPredicate(query));
+            long offset = query.hasOffset() ? query.getOffset() : 0;
+            String[] sortBinNames = query.hasRows() ? null
+                : getSpillingSortBinNames(query.getSort(), targetClass, templateContext);
+            Stream<KeyRecord> sorted = sortBinNames != null
+                ? sortWithSpilling(records, recordComparator, sortBinNames, targetClass, offset, templateContext)
+                : PostProcessingUtils.applyPostProcessingOnResults(records, recordComparator, offset,
+                query.hasRows() ? query.getRows() : -1);
+            return sorted.map(keyRecord -> MappingUtils.mapToEntity(keyRecord, targetClass,
+                templateContext.converter));
+        }
         Stream<T> results = findUsingQueryWithDistinctPredicate(setName, targetClass, getDistinctPredicate(query),
             query, templateContext);
         return PostProcessingUtils.applyPostProcessingOnResults(results, query);
     }
 
+    /**
+     * Finds one page of records using a query, starting from the position of the given {@link PartitionsCursor}. The
+     * cursor is updated while reading, so after this method returns it points to the beginning of the next page. Only
+     * the records of the current page are read and mapped to entities of the target class.
+     *
+     * @param <T>             The type of the target class
+     * @param setName         The name of the set to query
+     * @param targetClass     The class of the entities to be returned
+     * @param query           The query to execute, can be {@code null}
+     * @param cursor          The {@link PartitionsCursor} to start from
+     * @param pageSize        The maximum number of records to return
+     * @param templateContext The context containing necessary components
+     * @return A {@link List} of entities of the specified type
+     * @throws IllegalArgumentException if the query is sorted, has an offset, is distinct or contains an id qualifier
+     */
+    static <T> List<T> findPageUsingCursor(String setName, Class<T> targetClass, @Nullable Query query,
+                                           PartitionsCursor cursor, int pageSize, TemplateContext templateContext) {
+        Assert.notNull(templateContext, "TemplateContext name must not be null!");
+        Assert.notNull(cursor, "Cursor must not be null!");
+        Assert.isTrue(pageSize > 0, "Page size must be positive!");
+        verifyCursorPaginationSupported(query);
+
+        String[] binNames = getBinNamesFromTargetClassOrNull(null, targetClass, templateContext.mappingContext);
+        // The iterator is read completely to let the client update partitions status of the cursor
+        try (KeyRecordIterator recIterator = templateContext.queryEngine.selectPage(templateContext.namespace,
+            setName, binNames, query, cursor, pageSize)) {
+            List<T> results = new ArrayList<>(pageSize);
+            recIterator.forEachRemaining(keyRecord ->
+                results.add(MappingUtils.mapToEntity(keyRecord, targetClass, templateContext.converter)));
+            return results;
+        }
+    }
+
     /**
      * Finds records using a query and applies a distinct predicate to filter the results. The key records are then
      * mapped to entities of the target class.
@@ -359,19 +419,18 @@ public class TemplateUtils {
     }
 
     /**
-     * Finds existing {@link KeyRecord}s using a query within a specified set. This method handles queries with ID
-     * qualifiers separately as they have a different retrieval mechanism. The returned stream is closed automatically
-     * when the stream is consumed or when an error occurs.
+     * Counts records matching a query within a specified set. Queries with ID qualifiers read record headers by IDs
+     * regardless of the count mode. Other queries are either counted reading only record headers or estimated without
+     * running them, see {@link CountMode}.
      *
      * @param setName         The name of the set to query. Must not be null
      * @param query           The query to execute
+     * @param mode            Whether to count records exactly or to estimate their amount
      * @param templateContext The {@link TemplateContext} containing the query engine and other necessary components
-     * @return A {@link Stream} of existing {@link KeyRecord}s
+     * @return The amount of matching records
      * @throws IllegalArgumentException if the set name is null
-     * @throws AerospikeException       if an error occurs during the batch read
      */
-    static Stream<KeyRecord> findExistingKeyRecordsUsingQuery(String setName, Query query,
-                                                              TemplateContext templateContext) {
+    static long countUsingQuery(String setName, Query query, CountMode mode, TemplateContext templateContext) {
         Assert.notNull(setName, "Set name must not be null!");
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
 
@@ -380,26 +439,52 @@ public class TemplateUtils {
             Qualifier idQualifier = getIdQualifier(qualifier);
             if (idQualifier != null) {
                 // a separate flow for a query with id
-                return BatchUtils.findByIdsWithoutEntityMapping(
-                    getIdValue(idQualifier),
-                    setName,
-                    null,
-                    new Query(excludeIdQualifier(qualifier)),
-                    templateContext
-                );
+                return BatchUtils.countByIdsUsingQuery(getIdValue(idQualifier), setName,
+                    new Query(excludeIdQualifier(qualifier)), templateContext);
+            }
+        }
+        try {
+            if (mode == CountMode.APPROXIMATE) {
+                long estimated = templateContext.queryEngine.estimateCount(templateContext.namespace, setName, query);
+                if (estimated != QueryPlanner.UNKNOWN) return estimated;
             }
+            return templateContext.queryEngine.count(templateContext.namespace, setName, query);
+        } catch (AerospikeException e) {
+            throw ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
         }
-        KeyRecordIterator recIterator =
-            templateContext.queryEngine.selectForCount(templateContext.namespace, setName, query);
+    }
 
-        return StreamUtils.createStreamFromIterator(recIterator)
-            .onClose(() -> {
-                try {
-                    recIterator.close();
-                } catch (Exception e) {
-                    log.error("Caught exception while closing query", e);
-                }
-            });
+    /**
+     * Checks whether any record matches a query within a specified set. Queries with ID qualifiers read record
+     * headers by IDs. Other queries ask each node for at most one record header, and the query is cancelled as soon as
+     * the first record arrives.
+     *
+     * @param setName         The name of the set to query. Must not be null
+     * @param query           The query to execute
+     * @param templateContext The {@link TemplateContext} containing the query engine and other necessary components
+     * @return true if at least one record matches the query
+     * @throws IllegalArgumentException if the set name is null
+     */
+    static boolean existsUsingQuery(String setName, Query query, TemplateContext templateContext) {
+        Assert.notNull(setName, "Set name must not be null!");
+        Assert.notNull(templateContext, "TemplateContext name must not be null!");
+
+        Qualifier qualifier = isQueryCriteriaNotNull(query) ? query.getCriteriaObject() : null;
+        if (qualifier != null) {
+            Qualifier idQualifier = getIdQualifier(qualifier);
+            if (idQualifier != null) {
+                // a separate flow for a query with id
+                return BatchUtils.existsByIdsUsingQuery(getIdValue(idQualifier), setName,
+                    new Query(excludeIdQualifier(qualifier)), templateContext);
+            }
+        }
+        try (KeyRecordIterator recIterator =
+                 templateContext.queryEngine.selectForExists(templateContext.namespace, setName, query)) {
+            // Closing the iterator cancels the query on the remaining nodes
+            return recIterator.hasNext();
+        } catch (AerospikeException e) {
+            throw ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
+        }
     }
 
     /**
@@ -480,6 +565,83 @@ public class TemplateUtils {
         }
     }
 
+    /**
+     * Saves a document by writing only the bins changed since it was read or saved, if change tracking is enabled and
+     * there is a snapshot of the document. The record is updated only if its generation is the same as when the
+     * snapshot was taken, so that a record changed by other writes is not updated partially.
+     *
+     * @param <T>                The type of the document
+     * @param document           The document to save
+     * @param data               The {@link AerospikeWriteData} of the document, including the key and all bins
+     * @param hasVersionProperty Whether the document has a version property
+     * @param templateContext    The {@link TemplateContext} containing the Aerospike client, converter and exception
+     *                           translator
+     * @return true if the document has been saved, false if it has to be saved fully
+     * @throws OptimisticLockingFailureException if the version of a versioned document does not match the record
+     */
+    static <T> boolean saveChangedBins(T document, AerospikeWriteData data, boolean hasVersionProperty,
+                                       TemplateContext templateContext) {
+        EntityChangeTracker.Changes changes = getChanges(document, data, hasVersionProperty, templateContext);
+        if (changes == null) return false;
+        EntityChangeTracker changeTracker = templateContext.converter.getChangeTracker();
+        WritePolicy writePolicy = PolicyUtils.changedBinsPolicy(data, changes.generation(),
+            templateContext.writePolicyDefault);
+        try {
+            WritePolicy writePolicyEnriched =
+                (WritePolicy) PolicyUtils.enrichPolicyWithTransaction(templateContext.client, writePolicy);
+            Record newAeroRecord = templateContext.client.operate(writePolicyEnriched, data.getKey(),
+                getChangedBinsOperations(changes));
+            if (hasVersionProperty) updateVersion(document, newAeroRecord, templateContext);
+            changeTracker.track(document, data, newAeroRecord.generation);
+            return true;
+        } catch (AerospikeException e) {
+            if (!hasVersionProperty && isChangedSinceSnapshot(e)) {
+                // The record has been changed or deleted by another write, so the document is saved fully
+                changeTracker.forget(document);
+                return false;
+            }
+            throw translateChangedBinsError(e, hasVersionProperty, templateContext);
+        }
+    }
+
+    /**
+     * Returns bins of a document changed since its snapshot, or null if the document has to be saved fully
+     */
+    @Nullable
+    private static <T> EntityChangeTracker.Changes getChanges(T document, AerospikeWriteData data,
+                                                             boolean hasVersionProperty,
+                                                             TemplateContext templateContext) {
+        EntityChangeTracker changeTracker = templateContext.converter.getChangeTracker();
+        if (changeTracker == null) return null;
+        EntityChangeTracker.Changes changes = changeTracker.getChanges(document, data);
+        // A versioned document is expected to have the version of its snapshot, otherwise it has been written since
+        if (changes == null || (hasVersionProperty && data.getVersion().orElse(0) != changes.generation())) {
+            return null;
+        }
+        return changes;
+    }
+
+    private static Operation[] getChangedBinsOperations(EntityChangeTracker.Changes changes) {
+        // Bins with null values are removed, touch is used to update the record when no bins have changed
+        return operations(changes.bins().toArray(Bin[]::new), Operation::put,
+            changes.bins().isEmpty() ? Operation.array(Operation.touch()) : null,
+            Operation.array(Operation.getHeader()));
+    }
+
+    private static boolean isChangedSinceSnapshot(Throwable e) {
+        return e instanceof AerospikeException ae && (ae.getResultCode() == ResultCode.GENERATION_ERROR
+            || ae.getResultCode() == ResultCode.KEY_NOT_FOUND_ERROR);
+    }
+
+    private static RuntimeException translateChangedBinsError(AerospikeException e, boolean hasVersionProperty,
+                                                              TemplateContext templateContext) {
+        return hasVersionProperty
+            ? ExceptionUtils.translateCasException(e,
+            "Failed to " + BaseAerospikeTemplate.OperationType.SAVE_OPERATION + " record",
+            templateContext.exceptionTranslator)
+            : ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
+    }
+
     /**
      * Performs a "put" operation and retrieves the record header. This method constructs the necessary operations and
      * enriches the write policy with transaction details.
@@ -521,6 +683,18 @@ public class TemplateUtils {
                                                 long limit, TemplateContext templateContext) {
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
         verifyUnsortedWithOffset(sort, offset);
+        Comparator<KeyRecord> recordComparator = getRecordComparator(sort, targetClass, templateContext);
+        if (recordComparator != null) {
+            // Sort and paginate raw records, only the remaining ones are mapped
+            Stream<KeyRecord> records = findRecordsUsingQuery(setName, targetClass, null, templateContext);
+            String[] sortBinNames = limit > 0 ? null : getSpillingSortBinNames(sort, targetClass, templateContext);
+            Stream<KeyRecord> sorted = sortBinNames != null
+                ? sortWithSpilling(records, recordComparator, sortBinNames, targetClass, offset, templateContext)
+                : PostProcessingUtils.applyPostProcessingOnResults(records, recordComparator, offset,
+                limit > 0 ? limit : -1);
+            return sorted.map(keyRecord -> MappingUtils.mapToEntity(keyRecord, targetClass,
+                templateContext.converter));
+        }
         Stream<T> results = find(targetClass, setName, templateContext);
         return PostProcessingUtils.applyPostProcessingOnResults(results, sort, offset, limit);
     }
@@ -610,32 +784,59 @@ public class TemplateUtils {
      * @return The total number of objects in the set
      */
     static long countSet(String setName, TemplateContext templateContext) {
-        IAerospikeReactorClient reactorClient = templateContext.reactorClient;
-        String namespace = templateContext.namespace;
-        Node[] nodes = reactorClient.getAerospikeClient().getNodes();
-
-        int replicationFactor = Utils.getReplicationFactor(reactorClient.getAerospikeClient(), nodes, namespace);
+        return Utils.getSetObjectsCount(templateContext.reactorClient.getAerospikeClient(), templateContext.namespace,
+            setName);
+    }
 
-        long totalObjects = Arrays.stream(nodes)
-            .mapToLong(node -> Utils.getObjectsCount(reactorClient.getAerospikeClient(), node, namespace, setName))
-            .sum();
+    /**
+     * Counts records matching a query reactively within a specified set. Queries with ID qualifiers read record headers
+     * by IDs regardless of the count mode. Other queries are either counted reading only record headers or estimated
+     * without running them, see {@link CountMode}.
+     *
+     * @param setName         The name of the set to query. Must not be null
+     * @param query           The query to execute
+     * @param mode            Whether to count records exactly or to estimate their amount
+     * @param templateContext The {@link TemplateContext} containing the reactive query engine
+     * @return A {@link Mono} emitting the amount of matching records
+     * @throws IllegalArgumentException if the set name is null
+     */
+    static Mono<Long> countUsingQueryReactively(String setName, Query query, CountMode mode,
+                                                TemplateContext templateContext) {
+        Assert.notNull(setName, "Set name must not be null!");
+        Assert.notNull(templateContext, "TemplateContext name must not be null!");
 
-        return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+        Qualifier qualifier = isQueryCriteriaNotNull(query) ? query.getCriteriaObject() : null;
+        if (qualifier != null) {
+            Qualifier idQualifier = getIdQualifier(qualifier);
+            if (idQualifier != null) {
+                // a separate flow for a query with id
+                return BatchUtils.findHeadersByIdsUsingQueryReactively(getIdValue(idQualifier), setName,
+                        new Query(excludeIdQualifier(qualifier)), templateContext)
+                    .filter(keyRecord -> keyRecord.record != null)
+                    .count();
+            }
+        }
+        Mono<Long> exactCount = templateContext.reactorQueryEngine.count(templateContext.namespace, setName, query);
+        Mono<Long> count = mode == CountMode.APPROXIMATE
+            ? templateContext.reactorQueryEngine.estimateCount(templateContext.namespace, setName, query)
+            .flatMap(estimated -> estimated == QueryPlanner.UNKNOWN ? exactCount : Mono.just(estimated))
+            : exactCount;
+        return count.onErrorMap(e -> ExceptionUtils.translateError(e, templateContext.exceptionTranslator));
     }
 
     /**
-     * Finds existing {@link KeyRecord}s reactively using a query within a specified set. This method handles queries
-     * with ID qualifiers separately because they have a different retrieval mechanism.
+     * Checks reactively whether any record matches a query within a specified set. Queries with ID qualifiers read
+     * record headers by IDs. Other queries ask each node for at most one record header, and the query is cancelled as
+     * soon as the first record arrives.
      *
      * @param setName         The name of the set to query. Must not be null
      * @param query           The query to execute
-     * @param templateContext The {@link TemplateContext} containing the reactive query engine
-     * @return A {@link Flux} that emits the found {@link KeyRecord}s
+     * @param templateContext The {@link TemplateContext} containing the reactive query engine and other necessary
+     *                        components
+     * @return A {@link Mono} emitting true if at least one record matches the query
      * @throws IllegalArgumentException if the set name is null
-     * @throws AerospikeException       in case of an error during reading
      */
-    static Flux<KeyRecord> findExistingKeyRecordsUsingQueryReactively(String setName, Query query,
-                                                                      TemplateContext templateContext) {
+    static Mono<Boolean> existsUsingQueryReactively(String setName, Query query, TemplateContext templateContext) {
         Assert.notNull(setName, "Set name must not be null!");
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
 
@@ -644,16 +845,14 @@ public class TemplateUtils {
             Qualifier idQualifier = getIdQualifier(qualifier);
             if (idQualifier != null) {
                 // a separate flow for a query with id
-                return findByIdsWithoutEntityMappingReactively(
-                    getIdValue(idQualifier),
-                    setName,
-                    null,
-                    new Query(excludeIdQualifier(qualifier)),
-                    templateContext
-                );
+                return BatchUtils.findHeadersByIdsUsingQueryReactively(getIdValue(idQualifier), setName,
+                        new Query(excludeIdQualifier(qualifier)), templateContext)
+                    .filter(keyRecord -> keyRecord.record != null)
+                    .hasElements();
             }
         }
-        return templateContext.reactorQueryEngine.selectForCount(templateContext.namespace, setName, query);
+        return templateContext.reactorQueryEngine.selectForExists(templateContext.namespace, setName, query)
+            .hasElements();
     }
 
     /**
@@ -713,6 +912,46 @@ public class TemplateUtils {
                 templateContext.exceptionTranslator));
     }
 
+    /**
+     * Saves a document reactively by writing only the bins changed since it was read or saved, if change tracking is
+     * enabled and there is a snapshot of the document. Otherwise, or if the record has been changed by other writes
+     * since the snapshot was taken, the document is saved fully.
+     *
+     * @param <T>                The type of the document
+     * @param document           The document to save
+     * @param data               The {@link AerospikeWriteData} of the document, including the key and all bins
+     * @param hasVersionProperty Whether the document has a version property
+     * @param fullSave           Supplier of saving the document fully
+     * @param templateContext    The {@link TemplateContext} containing the reactive Aerospike client, converter and
+     *                           exception translator
+     * @return A {@link Mono} that emits the saved document
+     * @throws OptimisticLockingFailureException if the version of a versioned document does not match the record
+     */
+    static <T> Mono<T> saveChangedBinsReactively(T document, AerospikeWriteData data, boolean hasVersionProperty,
+                                                 Supplier<Mono<T>> fullSave, TemplateContext templateContext) {
+        EntityChangeTracker.Changes changes = getChanges(document, data, hasVersionProperty, templateContext);
+        if (changes == null) return fullSave.get();
+        EntityChangeTracker changeTracker = templateContext.converter.getChangeTracker();
+        WritePolicy writePolicy = PolicyUtils.changedBinsPolicy(data, changes.generation(),
+            templateContext.writePolicyDefault);
+
+        return PolicyUtils.enrichPolicyWithTransaction(templateContext.reactorClient, writePolicy)
+            .flatMap(writePolicyEnriched -> putAndGetHeaderForReactive(data, (WritePolicy) writePolicyEnriched,
+                getChangedBinsOperations(changes), templateContext))
+            .map(newAeroRecord -> {
+                if (hasVersionProperty) updateVersion(document, newAeroRecord, templateContext);
+                changeTracker.track(document, data, newAeroRecord.generation);
+                return document;
+            })
+            .onErrorResume(e -> !hasVersionProperty && isChangedSinceSnapshot(e), e -> {
+                // The record has been changed or deleted by another write, so the document is saved fully
+                changeTracker.forget(document);
+                return fullSave.get();
+            })
+            .onErrorMap(AerospikeException.class,
+                e -> translateChangedBinsError(e, hasVersionProperty, templateContext));
+    }
+
     /**
      * Persists a document reactively with version management and handles general errors. This method updates the
      * document's version based on the Aerospike record's generation after a successful operation.
@@ -815,6 +1054,22 @@ public class TemplateUtils {
                                                         TemplateContext templateContext) {
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
         verifyUnsortedWithOffset(query.getSort(), query.getOffset());
+        Comparator<KeyRecord> recordComparator = getRecordComparator(query.getSort(), targetClass, templateContext);
+        if (recordComparator != null) {
+            // Sort and paginate raw records, only the remaining ones are mapped
+            Flux<KeyRecord> records = findRecordsUsingQueryReactively(setName, targetClass, query, templateContext)
+                .filter(getDistinctPredicate(query));
+            long offset = query.hasOffset() ? query.getOffset() : 0;
+            String[] sortBinNames = query.hasRows() ? null
+                : getSpillingSortBinNames(query.getSort(), targetClass, templateContext);
+            Flux<KeyRecord> sorted = sortBinNames != null
+                ? sortWithSpillingReactively(records, recordComparator, sortBinNames, targetClass, offset,
+                templateContext)
+                : PostProcessingUtils.applyPostProcessingOnResults(records, recordComparator, offset,
+                query.hasRows() ? query.getRows() : -1);
+            return sorted.map(keyRecord -> MappingUtils.mapToEntity(keyRecord, targetClass,
+                templateContext.converter));
+        }
         Flux<T> results = findUsingQueryWithDistinctPredicateReactively(setName, targetClass,
             getDistinctPredicate(query), query, templateContext);
         results = PostProcessingUtils.applyPostProcessingOnResults(results, query);
@@ -841,6 +1096,19 @@ public class TemplateUtils {
                                                         long limit, TemplateContext templateContext) {
         Assert.notNull(templateContext, "TemplateContext name must not be null!");
         verifyUnsortedWithOffset(sort, offset);
+        Comparator<KeyRecord> recordComparator = getRecordComparator(sort, targetClass, templateContext);
+        if (recordComparator != null) {
+            // Sort and paginate raw records, only the remaining ones are mapped
+            Flux<KeyRecord> records = findRecordsUsingQueryReactively(setName, targetClass, null, templateContext);
+            String[] sortBinNames = limit > 0 ? null : getSpillingSortBinNames(sort, targetClass, templateContext);
+            Flux<KeyRecord> sorted = sortBinNames != null
+                ? sortWithSpillingReactively(records, recordComparator, sortBinNames, targetClass, offset,
+                templateContext)
+                : PostProcessingUtils.applyPostProcessingOnResults(records, recordComparator, offset,
+                limit > 0 ? limit : -1);
+            return sorted.map(keyRecord -> MappingUtils.mapToEntity(keyRecord, targetClass,
+                templateContext.converter));
+        }
         Flux<T> results = findReactively(setName, targetClass, templateContext);
         results = PostProcessingUtils.applyPostProcessingOnResults(results, sort, offset, limit);
         return results;
@@ -863,6 +1131,35 @@ public class TemplateUtils {
             .map(keyRecord -> MappingUtils.mapToEntity(keyRecord, targetClass, templateContext.converter));
     }
 
+    /**
+     * Finds one page of records reactively using a query, starting from the position of the given
+     * {@link PartitionsCursor}. The cursor is updated while reading, so after the returned {@link Mono} completes it
+     * points to the beginning of the next page.
+     *
+     * @param <T>             The type of the target class
+     * @param setName         The name of the set to query
+     * @param targetClass     The class of the entities to be returned
+     * @param query           The query to execute, can be {@code null}
+     * @param cursor          The {@link PartitionsCursor} to start from
+     * @param pageSize        The maximum number of records to return
+     * @param templateContext The context containing necessary components
+     * @return A {@link Mono} emitting a {@link List} of entities of the specified type
+     */
+    static <T> Mono<List<T>> findPageUsingCursorReactively(String setName, Class<T> targetClass, @Nullable Query query,
+                                                           PartitionsCursor cursor, int pageSize,
+                                                           TemplateContext templateContext) {
+        Assert.notNull(templateContext, "TemplateContext name must not be null!");
+        Assert.notNull(cursor, "Cursor must not be null!");
+        Assert.isTrue(pageSize > 0, "Page size must be positive!");
+        verifyCursorPaginationSupported(query);
+
+        String[] binNames = getBinNamesFromTargetClassOrNull(null, targetClass, templateContext.mappingContext);
+        return templateContext.reactorQueryEngine.selectPage(templateContext.namespace, setName, binNames, query,
+                cursor, pageSize)
+            .map(keyRecord -> MappingUtils.mapToEntity(keyRecord, targetClass, templateContext.converter))
+            .collectList();
+    }
+
     /**
      * Finds records reactively using a query and applies a distinct predicate to filter the results. The key records
      * are then mapped to the target class.
@@ -993,18 +1290,153 @@ public class TemplateUtils {
             .orElseThrow(() -> new IllegalStateException("Comparator can not be created if sort orders are empty"));
     }
 
+    /**
+     * Returns a {@link Comparator} of raw {@link KeyRecord}s for the given sort, if all sort properties of the target
+     * class are stored as plain bins, otherwise {@code null}
+     */
+    @Nullable
+    private static Comparator<KeyRecord> getRecordComparator(@Nullable Sort sort, Class<?> targetClass,
+                                                             TemplateContext templateContext) {
+        return RecordComparators.getComparator(sort, targetClass, templateContext.mappingContext,
+            templateContext.converter);
+    }
+
+    /**
+     * Returns names of the bins to be written to temporary files when sorting raw records, if spilling sorted results
+     * is enabled, otherwise {@code null}
+     */
+    @Nullable
+    private static String[] getSpillingSortBinNames(@Nullable Sort sort, Class<?> targetClass,
+                                                    TemplateContext templateContext) {
+        if (templateContext.converter.getAerospikeDataSettings().getQuerySortSpillThreshold() <= 0) return null;
+        return RecordComparators.getSortBinNames(sort, targetClass, templateContext.mappingContext,
+            templateContext.converter);
+    }
+
+    /**
+     * Sorts raw records keeping at most the configured amount of records in memory, sorted runs of the other records
+     * are written to temporary files and merged. Spilled records are read again by their keys in the sorted order.
+     *
+     * @param records         The records to sort
+     * @param comparator      The {@link Comparator} of records reading only the given sort bins
+     * @param sortBinNames    The names of the bins to sort by
+     * @param targetClass     The class the records are going to be mapped to, used to determine bins to read
+     * @param offset          The number of records to skip from the beginning of the sorted records
+     * @param templateContext The {@link TemplateContext} containing necessary components
+     * @return A {@link Stream} of sorted records, temporary files are deleted when it is consumed or closed
+     */
+    private static Stream<KeyRecord> sortWithSpilling(Stream<KeyRecord> records, Comparator<KeyRecord> comparator,
+                                                      String[] sortBinNames, Class<?> targetClass, long offset,
+                                                      TemplateContext templateContext) {
+        SpillingRecordSorter sorter = new SpillingRecordSorter(comparator, sortBinNames,
+            templateContext.converter.getAerospikeDataSettings().getQuerySortSpillThreshold());
+        // Deferred until the returned stream is consumed, like a sorted stream
+        return Stream.of(records)
+            .flatMap(stream -> {
+                stream.forEach(sorter::add);
+                Iterator<KeyRecord> sorted = sorter.iterator();
+                for (long i = 0; i < offset && sorted.hasNext(); i++) {
+                    sorted.next();
+                }
+                Stream<KeyRecord> results = sorter.isSpilled()
+                    ? readSortedRecords(sorted, targetClass, templateContext)
+                    : StreamUtils.createStreamFromIterator(sorted);
+                return results.onClose(sorter::close);
+            })
+            .onClose(() -> {
+                try {
+                    records.close();
+                } finally {
+                    sorter.close();
+                }
+            });
+    }
+
+    /**
+     * Reads records by the keys of sorted records in batches of the configured batch read size, keeping the order.
+     * Records deleted after sorting are skipped.
+     */
+    private static Stream<KeyRecord> readSortedRecords(Iterator<KeyRecord> sorted, Class<?> targetClass,
+                                                       TemplateContext templateContext) {
+        String[] binNames = getBinNamesFromTargetClassOrNull(null, targetClass, templateContext.mappingContext);
+        int batchSize = Math.max(templateContext.converter.getAerospikeDataSettings().getBatchReadSize(), 1);
+        Iterator<List<Key>> keysChunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return sorted.hasNext();
+            }
+
+            @Override
+            public List<Key> next() {
+                List<Key> keys = new ArrayList<>(batchSize);
+                while (keys.size() < batchSize && sorted.hasNext()) {
+                    keys.add(sorted.next().key);
+                }
+                return keys;
+            }
+        };
+        return StreamUtils.createStreamFromIterator(keysChunks)
+            .flatMap(keys -> {
+                Record[] records = BatchUtils.findByKeysUsingQuery(keys, binNames, null, templateContext);
+                return IntStream.range(0, keys.size())
+                    .filter(i -> records[i] != null)
+                    .mapToObj(i -> new KeyRecord(keys.get(i), records[i]));
+            });
+    }
+
+    /**
+     * Reactively sorts raw records keeping at most the configured amount of records in memory, sorted runs of the
+     * other records are written to temporary files and merged. Spilled records are read again by their keys in the
+     * sorted order. Temporary files are written and read on the bounded elastic scheduler.
+     *
+     * @param records         The records to sort
+     * @param comparator      The {@link Comparator} of records reading only the given sort bins
+     * @param sortBinNames    The names of the bins to sort by
+     * @param targetClass     The class the records are going to be mapped to, used to determine bins to read
+     * @param offset          The number of records to skip from the beginning of the sorted records
+     * @param templateContext The {@link TemplateContext} containing necessary components
+     * @return A {@link Flux} of sorted records, temporary files are deleted on termination or cancellation
+     */
+    private static Flux<KeyRecord> sortWithSpillingReactively(Flux<KeyRecord> records,
+                                                              Comparator<KeyRecord> comparator,
+                                                              String[] sortBinNames, Class<?> targetClass,
+                                                              long offset, TemplateContext templateContext) {
+        int threshold = templateContext.converter.getAerospikeDataSettings().getQuerySortSpillThreshold();
+        int batchSize = Math.max(templateContext.converter.getAerospikeDataSettings().getBatchReadSize(), 1);
+        return Flux.using(
+            () -> new SpillingRecordSorter(comparator, sortBinNames, threshold),
+            sorter -> records
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(sorter::add)
+                .thenMany(Flux.defer(() -> {
+                    // Not an Iterable, which Reactor iterates once more to check whether it is finite
+                    Flux<KeyRecord> sorted = Flux.fromStream(
+                        () -> StreamUtils.createStreamFromIterator(sorter.iterator())).skip(offset);
+                    if (!sorter.isSpilled()) return sorted;
+                    BatchPolicy batchPolicy = BatchUtils.getBatchPolicyForReactive(null, templateContext);
+                    return sorted
+                        .map(keyRecord -> keyRecord.key)
+                        .buffer(batchSize)
+                        .concatMap(keys -> BatchUtils.batchReadInChunksReactively(batchPolicy,
+                            keys.toArray(Key[]::new), targetClass, templateContext))
+                        .filter(keyRecord -> keyRecord.record != null);
+                })),
+            SpillingRecordSorter::close
+        );
+    }
+
     /**
      * Creates a {@link Comparator} for a specific property of an entity based on the provided {@link Sort.Order}. This
-     * comparator supports case-insensitive comparison and can sort in ascending or descending order.
+     * comparator supports case-insensitive comparison and can sort in ascending or descending order. Comparators are
+     * compiled once per entity class and property path and cached, descending order is applied using
+     * {@link Comparator#reversed()}.
      *
      * @param <T>   The type of the entities to compare
      * @param order The {@link Sort.Order} specifying the property and direction
      * @return A {@link Comparator} for the specified property
      */
     private static <T> Comparator<T> getPropertyComparator(Sort.Order order) {
-        boolean ignoreCase = true;
-        boolean ascending = order.getDirection().isAscending();
-        return new PropertyComparator<>(order.getProperty(), ignoreCase, ascending);
+        return PropertyComparators.getComparator(order);
     }
 
     /**
@@ -1284,6 +1716,100 @@ public class TemplateUtils {
         return PostProcessingUtils.applyPostProcessingOnResults(results, query);
     }
 
+    /**
+     * Applies the given operations to all records matching a query using server-side background query. Matching
+     * records are processed on the server and are not transferred to the client.
+     *
+     * @param setName          The name of the set to query
+     * @param query            The query to filter records, can be {@code null}
+     * @param recordsPerSecond Limit of records per second processed on each server node, 0 means no limit
+     * @param templateContext  The context containing necessary components
+     * @param operations       The operations to apply to each matching record
+     * @return An {@link ExecuteTask} to track the background query
+     * @throws IllegalArgumentException if the query is sorted, has an offset or a limit, is distinct or contains an id
+     *                                  qualifier
+     */
+    static ExecuteTask executeUsingBackgroundQuery(String setName, @Nullable Query query, int recordsPerSecond,
+                                                   TemplateContext templateContext, Operation... operations) {
+        Assert.notNull(templateContext, "TemplateContext name must not be null!");
+        Assert.notEmpty(operations, "Operations must not be empty!");
+        verifyBackgroundQuerySupported(query);
+
+        try {
+            return templateContext.queryEngine.execute(templateContext.namespace, setName, query, recordsPerSecond,
+                operations);
+        } catch (AerospikeException e) {
+            throw ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
+        }
+    }
+
+    /**
+     * Reactively applies the given operations to all records matching a query using server-side background query.
+     * Matching records are processed on the server and are not transferred to the client.
+     *
+     * @param setName          The name of the set to query
+     * @param query            The query to filter records, can be {@code null}
+     * @param recordsPerSecond Limit of records per second processed on each server node, 0 means no limit
+     * @param templateContext  The context containing necessary components
+     * @param operations       The operations to apply to each matching record
+     * @return A {@link Mono} emitting an {@link ExecuteTask} to track the background query
+     */
+    static Mono<ExecuteTask> executeUsingBackgroundQueryReactively(String setName, @Nullable Query query,
+                                                                   int recordsPerSecond,
+                                                                   TemplateContext templateContext,
+                                                                   Operation... operations) {
+        Assert.notNull(templateContext, "TemplateContext name must not be null!");
+        Assert.notEmpty(operations, "Operations must not be empty!");
+        verifyBackgroundQuerySupported(query);
+
+        return templateContext.reactorQueryEngine.execute(templateContext.namespace, setName, query,
+                recordsPerSecond, operations)
+            .onErrorMap(e -> ExceptionUtils.translateError(e, templateContext.exceptionTranslator));
+    }
+
+    /**
+     * Waits until the given background query is complete on all server nodes.
+     *
+     * @param task            The {@link ExecuteTask} of the background query
+     * @param templateContext The context containing necessary components
+     */
+    static void waitForBackgroundQuery(ExecuteTask task, TemplateContext templateContext) {
+        try {
+            task.waitTillComplete(BACKGROUND_QUERY_STATUS_INTERVAL_MILLIS, 0);
+        } catch (AerospikeException e) {
+            throw ExceptionUtils.translateError(e, templateContext.exceptionTranslator);
+        }
+    }
+
+    /**
+     * Reactively waits until the given background query is complete on all server nodes. Checking the status of a
+     * background query is blocking, so it is done on the bounded elastic scheduler.
+     *
+     * @param task            The {@link ExecuteTask} of the background query
+     * @param templateContext The context containing necessary components
+     * @return A {@link Mono} that completes when the background query is complete
+     */
+    static Mono<Void> waitForBackgroundQueryReactively(ExecuteTask task, TemplateContext templateContext) {
+        return Mono.<Void>fromRunnable(() -> task.waitTillComplete(BACKGROUND_QUERY_STATUS_INTERVAL_MILLIS, 0))
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorMap(e -> ExceptionUtils.translateError(e, templateContext.exceptionTranslator));
+    }
+
+    /**
+     * Checks whether records matching a query can be deleted using server-side background query. It is possible when
+     * the entity has no version property (no generation checks are needed) and the query is supported by background
+     * queries.
+     *
+     * @param query           The query to filter records
+     * @param entityClass     The class of the entities to be deleted
+     * @param templateContext The context containing necessary components
+     * @return {@code true} if background delete can be used, {@code false} otherwise
+     */
+    static boolean isBackgroundDeleteApplicable(Query query, Class<?> entityClass, TemplateContext templateContext) {
+        AerospikePersistentEntity<?> entity = templateContext.mappingContext.getRequiredPersistentEntity(entityClass);
+        return !entity.hasVersionProperty() && isBackgroundQuerySupported(query);
+    }
+
     static boolean queryHasServerVersionSupport(Query query) {
         return query.getCriteria() != null && query.getCriteriaObject() != null
             && !query.getCriteriaObject().hasServerVersionSupport();
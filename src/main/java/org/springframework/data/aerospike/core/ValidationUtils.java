@@ -17,11 +17,15 @@ package org.springframework.data.aerospike.core;
 
 import com.aerospike.client.ResultCode;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
+import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.Assert;
 
 import java.util.List;
 
+import static org.springframework.data.aerospike.query.QualifierUtils.getIdQualifier;
+import static org.springframework.data.aerospike.query.QualifierUtils.isQueryCriteriaNotNull;
+
 /**
  * A utility class providing methods to perform validation checks.
  */
@@ -88,4 +92,62 @@ public final class ValidationUtils {
                 "For retrieving paged results use sorted query.");
         }
     }
+
+    /**
+     * Verifies that a query can be paginated using a partitions cursor. Records are returned in partitions order, so
+     * sorting, offset and distinct are not supported. Queries by ids are read using batch operations and do not
+     * support partitions cursor either.
+     *
+     * @param query The {@link Query} to verify. Can be null
+     * @throws IllegalArgumentException If the query is sorted, has an offset, is distinct or contains an id qualifier
+     */
+    static void verifyCursorPaginationSupported(Query query) {
+        if (query == null) return;
+        if (query.getSort() != null && query.getSort().isSorted()) {
+            throw new IllegalArgumentException("Sorting is not supported for pagination using partitions cursor");
+        }
+        if (query.hasOffset() && query.getOffset() > 0) {
+            throw new IllegalArgumentException("Offset is not supported for pagination using partitions cursor");
+        }
+        if (query.isDistinct()) {
+            throw new IllegalArgumentException("Distinct queries are not supported for pagination using " +
+                "partitions cursor");
+        }
+        if (isQueryCriteriaNotNull(query) && getIdQualifier(query.getCriteriaObject()) != null) {
+            throw new IllegalArgumentException("Queries by ids are not supported for pagination using " +
+                "partitions cursor");
+        }
+    }
+
+    /**
+     * Verifies that a query can be run as a server-side background query. Matching records are processed on the
+     * server without being returned, so sorting, offset, limit and distinct are not supported. Queries by ids are
+     * processed using batch operations instead.
+     *
+     * @param query The {@link Query} to verify. Can be null
+     * @throws IllegalArgumentException If the query is sorted, has an offset or a limit, is distinct or contains an id
+     *                                  qualifier
+     */
+    static void verifyBackgroundQuerySupported(Query query) {
+        if (!isBackgroundQuerySupported(query)) {
+            throw new IllegalArgumentException("Background query must not be sorted, have offset or limit, " +
+                "be distinct or contain id qualifier");
+        }
+    }
+
+    /**
+     * Checks whether a query can be run as a server-side background query.
+     *
+     * @param query The {@link Query} to check. Can be null
+     * @return true if the query is not sorted, has no offset and no limit, is not distinct and does not contain an id
+     * qualifier
+     */
+    static boolean isBackgroundQuerySupported(Query query) {
+        if (query == null) return true;
+        return (query.getSort() == null || query.getSort().isUnsorted())
+            && (!query.hasOffset() || query.getOffset() <= 0)
+            && (!query.hasRows() || query.getRows() <= 0)
+            && !query.isDistinct()
+            && !(isQueryCriteriaNotNull(query) && getIdQualifier(query.getCriteriaObject()) != null);
+    }
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.springframework.data.aerospike.core.BaseAerospikeTemplate.OperationType.SAVE_OPERATION;
+
+/**
+ * Coalesces concurrent writes of single documents into batch writes.
+ * <p>
+ * Documents written to the same set with the same operation are collected into a pending batch, which is written
+ * using a single batch command when it reaches the maximum size (by the thread adding the last document) or when the
+ * linger time passes since the first document was added. Each document gets its own result: the version is updated
+ * and errors are translated the same way as for a single write. A document with the same key as one already pending
+ * causes the pending batch to be written first, and a batch is not written until earlier batches with the same keys
+ * complete, so that writes of the same record are not reordered.
+ */
+final class WriteCoalescer {
+
+    private final BatchWriter batchWriter;
+    private final TemplateContext templateContext;
+    private final int maxBatchSize;
+    private final long lingerMillis;
+    private final Executor flushExecutor;
+    private final Map<BatchKey, PendingBatch> pendingBatches = new HashMap<>();
+    // Completion of the latest batch written for each key
+    private final Map<Key, CompletableFuture<Void>> writesInFlight = new HashMap<>();
+
+    /**
+     * Writes batch records, e.g. using the blocking or the reactive client
+     */
+    @FunctionalInterface
+    interface BatchWriter {
+
+        /**
+         * Write the given batch records
+         *
+         * @param batchRecords Batch records to write, results are set to them
+         * @return Future completed when the results are set, or completed exceptionally if the batch command failed
+         */
+        CompletableFuture<?> write(List<BatchRecord> batchRecords);
+    }
+
+    private record BatchKey(String setName, BaseAerospikeTemplate.OperationType operationType) {
+
+    }
+
+    private static final class PendingBatch {
+
+        private final List<BatchWriteData<?>> writes = new ArrayList<>();
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        private final Set<Key> keys = new HashSet<>();
+        // Earlier batches with the same keys that are still being written
+        private final List<CompletableFuture<Void>> predecessors = new ArrayList<>();
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+        private ScheduledFuture<?> lingerTask;
+    }
+
+    WriteCoalescer(BatchWriter batchWriter, TemplateContext templateContext, int maxBatchSize, long lingerMillis,
+                   Executor flushExecutor) {
+        this.batchWriter = batchWriter;
+        this.templateContext = templateContext;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.lingerMillis = Math.max(lingerMillis, 0);
+        this.flushExecutor = flushExecutor;
+    }
+
+    /**
+     * Write a document as a part of a batch and wait for the result
+     *
+     * @param document      The document to write
+     * @param setName       The set name
+     * @param operationType Save or insert operation
+     * @throws org.springframework.dao.DataAccessException the same as for a single write of the document
+     */
+    <T> void write(T document, String setName, BaseAerospikeTemplate.OperationType operationType) {
+        try {
+            submit(document, setName, operationType).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    /**
+     * Add a document to a pending batch
+     *
+     * @param document      The document to write
+     * @param setName       The set name
+     * @param operationType Save or insert operation
+     * @return Future completed when the batch is written, or completed exceptionally with the translated error of the
+     * document
+     */
+    <T> CompletableFuture<Void> submit(T document, String setName, BaseAerospikeTemplate.OperationType operationType) {
+        BatchWriteData<T> data = operationType == SAVE_OPERATION
+            ? BatchUtils.getBatchWriteForSave(document, setName, templateContext)
+            : BatchUtils.getBatchWriteForInsert(document, setName, templateContext);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        BatchKey batchKey = new BatchKey(setName, operationType);
+        Key key = data.batchRecord().key;
+        PendingBatch full;
+        while (true) {
+            PendingBatch previous = null;
+            synchronized (this) {
+                PendingBatch batch = pendingBatches.get(batchKey);
+                if (batch != null && batch.keys.contains(key)) {
+                    previous = remove(batchKey, batch);
+                } else {
+                    if (batch == null) {
+                        batch = createPendingBatch(batchKey);
+                    }
+                    batch.writes.add(data);
+                    batch.futures.add(future);
+                    batch.keys.add(key);
+                    CompletableFuture<Void> writeInFlight = writesInFlight.get(key);
+                    if (writeInFlight != null) batch.predecessors.add(writeInFlight);
+                    full = batch.writes.size() >= maxBatchSize ? remove(batchKey, batch) : null;
+                    break;
+                }
+            }
+            // Write the pending batch with the same key first, then add the document to a new batch
+            flush(previous, operationType);
+        }
+        if (full != null) flush(full, operationType);
+        return future;
+    }
+
+    private PendingBatch createPendingBatch(BatchKey batchKey) {
+        PendingBatch batch = new PendingBatch();
+        pendingBatches.put(batchKey, batch);
+        batch.lingerTask = CoalescerExecutors.scheduleFlush(() -> flushAfterLinger(batchKey, batch), lingerMillis,
+            flushExecutor);
+        return batch;
+    }
+
+    private void flushAfterLinger(BatchKey batchKey, PendingBatch batch) {
+        synchronized (this) {
+            // The batch could have been written already because of its size
+            if (pendingBatches.get(batchKey) != batch) return;
+            remove(batchKey, batch);
+        }
+        flush(batch, batchKey.operationType());
+    }
+
+    private PendingBatch remove(BatchKey batchKey, PendingBatch batch) {
+        pendingBatches.remove(batchKey);
+        batch.lingerTask.cancel(false);
+        batch.keys.forEach(key -> writesInFlight.put(key, batch.written));
+        return batch;
+    }
+
+    private void flush(PendingBatch batch, BaseAerospikeTemplate.OperationType operationType) {
+        if (batch.predecessors.isEmpty()) {
+            write(batch, operationType);
+        } else {
+            // Predecessors never complete exceptionally, the batch is written by the thread completing the last one
+            CompletableFuture.allOf(batch.predecessors.toArray(CompletableFuture[]::new))
+                .thenRun(() -> write(batch, operationType));
+        }
+    }
+
+    private void write(PendingBatch batch, BaseAerospikeTemplate.OperationType operationType) {
+        List<BatchRecord> batchRecords = batch.writes.stream().map(BatchWriteData::batchRecord).toList();
+        CompletableFuture<?> result;
+        try {
+            result = batchWriter.write(batchRecords);
+        } catch (RuntimeException | Error e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((ignored, error) -> {
+            try {
+                completeAll(batch, operationType, error);
+            } finally {
+                release(batch);
+            }
+        });
+    }
+
+    private void release(PendingBatch batch) {
+        synchronized (this) {
+            batch.keys.forEach(key -> writesInFlight.remove(key, batch.written));
+        }
+        batch.written.complete(null);
+    }
+
+    private void completeAll(PendingBatch batch, BaseAerospikeTemplate.OperationType operationType,
+                             @Nullable Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error != null) {
+            Throwable batchError = ExceptionUtils.translateError(error, templateContext.exceptionTranslator);
+            batch.futures.forEach(future -> future.completeExceptionally(batchError));
+            return;
+        }
+        for (int i = 0; i < batch.writes.size(); i++) {
+            complete(batch.writes.get(i), batch.futures.get(i), operationType);
+        }
+    }
+
+    private void complete(BatchWriteData<?> data, CompletableFuture<Void> future,
+                          BaseAerospikeTemplate.OperationType operationType) {
+        BatchRecord batchRecord = data.batchRecord();
+        try {
+            if (batchRecord.resultCode == ResultCode.OK) {
+                if (data.hasVersionProperty()) {
+                    TemplateUtils.updateVersion(data.document(), batchRecord.record, templateContext);
+                }
+                future.complete(null);
+                return;
+            }
+            AerospikeException e = new AerospikeException(batchRecord.resultCode, batchRecord.inDoubt);
+            // Versions mismatch is only expected when saving a versioned document, like with a single write
+            future.completeExceptionally(data.hasVersionProperty() && operationType == SAVE_OPERATION
+                ? ExceptionUtils.translateCasException(e, "Failed to " + operationType + " record",
+                templateContext.exceptionTranslator)
+                : ExceptionUtils.translateError(e, templateContext.exceptionTranslator));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.core.model;
+
+/**
+ * How the amount of records matching a query is determined
+ */
+public enum CountMode {
+
+    /**
+     * Count matching records reading only their headers, partition ranges are counted concurrently
+     */
+    EXACT,
+    /**
+     * Estimate the amount of matching records using set objects count and secondary index statistics without running
+     * the query, whether or not the query planner is enabled. Qualifiers evaluated as a filter expression are not taken
+     * into account. The records are counted exactly if there is no estimation, e.g. while the set objects count is not
+     * loaded yet.
+     */
+    APPROXIMATE
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.query.Filter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.aerospike.query.cache.IndexesCache;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexedField;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.data.aerospike.util.Utils;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.ToLongBiFunction;
+
+import static com.aerospike.client.query.IndexCollectionType.DEFAULT;
+import static org.springframework.data.aerospike.query.FilterOperation.dualFilterOperations;
+
+/**
+ * {@link QueryPlanner} choosing secondary index Filter with the lowest estimated cost.
+ * <p>
+ * The cost of a candidate is the estimated amount of records read using its secondary index, weighted by the amount of
+ * qualifiers left to be evaluated as a filter expression on each of these records. The amount of records is estimated
+ * using, in the order of preference:
+ * <ul>
+ *     <li>the average amount of records observed in previous executions of queries using the same index,</li>
+ *     <li>secondary index statistics (entries per bin value) combined with the width of the range for numeric
+ *     ranges,</li>
+ *     <li>the amount of records in the set.</li>
+ * </ul>
+ * When no estimation is available, the first candidate is chosen.
+ * <p>
+ * Set sizes are never requested on the query path: a missing or expired set size is refreshed in background, and the
+ * query uses the previous value or no set size meanwhile.
+ */
+@Slf4j
+public class CostBasedQueryPlanner implements QueryPlanner {
+
+    // Share of each additional qualifier evaluated as filter expression in the cost of reading a record
+    private static final double RESIDUAL_QUALIFIER_WEIGHT = 0.1;
+    // Weight of the latest observation in the moving average of observed records count
+    private static final double OBSERVATION_WEIGHT = 0.2;
+    private static final long SET_SIZE_TTL_MILLIS = 60_000;
+    // Delay before retrying a failed set size refresh
+    private static final long SET_SIZE_RETRY_MILLIS = 5_000;
+    // Maximum amount of distinct filters with observed records, observations of other filters are not kept
+    private static final int MAX_OBSERVED_FILTERS = 10_000;
+
+    private final IndexesCache indexesCache;
+    @Nullable
+    private final ToLongBiFunction<String, String> setSizeProvider;
+    private final Map<String, Double> observedRecords = new ConcurrentHashMap<>();
+    private final Map<String, SetSize> setSizes = new ConcurrentHashMap<>();
+    private final Set<String> refreshingSetSizes = ConcurrentHashMap.newKeySet();
+    private final Executor setSizeExecutor;
+    private final boolean ownsSetSizeExecutor;
+
+    private record SetSize(long objects, long timestamp) {
+
+    }
+
+    /**
+     * @param indexesCache    Cache of secondary indexes with their statistics
+     * @param setSizeProvider Function returning the amount of records in a set by namespace and set name, can be null
+     *                        if set sizes are not used. It is called in a background thread owned by the planner
+     */
+    public CostBasedQueryPlanner(IndexesCache indexesCache,
+                                 @Nullable ToLongBiFunction<String, String> setSizeProvider) {
+        this(indexesCache, setSizeProvider, Utils.newBoundedDaemonExecutor("aerospike-set-size", 1), true);
+    }
+
+    /**
+     * @param indexesCache    Cache of secondary indexes with their statistics
+     * @param setSizeProvider Function returning the amount of records in a set by namespace and set name, can be null
+     *                        if set sizes are not used
+     * @param setSizeExecutor Executor refreshing set sizes, not shut down by the planner
+     */
+    public CostBasedQueryPlanner(IndexesCache indexesCache,
+                                 @Nullable ToLongBiFunction<String, String> setSizeProvider,
+                                 Executor setSizeExecutor) {
+        this(indexesCache, setSizeProvider, setSizeExecutor, false);
+    }
+
+    private CostBasedQueryPlanner(IndexesCache indexesCache,
+                                  @Nullable ToLongBiFunction<String, String> setSizeProvider,
+                                  Executor setSizeExecutor, boolean ownsSetSizeExecutor) {
+        this.indexesCache = indexesCache;
+        this.setSizeProvider = setSizeProvider;
+        this.setSizeExecutor = setSizeExecutor;
+        this.ownsSetSizeExecutor = ownsSetSizeExecutor;
+    }
+
+    /**
+     * Stops refreshing set sizes if the executor is owned by the planner
+     */
+    public void close() {
+        if (ownsSetSizeExecutor && setSizeExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Override
+    @Nullable
+    public Qualifier chooseFilterQualifier(String namespace, String set, List<Qualifier> candidates,
+                                           int qualifiersCount) {
+        Qualifier chosen = null;
+        double minCost = Double.MAX_VALUE;
+        for (Qualifier candidate : candidates) {
+            long estimatedRecords = estimateRecords(namespace, set, candidate.getSecondaryIndexFilter());
+            int residualQualifiers = qualifiersCount - 1
+                + (dualFilterOperations.contains(candidate.getOperation()) ? 1 : 0);
+            double cost = estimatedRecords == UNKNOWN
+                ? Double.MAX_VALUE
+                : estimatedRecords * (1 + RESIDUAL_QUALIFIER_WEIGHT * residualQualifiers);
+            if (log.isDebugEnabled()) {
+                log.debug("Qualifier #{} on the bin '{}': estimated records {}, cost {}", candidate.hashCode(),
+                    candidate.getBinName(), estimatedRecords, cost);
+            }
+            // Keep the order of the query when costs are equal or unknown
+            if (chosen == null || cost < minCost) {
+                chosen = candidate;
+                minCost = cost;
+            }
+        }
+        return chosen;
+    }
+
+    @Override
+    public long estimateRecords(String namespace, String set, @Nullable Filter filter) {
+        if (filter == null) {
+            return getSetSize(namespace, set);
+        }
+
+        Double observed = observedRecords.get(getObservationKey(namespace, set, filter));
+        if (observed != null) {
+            return Math.round(observed);
+        }
+
+        long setSize = getSetSize(namespace, set);
+        int binValuesRatio = getMinBinValuesRatio(namespace, set, filter.getName());
+        long distinctValues = getDistinctValuesCount(filter);
+        if (binValuesRatio > 0 && distinctValues != UNKNOWN) {
+            long estimated = multiplySaturated(binValuesRatio, distinctValues);
+            return setSize == UNKNOWN ? estimated : Math.min(estimated, setSize);
+        }
+        return setSize;
+    }
+
+    @Override
+    public void recordExecution(String namespace, String set, Filter filter, long recordsCount) {
+        String key = getObservationKey(namespace, set, filter);
+        if (observedRecords.size() >= MAX_OBSERVED_FILTERS && !observedRecords.containsKey(key)) {
+            return;
+        }
+        observedRecords.merge(key, (double) recordsCount,
+            (previous, latest) -> previous + OBSERVATION_WEIGHT * (latest - previous));
+    }
+
+    /**
+     * Observations are kept per filter values, as the amount of records matching different values of the same bin
+     * can differ by orders of magnitude
+     */
+    private static String getObservationKey(String namespace, String set, Filter filter) {
+        return namespace + "." + set + "." + filter.getName() + "." + filter.getColType() + "." + filter.getBegin()
+            + "." + filter.getEnd();
+    }
+
+    private static boolean isEqualityFilter(Filter filter) {
+        return filter.getBegin() != null && filter.getBegin().equals(filter.getEnd());
+    }
+
+    /**
+     * Returns the amount of distinct values matching the filter, or UNKNOWN if it cannot be determined
+     */
+    private static long getDistinctValuesCount(Filter filter) {
+        if (isEqualityFilter(filter)) {
+            return 1;
+        }
+        Value begin = filter.getBegin();
+        Value end = filter.getEnd();
+        if (filter.getColType() == DEFAULT && begin instanceof Value.LongValue
+            && end instanceof Value.LongValue) {
+            try {
+                return Math.addExact(Math.subtractExact(end.toLong(), begin.toLong()), 1);
+            } catch (ArithmeticException e) {
+                return UNKNOWN;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private int getMinBinValuesRatio(String namespace, String set, String binName) {
+        return indexesCache.getAllIndexesForField(new IndexedField(namespace, set, binName)).stream()
+            .mapToInt(Index::getBinValuesRatio)
+            .filter(ratio -> ratio > 0)
+            .min()
+            .orElse(0);
+    }
+
+    private long getSetSize(String namespace, String set) {
+        if (setSizeProvider == null) {
+            return UNKNOWN;
+        }
+        String key = namespace + "." + set;
+        SetSize setSize = setSizes.get(key);
+        if ((setSize == null || System.currentTimeMillis() - setSize.timestamp() > SET_SIZE_TTL_MILLIS)
+            && refreshingSetSizes.add(key)) {
+            try {
+                setSizeExecutor.execute(() -> refreshSetSize(namespace, set, key));
+            } catch (RejectedExecutionException e) {
+                refreshingSetSizes.remove(key);
+            }
+            setSize = setSizes.get(key);
+        }
+        return setSize == null ? UNKNOWN : setSize.objects();
+    }
+
+    private void refreshSetSize(String namespace, String set, String key) {
+        try {
+            setSizes.put(key, new SetSize(setSizeProvider.applyAsLong(namespace, set), System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.debug("Failed to get the amount of records in the set {}.{}", namespace, set, e);
+            // Keep the previous value if any and retry after a short delay
+            SetSize previous = setSizes.get(key);
+            setSizes.put(key, new SetSize(previous == null ? UNKNOWN : previous.objects(),
+                System.currentTimeMillis() - SET_SIZE_TTL_MILLIS + SET_SIZE_RETRY_MILLIS));
+        } finally {
+            refreshingSetSizes.remove(key);
+        }
+    }
+
+    private static long multiplySaturated(long first, long second) {
+        try {
+            return Math.multiplyExact(first, second);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import java.util.Arrays;
+
+/**
+ * Compact set of record digests used to deduplicate records returned by several queries.
+ * <p>
+ * Digests are copied into one growing byte array and referenced by their positions from an open addressing table, so
+ * a digest takes about 28 bytes instead of separate objects per digest. Digests are hashes themselves, so their first
+ * bytes are used as the hash code. The set is not thread-safe.
+ */
+final class DigestSet {
+
+    private static final int DIGEST_SIZE = 20;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Position of a digest in the digests array plus one, 0 for an empty slot
+    private int[] table = new int[INITIAL_CAPACITY];
+    private byte[] digests = new byte[INITIAL_CAPACITY / 2 * DIGEST_SIZE];
+    private int size;
+
+    /**
+     * Add a digest to the set
+     *
+     * @param digest Record digest
+     * @return true if the set did not contain the digest
+     */
+    boolean add(byte[] digest) {
+        if (digest.length != DIGEST_SIZE) {
+            throw new IllegalArgumentException("Expecting a digest of " + DIGEST_SIZE + " bytes");
+        }
+        int mask = table.length - 1;
+        int slot = hash(digest, 0) & mask;
+        while (table[slot] != 0) {
+            int offset = (table[slot] - 1) * DIGEST_SIZE;
+            if (Arrays.equals(digests, offset, offset + DIGEST_SIZE, digest, 0, DIGEST_SIZE)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size * DIGEST_SIZE == digests.length) {
+            digests = Arrays.copyOf(digests, digests.length * 2);
+        }
+        System.arraycopy(digest, 0, digests, size * DIGEST_SIZE, DIGEST_SIZE);
+        table[slot] = ++size;
+        // Keeping the load factor at most 0.5
+        if (size * 2 > table.length) {
+            resize();
+        }
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        int[] newTable = new int[table.length * 2];
+        int mask = newTable.length - 1;
+        for (int position = 1; position <= size; position++) {
+            int slot = hash(digests, (position - 1) * DIGEST_SIZE) & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = position;
+        }
+        table = newTable;
+    }
+
+    private static int hash(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff)
+            | (bytes[offset + 1] & 0xff) << 8
+            | (bytes[offset + 2] & 0xff) << 16
+            | (bytes[offset + 3] & 0xff) << 24;
+    }
+}
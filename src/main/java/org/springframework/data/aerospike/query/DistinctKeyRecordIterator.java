@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.KeyRecord;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator skipping records with already returned digests, e.g. records matching several branches of a union query.
+ */
+final class DistinctKeyRecordIterator extends KeyRecordIterator {
+
+    private final KeyRecordIterator source;
+    private final long maxRecords;
+    private final DigestSet digests = new DigestSet();
+    private long returned;
+    private KeyRecord nextRecord;
+
+    /**
+     * @param namespace  Namespace of the queried records
+     * @param source     Iterator of records that can contain duplicates
+     * @param maxRecords Maximum amount of distinct records to return, non-positive value means no limit
+     */
+    DistinctKeyRecordIterator(String namespace, KeyRecordIterator source, long maxRecords) {
+        super(namespace);
+        this.source = source;
+        this.maxRecords = maxRecords;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRecord != null) return true;
+        if (maxRecords > 0 && returned >= maxRecords) return false;
+        while (source.hasNext()) {
+            KeyRecord keyRecord = source.next();
+            if (keyRecord != null && digests.add(keyRecord.key.digest)) {
+                nextRecord = keyRecord;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public KeyRecord next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        KeyRecord keyRecord = nextRecord;
+        nextRecord = null;
+        returned++;
+        return keyRecord;
+    }
+
+    @Override
+    public void close() {
+        source.close();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.query.KeyRecord;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Iterator switching to a fallback query if the source fails with a secondary index error, e.g. when a secondary
+ * index used by one of the branches of a union query is not usable. The source is closed before the fallback query
+ * starts. Records returned before the failure can be returned again by the fallback query.
+ */
+@Slf4j
+final class FallbackKeyRecordIterator extends KeyRecordIterator {
+
+    private KeyRecordIterator current;
+    private Supplier<KeyRecordIterator> fallback;
+
+    /**
+     * @param namespace Namespace of the queried records
+     * @param source    Iterator of records using secondary indexes
+     * @param fallback  Supplier starting the query without secondary index filters
+     */
+    FallbackKeyRecordIterator(String namespace, KeyRecordIterator source, Supplier<KeyRecordIterator> fallback) {
+        super(namespace);
+        this.current = source;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return current.hasNext();
+        } catch (AerospikeException e) {
+            if (fallback == null || !QueryEngine.SEC_INDEX_ERROR_RESULT_CODES.contains(e.getResultCode())) {
+                throw e;
+            }
+            log.warn("Got secondary index related exception (resultCode: {}), " +
+                "retrying with filter expression only (scan operation)", e.getResultCode());
+            current.close();
+            current = fallback.get();
+            fallback = null;
+            return current.hasNext();
+        }
+    }
+
+    @Override
+    public KeyRecord next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        current.close();
+    }
+}
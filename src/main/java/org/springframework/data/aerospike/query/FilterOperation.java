@@ -32,6 +32,7 @@ import org.springframework.data.aerospike.repository.query.CriteriaDefinition;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 import org.springframework.data.util.Pair;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
@@ -123,9 +124,12 @@ public enum FilterOperation {
     IN {
         @Override
         public Exp filterExp(Map<QualifierKey, Object> qualifierMap) {
-            // Convert IN to EQ with logical OR as there is no direct support for IN query
             return getMetadataExp(qualifierMap).orElseGet(() -> {
                 Collection<?> collection = getValueAsCollectionOrFail(qualifierMap);
+                Exp inListExp = getInListExp(getBinName(qualifierMap), collection);
+                if (inListExp != null) return inListExp;
+
+                // Convert IN to EQ with logical OR for values that cannot be checked using one list expression
                 Exp[] arrElementsExp = collection.stream().map(item ->
                     Qualifier.builder()
                         .setPath(getBinName(qualifierMap))
@@ -150,9 +154,14 @@ public enum FilterOperation {
     NOT_IN {
         @Override
         public Exp filterExp(Map<QualifierKey, Object> qualifierMap) {
-            // Convert NOT_IN to NOTEQ with logical AND as there is no direct support for NOT_IN query
             return getMetadataExp(qualifierMap).orElseGet(() -> {
                 Collection<?> collection = getValueAsCollectionOrFail(qualifierMap);
+                String binName = getBinName(qualifierMap);
+                Exp inListExp = getInListExp(binName, collection);
+                // Like NOTEQ, records without the bin are returned as well
+                if (inListExp != null) return Exp.or(Exp.not(Exp.binExists(binName)), Exp.not(inListExp));
+
+                // Convert NOT_IN to NOTEQ with logical AND for values that cannot be checked using one list expression
                 Exp[] arrElementsExp = collection.stream().map(item ->
                     Qualifier.builder()
                         .setPath(getBinName(qualifierMap))
@@ -1683,6 +1692,33 @@ public enum FilterOperation {
         return getExpValOrFail(value, errMsg);
     }
 
+    /**
+     * Build an expression checking whether a bin value is one of the given values using one list operation on a
+     * literal list instead of comparing the bin with each value
+     *
+     * @param binName    Bin name
+     * @param collection Values to compare with
+     * @return Expression, or null if the values are not all integers or all strings
+     */
+    private static Exp getInListExp(String binName, Collection<?> collection) {
+        if (collection.isEmpty()) return null;
+        List<Object> values = new ArrayList<>(collection.size());
+        int type = Value.get(collection.iterator().next()).getType();
+        for (Object item : collection) {
+            Value value = Value.get(item);
+            if (value.getType() != type) return null;
+            switch (type) {
+                case INTEGER -> values.add(value.toLong());
+                case STRING -> values.add(value.toString());
+                default -> {
+                    return null;
+                }
+            }
+        }
+        Exp binExp = type == INTEGER ? Exp.intBin(binName) : Exp.stringBin(binName);
+        return Exp.gt(ListExp.getByValue(ListReturnType.COUNT, binExp, Exp.val(values)), Exp.val(0));
+    }
+
     private static Collection<?> getValueAsCollectionOrFail(Map<QualifierKey, Object> qualifierMap) {
         Value value = getValue(qualifierMap);
         String errMsg = "FilterOperation.IN expects argument with type Collection, instead got: " +
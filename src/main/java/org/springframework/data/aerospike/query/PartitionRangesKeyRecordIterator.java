@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.RecordSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Iterator merging the results of several partition range queries that are executed concurrently.
+ * <p>
+ * Each worker takes the next pending partition range query, opens its {@link RecordSet} and forwards the records
+ * into a shared bounded queue consumed by the iterating thread. The amount of workers limits the amount of partition
+ * ranges queried at the same time. Records of different ranges are interleaved, the order is not preserved.
+ * <p>
+ * If a range query fails with a secondary index error before returning any record, its fallback query is executed
+ * instead. When max records are returned, the iterator is closed, which stops all range queries.
+ */
+@Slf4j
+public class PartitionRangesKeyRecordIterator extends KeyRecordIterator {
+
+    private static final KeyRecord WORKER_FINISHED = new KeyRecord(null, null);
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final BlockingQueue<KeyRecord> queue;
+    private final Queue<Supplier<RecordSet>> pendingRanges;
+    private final Set<RecordSet> openRecordSets = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private final int workers;
+    private final long maxRecords;
+    private int finishedWorkers;
+    private long returnedRecords;
+    private volatile boolean closed;
+    private KeyRecord nextRecord;
+
+    /**
+     * Query of one partition range
+     *
+     * @param query    Supplier starting the query
+     * @param fallback Supplier starting the query without a secondary index filter, used if the query fails with a
+     *                 secondary index error, can be null
+     */
+    public record RangeQuery(Supplier<RecordSet> query, @Nullable Supplier<RecordSet> fallback) {
+
+    }
+
+    /**
+     * @param namespace     Namespace of the queried records
+     * @param rangeQueries  Queries of partition ranges
+     * @param maxRecords    Maximum amount of records to return, non-positive value means no limit
+     * @param concurrency   Maximum amount of partition ranges queried concurrently, non-positive value means all
+     * @param executor      Executor to run partition range queries
+     * @param queueCapacity Capacity of the queue buffering records before they are consumed
+     */
+    public PartitionRangesKeyRecordIterator(String namespace, List<RangeQuery> rangeQueries, long maxRecords,
+                                            int concurrency, Executor executor, int queueCapacity) {
+        super(namespace);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.pendingRanges = new ConcurrentLinkedQueue<>(rangeQueries);
+        this.maxRecords = maxRecords;
+        this.workers = concurrency <= 0 ? rangeQueries.size() : Math.min(concurrency, rangeQueries.size());
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::queryPendingRanges);
+        }
+    }
+
+    private void queryPendingRanges() {
+        try {
+            RangeQuery rangeQuery;
+            while (!closed && (rangeQuery = pendingRanges.poll()) != null) {
+                queryRange(rangeQuery);
+            }
+        } catch (AerospikeException e) {
+            failure.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, new AerospikeException(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new AerospikeException("Interrupted while querying partition ranges", e));
+        } finally {
+            try {
+                enqueue(WORKER_FINISHED);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void queryRange(RangeQuery rangeQuery) throws InterruptedException {
+        RecordSet recordSet = null;
+        try {
+            boolean hasRecord;
+            try {
+                recordSet = open(rangeQuery.query());
+                hasRecord = recordSet.next();
+            } catch (AerospikeException e) {
+                // Secondary index errors are returned before any record
+                if (rangeQuery.fallback() == null
+                    || !QueryEngine.SEC_INDEX_ERROR_RESULT_CODES.contains(e.getResultCode())) {
+                    throw e;
+                }
+                log.warn("Got secondary index related exception (resultCode: {}), " +
+                    "retrying partition range with filter expression only (scan operation)", e.getResultCode());
+                if (recordSet != null) closeRecordSet(recordSet);
+                recordSet = open(rangeQuery.fallback());
+                hasRecord = recordSet.next();
+            }
+            while (!closed && hasRecord) {
+                enqueue(new KeyRecord(recordSet.getKey(), recordSet.getRecord()));
+                hasRecord = recordSet.next();
+            }
+        } finally {
+            if (recordSet != null) closeRecordSet(recordSet);
+        }
+    }
+
+    private RecordSet open(Supplier<RecordSet> query) {
+        RecordSet recordSet = query.get();
+        openRecordSets.add(recordSet);
+        return recordSet;
+    }
+
+    private void closeRecordSet(RecordSet recordSet) {
+        openRecordSets.remove(recordSet);
+        recordSet.close();
+    }
+
+    private void enqueue(KeyRecord keyRecord) throws InterruptedException {
+        // Waiting in short intervals to stop producing as soon as the iterator is closed
+        while (!queue.offer(keyRecord, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (closed) return;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRecord != null) return true;
+        if (closed) return false;
+        if (maxRecords > 0 && returnedRecords >= maxRecords) {
+            // Stop range queries that could return more records
+            close();
+            return false;
+        }
+        try {
+            while (finishedWorkers < workers || !queue.isEmpty()) {
+                throwIfFailed();
+                KeyRecord keyRecord = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (keyRecord == WORKER_FINISHED) {
+                    finishedWorkers++;
+                } else if (keyRecord != null) {
+                    nextRecord = keyRecord;
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new AerospikeException("Interrupted while reading partition ranges query results", e);
+        }
+        throwIfFailed();
+        return false;
+    }
+
+    private void throwIfFailed() {
+        RuntimeException e = failure.get();
+        if (e != null) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public KeyRecord next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        KeyRecord keyRecord = nextRecord;
+        nextRecord = null;
+        returnedRecords++;
+        return keyRecord;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        pendingRanges.clear();
+        openRecordSets.forEach(recordSet -> {
+            try {
+                recordSet.close();
+            } catch (Exception e) {
+                log.warn("Caught exception while closing partition range query", e);
+            }
+        });
+        queue.clear();
+    }
+}
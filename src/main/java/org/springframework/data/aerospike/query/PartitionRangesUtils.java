@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.Statement;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper methods for splitting queries into partition ranges executed in parallel.
+ */
+@UtilityClass
+public class PartitionRangesUtils {
+
+    /**
+     * Split all partitions into contiguous ranges of (almost) equal size.
+     *
+     * @param rangesCount Amount of ranges, limited by {@link Partition#PARTITIONS}
+     * @return List of {@link PartitionFilter} objects covering all partitions
+     */
+    public static List<PartitionFilter> splitIntoRanges(int rangesCount) {
+        int count = Math.max(1, Math.min(rangesCount, Partition.PARTITIONS));
+        int rangeSize = Partition.PARTITIONS / count;
+        int remainder = Partition.PARTITIONS % count;
+
+        List<PartitionFilter> ranges = new ArrayList<>(count);
+        int begin = 0;
+        for (int i = 0; i < count; i++) {
+            // Distribute the remainder across the first ranges
+            int size = rangeSize + (i < remainder ? 1 : 0);
+            ranges.add(PartitionFilter.range(begin, size));
+            begin += size;
+        }
+        return ranges;
+    }
+
+    /**
+     * Check whether a query is configured to be split into several partition ranges.
+     *
+     * @param rangesCount Configured amount of partition ranges
+     * @return true if more than one partition range is configured
+     */
+    public static boolean isSplitIntoRanges(int rangesCount) {
+        return rangesCount > 1;
+    }
+
+    /**
+     * Create a copy of the given statement for querying one of the partition ranges. Max records limit is not divided
+     * between the ranges, since matching records can be distributed unevenly, so the merged results of all ranges
+     * must be limited to max records by the caller. Records per second limit is divided between the ranges, so that
+     * concurrently queried ranges do not exceed it together.
+     *
+     * @param statement   Original statement
+     * @param rangesCount Amount of partition ranges the query is split into
+     * @return New {@link Statement} instance
+     */
+    public static Statement copyForRange(Statement statement, int rangesCount) {
+        Statement copy = new Statement();
+        copy.setNamespace(statement.getNamespace());
+        copy.setSetName(statement.getSetName());
+        copy.setIndexName(statement.getIndexName());
+        copy.setBinNames(statement.getBinNames());
+        copy.setFilter(statement.getFilter());
+        copy.setOperations(statement.getOperations());
+        copy.setMaxRecords(statement.getMaxRecords());
+        int recordsPerSecond = statement.getRecordsPerSecond();
+        if (recordsPerSecond > 0) {
+            copy.setRecordsPerSecond(Math.max(recordsPerSecond / Math.max(rangesCount, 1), 1));
+        }
+        return copy;
+    }
+}
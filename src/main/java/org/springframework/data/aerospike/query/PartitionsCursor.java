@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.cluster.Partition;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.PartitionStatus;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Resumable position of a paginated query, backed by Aerospike partitions status.
+ * <p>
+ * The cursor wraps a {@link PartitionFilter} that is updated by the client while the query results are consumed, so
+ * the next page continues where the previous one has stopped. The cursor can be encoded to a continuation token and
+ * restored from it, e.g. to pass it between requests.
+ */
+public class PartitionsCursor {
+
+    private static final byte TOKEN_VERSION = 1;
+    private static final int DIGEST_SIZE = 20;
+
+    @Getter
+    private final PartitionFilter partitionFilter;
+
+    private PartitionsCursor(PartitionFilter partitionFilter) {
+        this.partitionFilter = partitionFilter;
+    }
+
+    /**
+     * Create a cursor positioned at the beginning of all partitions.
+     */
+    public static PartitionsCursor initial() {
+        return new PartitionsCursor(PartitionFilter.all());
+    }
+
+    /**
+     * Create a cursor for the given partition filter.
+     *
+     * @param partitionFilter Partition filter to use, its status is updated by subsequent queries
+     */
+    public static PartitionsCursor of(PartitionFilter partitionFilter) {
+        Assert.notNull(partitionFilter, "Partition filter must not be null");
+        return new PartitionsCursor(partitionFilter);
+    }
+
+    /**
+     * @return true if all partitions of the cursor have been completely read
+     */
+    public boolean isDone() {
+        return partitionFilter.isDone();
+    }
+
+    /**
+     * Encode the current position to a URL-safe continuation token.
+     *
+     * @return Continuation token
+     */
+    public String toToken() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(TOKEN_VERSION);
+            out.writeInt(partitionFilter.getBegin());
+            out.writeInt(partitionFilter.getCount());
+            PartitionStatus[] partitions = partitionFilter.getPartitions();
+            out.writeInt(partitions == null ? 0 : partitions.length);
+            if (partitions != null) {
+                for (PartitionStatus status : partitions) {
+                    out.writeShort(status.id);
+                    out.writeLong(status.bval);
+                    out.writeBoolean(status.retry);
+                    out.writeBoolean(status.digest != null);
+                    if (status.digest != null) out.write(status.digest);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot encode partitions cursor", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Restore a cursor from the given continuation token.
+     *
+     * @param token Continuation token created by {@link #toToken()}
+     * @return PartitionsCursor positioned where the encoded cursor has stopped
+     * @throws IllegalArgumentException if the token cannot be decoded
+     */
+    public static PartitionsCursor fromToken(String token) {
+        Assert.hasText(token, "Token must not be empty");
+        try (DataInputStream in = new DataInputStream(
+            new InflaterInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token))))) {
+            byte version = in.readByte();
+            if (version != TOKEN_VERSION) {
+                throw new IllegalArgumentException("Unsupported partitions cursor token version: " + version);
+            }
+            int begin = in.readInt();
+            int count = in.readInt();
+            int partitionsCount = in.readInt();
+            if (begin < 0 || count <= 0 || begin + count > Partition.PARTITIONS || partitionsCount < 0
+                || partitionsCount > count) {
+                throw new IllegalArgumentException("Invalid partitions cursor token");
+            }
+            PartitionFilter partitionFilter = PartitionFilter.range(begin, count);
+            if (partitionsCount > 0) {
+                PartitionStatus[] partitions = new PartitionStatus[partitionsCount];
+                for (int i = 0; i < partitionsCount; i++) {
+                    int id = in.readShort();
+                    if (id < begin || id >= begin + count) {
+                        throw new IllegalArgumentException("Invalid partitions cursor token: partition " + id +
+                            " is out of range");
+                    }
+                    PartitionStatus status = new PartitionStatus(id);
+                    status.bval = in.readLong();
+                    status.retry = in.readBoolean();
+                    if (in.readBoolean()) {
+                        status.digest = in.readNBytes(DIGEST_SIZE);
+                        if (status.digest.length != DIGEST_SIZE) {
+                            throw new IllegalArgumentException("Invalid partitions cursor token: digest of " +
+                                "partition " + id + " is truncated");
+                        }
+                    }
+                    partitions[i] = status;
+                }
+                partitionFilter.setPartitions(partitions);
+            }
+            return new PartitionsCursor(partitionFilter);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot decode partitions cursor token", e);
+        }
+    }
+}
@@ -75,4 +75,19 @@ public class QualifierUtils {
     public static boolean isQueryNullOrUnsorted(Query query) {
         return query == null || query.getSort() == Sort.unsorted();
     }
+
+    /**
+     * Clears the flags of a qualifier and its inner qualifiers marking them as used for a secondary index Filter, so
+     * that the whole qualifier is evaluated as a filter expression
+     *
+     * @param qualifier The {@code Qualifier} to clear the flags of
+     */
+    static void clearSecIndexFilterFlags(Qualifier qualifier) {
+        qualifier.setHasSecIndexFilter(false);
+        if (qualifier.hasQualifiers()) {
+            for (Qualifier innerQualifier : qualifier.getQualifiers()) {
+                if (innerQualifier != null) clearSecIndexFilterFlags(innerQualifier);
+            }
+        }
+    }
 }
@@ -15,8 +15,14 @@
  */
 package org.springframework.data.aerospike.query;
 
+import com.aerospike.client.Value;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.exp.Expression;
 import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.Statement;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.aerospike.query.cache.IndexesCache;
 import org.springframework.data.aerospike.query.model.Index;
@@ -28,9 +34,12 @@ import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,10 +51,52 @@ import static org.springframework.data.aerospike.util.Utils.logQualifierDetails;
 @Slf4j
 public class QueryContextBuilder {
 
+    public static final int DEFAULT_UNION_MAX_IN_VALUES = 100;
+
     private final IndexesCache indexesCache;
+    @Getter
+    @Nullable
+    private final QueryPlanner queryPlanner;
+    @Nullable
+    private final QueryPlanner recordsEstimator;
+    private final int unionMaxInValues;
 
     public QueryContextBuilder(IndexesCache indexesCache) {
+        this(indexesCache, null);
+    }
+
+    public QueryContextBuilder(IndexesCache indexesCache, @Nullable QueryPlanner queryPlanner) {
+        this(indexesCache, queryPlanner, DEFAULT_UNION_MAX_IN_VALUES);
+    }
+
+    /**
+     * @param indexesCache     Cache of secondary indexes
+     * @param queryPlanner     Planner choosing secondary index Filter for combined queries, if null the Filter is
+     *                         chosen by the lowest bin values ratio or by the order of qualifiers
+     * @param unionMaxInValues Maximum amount of values of IN on an indexed bin queried as a union of secondary index
+     *                         queries, IN with more values is evaluated as a filter expression. Non-positive value
+     *                         means IN is never queried as a union
+     */
+    public QueryContextBuilder(IndexesCache indexesCache, @Nullable QueryPlanner queryPlanner, int unionMaxInValues) {
+        this(indexesCache, queryPlanner, unionMaxInValues, queryPlanner);
+    }
+
+    /**
+     * @param indexesCache     Cache of secondary indexes
+     * @param queryPlanner     Planner choosing secondary index Filter for combined queries, if null the Filter is
+     *                         chosen by the lowest bin values ratio or by the order of qualifiers
+     * @param unionMaxInValues Maximum amount of values of IN on an indexed bin queried as a union of secondary index
+     *                         queries, IN with more values is evaluated as a filter expression. Non-positive value
+     *                         means IN is never queried as a union
+     * @param recordsEstimator Estimator of the amount of records in query plans and approximate counts, used even if
+     *                         the query planner is disabled. If null, the amount of records is unknown
+     */
+    public QueryContextBuilder(IndexesCache indexesCache, @Nullable QueryPlanner queryPlanner, int unionMaxInValues,
+                               @Nullable QueryPlanner recordsEstimator) {
         this.indexesCache = indexesCache;
+        this.queryPlanner = queryPlanner;
+        this.unionMaxInValues = unionMaxInValues;
+        this.recordsEstimator = recordsEstimator;
     }
 
     // Stores a list of inner qualifiers for building filter Exp and a secondary index Filter
@@ -58,12 +109,7 @@ public class QueryContextBuilder {
     }
 
     public QueryContext build(String namespace, String set, @Nullable Query query, String[] binNames) {
-        Statement stmt = new Statement();
-        stmt.setNamespace(namespace);
-        stmt.setSetName(set);
-        if (binNames != null && binNames.length != 0) {
-            stmt.setBinNames(binNames);
-        }
+        Statement stmt = newStatement(namespace, set, binNames);
 
         Qualifier processedParentQualifier = null;
         if (isQueryCriteriaNotNull(query)) {
@@ -91,6 +137,189 @@ public class QueryContextBuilder {
         return new QueryContext(stmt, processedParentQualifier);
     }
 
+    /**
+     * Builds a separate query context for each inner qualifier of an OR-combined query, so that each of them can be
+     * executed as a secondary index query and the results can be merged. IN qualifiers on indexed bins, either the
+     * whole query or inner qualifiers of an OR-combined query, are split into EQ qualifiers for each value. The union
+     * is not used if any of the inner qualifiers cannot use a secondary index Filter, because the whole set has to be
+     * scanned anyway, or if the query planner estimates that the secondary index queries read more records than the set
+     * contains.
+     *
+     * @param namespace Namespace of the query
+     * @param set       Set of the query
+     * @param query     The query
+     * @param binNames  Bin names to return from the query
+     * @return Query contexts of the inner qualifiers, or null if the query is not executed as a union
+     */
+    @Nullable
+    public List<QueryContext> buildUnion(String namespace, String set, @Nullable Query query,
+                                         @Nullable String[] binNames) {
+        if (!isQueryCriteriaNotNull(query)) return null;
+        Qualifier parentQualifier = query.getCriteriaObject();
+        if (parentQualifier.hasFilterExpression() || parentQualifier.hasDslExprString()
+            || parentQualifier.getFilter() != null) {
+            return null;
+        }
+        List<Qualifier> innerQualifiers;
+        if (parentQualifier.getOperation() == FilterOperation.OR && parentQualifier.hasQualifiers()) {
+            innerQualifiers = new ArrayList<>();
+            for (Qualifier innerQualifier : parentQualifier.getQualifiers()) {
+                if (innerQualifier == null) return null;
+                List<Qualifier> eqQualifiers = splitIndexedInQualifier(namespace, set, innerQualifier);
+                if (eqQualifiers != null) {
+                    innerQualifiers.addAll(eqQualifiers);
+                } else {
+                    innerQualifiers.add(innerQualifier);
+                }
+            }
+        } else {
+            innerQualifiers = splitIndexedInQualifier(namespace, set, parentQualifier);
+            if (innerQualifiers == null) return null;
+        }
+
+        List<QueryContext> branches = new ArrayList<>();
+        for (Qualifier innerQualifier : innerQualifiers) {
+            if (innerQualifier.hasFilterExpression() || innerQualifier.hasDslExprString()) {
+                return null;
+            }
+            Statement stmt = newStatement(namespace, set, binNames);
+            Qualifier processedQualifier = setFilterAndProcessQualifier(stmt, innerQualifier);
+            if (stmt.getFilter() == null) {
+                log.debug("Query #{}, inner qualifier #{} has no secondary index filter, union is not used",
+                    parentQualifier.hashCode(), innerQualifier.hashCode());
+                return null;
+            }
+            branches.add(new QueryContext(stmt, processedQualifier));
+        }
+        if (!isUnionCheaperThanScan(namespace, set, branches)) {
+            log.debug("Query #{}, union reads more records than the set contains, union is not used",
+                parentQualifier.hashCode());
+            return null;
+        }
+        return branches;
+    }
+
+    /**
+     * Splits IN qualifier on an indexed bin with integer or string values into EQ qualifiers, each of them having
+     * secondary index Filter. The bin must have a secondary index of collection type DEFAULT and of the type matching
+     * all values. IN with more distinct values than the configured maximum is not split, so that it does not turn
+     * into as many secondary index queries
+     *
+     * @return EQ qualifiers, or null if the qualifier cannot be split
+     */
+    @Nullable
+    private List<Qualifier> splitIndexedInQualifier(String namespace, String set, Qualifier qualifier) {
+        if (qualifier.getOperation() != FilterOperation.IN || qualifier.hasMetadataField()
+            || (qualifier.getCtxArray() != null && qualifier.getCtxArray().length > 0)
+            || qualifier.getKey() != null || !qualifier.hasValue()
+            || !(qualifier.getValue().getObject() instanceof Collection<?> values) || values.isEmpty()) {
+            return null;
+        }
+        Set<Object> distinctValues = new LinkedHashSet<>(values);
+        if (distinctValues.size() > unionMaxInValues) {
+            log.debug("Qualifier #{}, IN has more than {} values, union is not used", qualifier.hashCode(),
+                unionMaxInValues);
+            return null;
+        }
+        List<Index> indexes = indexesCache.getAllIndexesForField(new IndexedField(namespace, set,
+            qualifier.getBinName()));
+        List<Qualifier> eqQualifiers = new ArrayList<>(distinctValues.size());
+        for (Object value : distinctValues) {
+            IndexType indexType = switch (Value.get(value).getType()) {
+                case ParticleType.INTEGER -> IndexType.NUMERIC;
+                case ParticleType.STRING -> IndexType.STRING;
+                default -> null;
+            };
+            if (indexType == null || !hasBinIndexOfType(indexes, indexType)) {
+                log.debug("Qualifier #{}, bin {} has no {} secondary index for IN values, union is not used",
+                    qualifier.hashCode(), qualifier.getBinName(), indexType);
+                return null;
+            }
+            Qualifier eqQualifier = Qualifier.builder()
+                .setPath(qualifier.getBinName())
+                .setFilterOperation(FilterOperation.EQ)
+                .setValue(value)
+                .build();
+            eqQualifier.setDataSettings(qualifier.getDataSettings());
+            eqQualifiers.add(eqQualifier);
+        }
+        return eqQualifiers;
+    }
+
+    /**
+     * Whether there is a secondary index of the given type on the values of the bin itself, not on the elements of a
+     * collection or on a nested context
+     */
+    private static boolean hasBinIndexOfType(List<Index> indexes, IndexType indexType) {
+        return indexes.stream().anyMatch(index -> index.getIndexType() == indexType
+            && index.getIndexCollectionType() == IndexCollectionType.DEFAULT
+            && (index.getCtx() == null || index.getCtx().length == 0));
+    }
+
+    private static Statement newStatement(String namespace, String set, @Nullable String[] binNames) {
+        Statement stmt = new Statement();
+        stmt.setNamespace(namespace);
+        stmt.setSetName(set);
+        if (binNames != null && binNames.length != 0) {
+            stmt.setBinNames(binNames);
+        }
+        return stmt;
+    }
+
+    /**
+     * Compares the estimated amount of records read by all branches of a union with the amount of records in the set,
+     * the union is considered cheaper when there are no estimations
+     */
+    private boolean isUnionCheaperThanScan(String namespace, String set, List<QueryContext> branches) {
+        if (queryPlanner == null) return true;
+        long setSize = queryPlanner.estimateRecords(namespace, set, null);
+        if (setSize == QueryPlanner.UNKNOWN) return true;
+        long unionRecords = 0;
+        for (QueryContext branch : branches) {
+            long estimated = queryPlanner.estimateRecords(namespace, set, branch.statement().getFilter());
+            if (estimated == QueryPlanner.UNKNOWN) return true;
+            unionRecords += Math.min(estimated, setSize);
+        }
+        return unionRecords <= setSize;
+    }
+
+    /**
+     * Describes how the given query is going to be executed: which secondary index Filter is used, which qualifiers
+     * are evaluated as a filter expression and whether a scan is going to run.
+     *
+     * @param queryContext             {@link QueryContext} built for the query
+     * @param filterExpressionsBuilder Builder of filter expressions for residual qualifiers
+     * @return {@link QueryPlan} of the query
+     */
+    public QueryPlan explain(QueryContext queryContext, FilterExpressionsBuilder filterExpressionsBuilder) {
+        String namespace = queryContext.statement().getNamespace();
+        String set = queryContext.statement().getSetName();
+        Filter filter = queryContext.statement().getFilter();
+        Qualifier residualQualifier = queryContext.qualifier();
+        Expression residualExpression = null;
+        if (residualQualifier != null) {
+            residualExpression = residualQualifier.hasFilterExpression()
+                ? residualQualifier.getFilterExpression()
+                : filterExpressionsBuilder.build(residualQualifier);
+        }
+        long estimatedRecords = recordsEstimator == null
+            ? QueryPlanner.UNKNOWN
+            : recordsEstimator.estimateRecords(namespace, set, filter);
+        return new QueryPlan(getIndexName(namespace, set, filter), filter,
+            residualExpression == null ? null : residualQualifier, residualExpression, filter == null,
+            estimatedRecords);
+    }
+
+    @Nullable
+    private String getIndexName(String namespace, String set, @Nullable Filter filter) {
+        if (filter == null) return null;
+        return indexesCache.getAllIndexesForField(new IndexedField(namespace, set, filter.getName())).stream()
+            .filter(index -> index.getIndexCollectionType() == filter.getColType())
+            .map(Index::getName)
+            .findFirst()
+            .orElse(null);
+    }
+
     /**
      * Applies secondary index filter to the statement and processes the parent qualifier (excludes a qualifier used for
      * creating secondary index filter).
@@ -104,7 +333,7 @@ public class QueryContextBuilder {
         Qualifier resultQualifier;
         if (parentQualifier.getOperation() == FilterOperation.AND) {
             // Multiple qualifiers concatenated using logical AND
-            // No sense to use secondary index in case of OR which requires to enlarge selection to more than 1 field
+            // OR can use secondary indexes only as a union of separate queries, see buildUnion()
             resultQualifier = setFilterAndProcessCombinedQualifier(stmt, parentQualifier);
         } else if (parentQualifier.hasSecondaryIndexName() || isIndexedBin(stmt, parentQualifier)) {
             // Single qualifier
@@ -123,7 +352,9 @@ public class QueryContextBuilder {
      * the Filter is based on
      */
     private Qualifier setFilterAndProcessCombinedQualifier(Statement stmt, Qualifier parentQualifier) {
-        Qualifier qualifierChosenByCardinality = getMinBinValuesRatioQualifier(parentQualifier, stmt);
+        Qualifier qualifierChosenByCardinality = queryPlanner != null
+            ? getPlannedQualifier(parentQualifier, stmt)
+            : getMinBinValuesRatioQualifier(parentQualifier, stmt);
         if (qualifierChosenByCardinality != null) {
             // A qualifier based on cardinality (with minimal bin values ratio) is found
             Filter filter = qualifierChosenByCardinality.getSecondaryIndexFilter();
@@ -199,6 +430,19 @@ public class QueryContextBuilder {
         return minBinValuesRatioQualifier;
     }
 
+    /**
+     * Returns the qualifier chosen by the query planner among the inner qualifiers that have secondary index Filter
+     */
+    private Qualifier getPlannedQualifier(Qualifier parentQualifier, Statement stmt) {
+        List<Qualifier> candidates = Arrays.stream(parentQualifier.getQualifiers())
+            .filter(innerQualifier -> innerQualifier != null && isIndexedBin(stmt, innerQualifier)
+                && innerQualifier.getSecondaryIndexFilter() != null)
+            .toList();
+        if (candidates.isEmpty()) return null;
+        return queryPlanner.chooseFilterQualifier(stmt.getNamespace(), stmt.getSetName(), candidates,
+            parentQualifier.getQualifiers().length);
+    }
+
     /**
      * Returns a new AND-combined parent qualifier with the given inner qualifiers and with data settings of the
      * initial parent qualifier
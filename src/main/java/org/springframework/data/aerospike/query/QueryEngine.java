@@ -18,11 +18,16 @@ package org.springframework.data.aerospike.query;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Operation;
 import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
 import com.aerospike.client.query.RecordSet;
 import com.aerospike.client.query.Statement;
+import com.aerospike.client.task.ExecuteTask;
 import com.aerospike.dsl.ParsedExpression;
 import com.aerospike.dsl.api.DSLParser;
 import lombok.Getter;
@@ -33,10 +38,20 @@ import org.springframework.data.aerospike.query.cache.IndexesCacheHolder;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils;
 import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.repository.query.QueryPolicyHints;
+import org.springframework.data.aerospike.util.Utils;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static com.aerospike.client.ResultCode.INDEX_GENERIC;
 import static com.aerospike.client.ResultCode.INDEX_MAXCOUNT;
@@ -44,6 +59,7 @@ import static com.aerospike.client.ResultCode.INDEX_NAME_MAXLEN;
 import static com.aerospike.client.ResultCode.INDEX_NOTFOUND;
 import static com.aerospike.client.ResultCode.INDEX_NOTREADABLE;
 import static com.aerospike.client.ResultCode.INDEX_OOM;
+import static org.springframework.data.aerospike.query.QualifierUtils.clearSecIndexFilterFlags;
 import static org.springframework.data.aerospike.query.QualifierUtils.isQueryCriteriaNotNull;
 import static org.springframework.data.aerospike.util.Utils.getNewFilter;
 
@@ -62,6 +78,7 @@ public class QueryEngine {
             "If you still need to use them, enable them via `scans-enabled` property.";
     public static final List<Integer> SEC_INDEX_ERROR_RESULT_CODES = List.of(
         INDEX_NOTFOUND, INDEX_OOM, INDEX_NOTREADABLE, INDEX_GENERIC, INDEX_NAME_MAXLEN, INDEX_MAXCOUNT);
+    private static final int DEFAULT_QUERY_THREADS = 64;
     private final IAerospikeClient client;
     @Getter
     private final QueryContextBuilder queryContextBuilder;
@@ -79,6 +96,29 @@ public class QueryEngine {
     @Setter
     @Getter
     private long queryMaxRecords;
+    /**
+     * Amount of partition ranges a query is split into for parallel execution. Non-positive value or 1 means that a
+     * query is executed as a single stream.
+     */
+    @Setter
+    @Getter
+    private int partitionRanges;
+    /**
+     * Maximum amount of partition ranges of a query executed concurrently. Non-positive value means all ranges at once.
+     */
+    @Setter
+    @Getter
+    private int partitionRangesConcurrency;
+    /**
+     * Maximum amount of secondary index queries of a union (OR or IN on indexed bins) executed concurrently.
+     * Non-positive value means all queries of a union at once.
+     */
+    @Setter
+    @Getter
+    private int unionConcurrency = 16;
+    // Threads executing partition ranges and union queries, shut down on close
+    private final ThreadPoolExecutor partitionRangesExecutor =
+        Utils.newBoundedDaemonExecutor("aerospike-query-partitions", DEFAULT_QUERY_THREADS);
 
     public QueryEngine(IAerospikeClient client, QueryContextBuilder queryContextBuilder,
                        FilterExpressionsBuilder filterExpressionsBuilder,
@@ -91,6 +131,23 @@ public class QueryEngine {
         this.dslParser = dslParser;
     }
 
+    /**
+     * Set maximum amount of threads executing partition ranges and union queries concurrently. Queries above the limit
+     * wait for a thread.
+     *
+     * @param threads Maximum amount of threads, at least one thread is used
+     */
+    public void setQueryThreads(int threads) {
+        Utils.setExecutorThreads(partitionRangesExecutor, threads);
+    }
+
+    /**
+     * Stop threads executing partition ranges and union queries. Called when the engine bean is destroyed.
+     */
+    public void close() {
+        partitionRangesExecutor.shutdownNow();
+    }
+
     /**
      * Select records filtered by a query
      *
@@ -119,19 +176,34 @@ public class QueryEngine {
             query.getCriteriaObject().setDataSettings(dataSettings);
         }
 
+        QueryPolicyHints queryHints = getQueryHints(query);
+        long maxRecords = getMaxRecords(queryHints);
+        List<QueryContext> unionContexts = queryContextBuilder.buildUnion(namespace, set, query, binNames);
+        if (unionContexts != null) {
+            return selectUnion(namespace, unionContexts, query.getCriteriaObject(), true, maxRecords, queryHints);
+        }
+
         QueryContext queryContext = queryContextBuilder.build(namespace, set, query, binNames);
         processDslQualifier(queryContext, namespace);
         Statement statement = queryContext.statement();
-        statement.setMaxRecords(queryMaxRecords);
-        QueryPolicy localQueryPolicy = getQueryPolicy(queryContext.qualifier(), true);
+        statement.setMaxRecords(maxRecords);
+        applyRecordsPerSecond(statement, queryHints);
+        QueryPolicy localQueryPolicy = getQueryPolicy(queryContext.qualifier(), true, queryHints);
 
         if (!scansEnabled && statement.getFilter() == null) {
             throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
         }
 
+        if (PartitionRangesUtils.isSplitIntoRanges(partitionRanges)) {
+            return selectPartitionRanges(namespace, localQueryPolicy, statement, queryContext.qualifier(),
+                queryHints);
+        }
+
         RecordSet rs = client.query(localQueryPolicy, statement);
         try {
-            return new KeyRecordIterator(namespace, rs);
+            return isObservable(queryContext)
+                ? observedKeyRecordIterator(namespace, set, statement, rs)
+                : new KeyRecordIterator(namespace, rs);
         } catch (AerospikeException e) {
             if (queryContext.qualifier() != null // No sense to retry if qualifier is null
                 && statement.getFilter() != null
@@ -140,13 +212,233 @@ public class QueryEngine {
                 log.warn("Got secondary index related exception (resultCode: {}), " +
                     "retrying with filter expression only (scan operation)", e.getResultCode());
                 return isQueryCriteriaNotNull(query)
-                    ? retryWithFilterExpression(namespace, query.getCriteriaObject(), statement)
+                    ? retryWithFilterExpression(namespace, query.getCriteriaObject(), statement, queryHints)
                     : null;
             }
             throw e;
         }
     }
 
+    /**
+     * Describe how a query is going to be executed without running it
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param query     {@link Query} to describe
+     * @return {@link QueryPlan} of the query
+     */
+    public QueryPlan explain(String namespace, String set, @Nullable Query query) {
+        if (isQueryCriteriaNotNull(query) && query.getCriteriaObject() != null) {
+            query.getCriteriaObject().setDataSettings(dataSettings);
+        }
+        QueryContext queryContext = queryContextBuilder.build(namespace, set, query);
+        processDslQualifier(queryContext, namespace);
+        return queryContextBuilder.explain(queryContext, filterExpressionsBuilder);
+    }
+
+    /**
+     * Whether the amount of records returned by the query equals the amount of records read using secondary index
+     * Filter, so it can be recorded by the query planner
+     */
+    private boolean isObservable(QueryContext queryContext) {
+        return queryContextBuilder.getQueryPlanner() != null
+            && queryContext.statement().getFilter() != null
+            && queryContext.qualifier() == null;
+    }
+
+    private KeyRecordIterator observedKeyRecordIterator(String namespace, String set, Statement statement,
+                                                        RecordSet rs) {
+        Filter filter = statement.getFilter();
+        long maxRecords = statement.getMaxRecords();
+        return new KeyRecordIterator(namespace, rs) {
+
+            private long count;
+            private boolean recorded;
+
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = super.hasNext();
+                // Record only complete results, a query stopped by max records says nothing about selectivity
+                if (!hasNext && !recorded && (maxRecords <= 0 || count < maxRecords)) {
+                    recorded = true;
+                    queryContextBuilder.getQueryPlanner().recordExecution(namespace, set, filter, count);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public KeyRecord next() {
+                KeyRecord keyRecord = super.next();
+                if (keyRecord != null) count++;
+                return keyRecord;
+            }
+        };
+    }
+
+    /**
+     * Select one page of records filtered by a query, starting from the position of the given cursor. The cursor is
+     * updated while the results are consumed, so it can be used to continue with the next page after the iterator has
+     * been read completely.
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param binNames  Bin names to return from the query
+     * @param query     {@link Query} for filtering results
+     * @param cursor    {@link PartitionsCursor} to start from
+     * @param pageSize  Maximum amount of records to return
+     * @return A KeyRecordIterator to iterate over the results
+     */
+    public KeyRecordIterator selectPage(String namespace, String set, String[] binNames, @Nullable Query query,
+                                        PartitionsCursor cursor, long pageSize) {
+        if (isQueryCriteriaNotNull(query) && query.getCriteriaObject() != null) {
+            query.getCriteriaObject().setDataSettings(dataSettings);
+        }
+
+        QueryContext queryContext = queryContextBuilder.build(namespace, set, query, binNames);
+        processDslQualifier(queryContext, namespace);
+        Statement statement = queryContext.statement();
+        statement.setMaxRecords(pageSize);
+        QueryPolicyHints queryHints = getQueryHints(query);
+        applyRecordsPerSecond(statement, queryHints);
+        QueryPolicy localQueryPolicy = getQueryPolicy(queryContext.qualifier(), true, queryHints);
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+        }
+
+        RecordSet rs = client.queryPartitions(localQueryPolicy, statement, cursor.getPartitionFilter());
+        return new KeyRecordIterator(namespace, rs);
+    }
+
+    /**
+     * Apply operations to all records filtered by a query using server-side background query. The records are not
+     * returned to the client.
+     *
+     * @param namespace        Namespace to store the data
+     * @param set              Set storing the data
+     * @param query            {@link Query} for filtering records
+     * @param recordsPerSecond Limit of records per second processed on each server node, 0 means no limit
+     * @param operations       Operations to apply to each matching record
+     * @return An {@link ExecuteTask} to track the background query
+     */
+    public ExecuteTask execute(String namespace, String set, @Nullable Query query, int recordsPerSecond,
+                               Operation... operations) {
+        if (isQueryCriteriaNotNull(query) && query.getCriteriaObject() != null) {
+            query.getCriteriaObject().setDataSettings(dataSettings);
+        }
+
+        QueryContext queryContext = queryContextBuilder.build(namespace, set, query);
+        processDslQualifier(queryContext, namespace);
+        Statement statement = queryContext.statement();
+        statement.setRecordsPerSecond(recordsPerSecond);
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+        }
+
+        WritePolicy writePolicy = new WritePolicy(client.getWritePolicyDefault());
+        writePolicy.filterExp = queryContext.qualifier() == null
+            ? null
+            : getFilterExpression(queryContext.qualifier());
+        return client.execute(writePolicy, statement, operations);
+    }
+
+    /**
+     * Split the query into partition ranges and execute them concurrently, merging the results into one iterator
+     * limited to max records of the statement
+     *
+     * @param namespace   Namespace to store the data
+     * @param queryPolicy Query policy to use for each partition range
+     * @param statement   Statement to be executed for each partition range
+     * @param qualifier   Qualifier of the query to retry a range without secondary index filter, can be null
+     * @param queryHints  Query policy hints of the query, can be null
+     * @return A KeyRecordIterator to iterate over the merged results
+     */
+    private KeyRecordIterator selectPartitionRanges(String namespace, QueryPolicy queryPolicy, Statement statement,
+                                                    @Nullable Qualifier qualifier,
+                                                    @Nullable QueryPolicyHints queryHints) {
+        List<PartitionFilter> ranges = PartitionRangesUtils.splitIntoRanges(partitionRanges);
+        Supplier<QueryPolicy> fallbackPolicy = qualifier != null && statement.getFilter() != null
+            ? getFallbackQueryPolicy(qualifier, true, queryHints)
+            : null;
+        List<PartitionRangesKeyRecordIterator.RangeQuery> rangeQueries = ranges.stream()
+            .map(partitionFilter -> {
+                Statement rangeStatement = PartitionRangesUtils.copyForRange(statement, ranges.size());
+                Supplier<RecordSet> fallback = null;
+                if (fallbackPolicy != null) {
+                    Statement fallbackStatement = PartitionRangesUtils.copyForRange(statement, ranges.size());
+                    fallbackStatement.setFilter(null);
+                    // Partition filter keeps the state of a query, so the retry uses a new one
+                    fallback = () -> client.queryPartitions(fallbackPolicy.get(), fallbackStatement,
+                        PartitionFilter.range(partitionFilter.getBegin(), partitionFilter.getCount()));
+                }
+                return new PartitionRangesKeyRecordIterator.RangeQuery(
+                    () -> client.queryPartitions(queryPolicy, rangeStatement, partitionFilter), fallback);
+            })
+            .toList();
+        return new PartitionRangesKeyRecordIterator(namespace, rangeQueries, statement.getMaxRecords(),
+            partitionRangesConcurrency, partitionRangesExecutor, queryPolicy.recordQueueSize);
+    }
+
+    /**
+     * Returns a supplier of the query policy to retry a query without secondary index filter. The policy is built
+     * once on the first retry, since building it changes the qualifier.
+     */
+    private Supplier<QueryPolicy> getFallbackQueryPolicy(Qualifier qualifier, boolean includeBins,
+                                                         @Nullable QueryPolicyHints queryHints) {
+        AtomicReference<QueryPolicy> fallbackPolicy = new AtomicReference<>();
+        return () -> {
+            synchronized (fallbackPolicy) {
+                if (fallbackPolicy.get() == null) {
+                    qualifier.setHasSecIndexFilter(false);
+                    fallbackPolicy.set(getQueryPolicy(qualifier, includeBins, queryHints));
+                }
+                return fallbackPolicy.get();
+            }
+        };
+    }
+
+    /**
+     * Execute secondary index queries of a union (OR-combined or IN qualifiers) concurrently, merging the results
+     * into one iterator without duplicates. If a secondary index of any branch is not usable, the union is given up
+     * and the whole qualifier is queried once as a filter expression
+     *
+     * @param namespace       Namespace to store the data
+     * @param unionContexts   Query contexts of the inner qualifiers
+     * @param parentQualifier Qualifier of the whole query
+     * @param includeBins     Whether to read bins or only record headers
+     * @param maxRecords      Maximum amount of distinct records to return, non-positive value means no limit
+     * @param queryHints      Query policy hints of the query, can be null
+     * @return A KeyRecordIterator to iterate over the merged results
+     */
+    private KeyRecordIterator selectUnion(String namespace, List<QueryContext> unionContexts,
+                                          Qualifier parentQualifier, boolean includeBins, long maxRecords,
+                                          @Nullable QueryPolicyHints queryHints) {
+        List<PartitionRangesKeyRecordIterator.RangeQuery> branchQueries = unionContexts.stream()
+            .map(branch -> {
+                Statement statement = branch.statement();
+                // Each branch can return all records of the union
+                statement.setMaxRecords(maxRecords);
+                applyRecordsPerSecond(statement, queryHints);
+                QueryPolicy queryPolicy = getQueryPolicy(branch.qualifier(), includeBins, queryHints);
+                return new PartitionRangesKeyRecordIterator.RangeQuery(() -> client.query(queryPolicy, statement),
+                    null);
+            })
+            .toList();
+        KeyRecordIterator merged = new PartitionRangesKeyRecordIterator(namespace, branchQueries, 0,
+            unionConcurrency, partitionRangesExecutor, client.getQueryPolicyDefault().recordQueueSize);
+        // All branches share namespace, set and bin names
+        Statement fallbackStatement = PartitionRangesUtils.copyForRange(unionContexts.get(0).statement(), 1);
+        fallbackStatement.setFilter(null);
+        KeyRecordIterator withFallback = new FallbackKeyRecordIterator(namespace, merged, () -> {
+            clearSecIndexFilterFlags(parentQualifier);
+            QueryPolicy fallbackPolicy = getQueryPolicy(parentQualifier, includeBins, queryHints);
+            return new KeyRecordIterator(namespace, client.query(fallbackPolicy, fallbackStatement));
+        });
+        // Distinct records are limited, so the merged branches are not
+        return new DistinctKeyRecordIterator(namespace, withFallback, maxRecords);
+    }
+
     /**
      * If query context contains a DSL expression qualifier, process DSL and update query context with parsed results
      *
@@ -173,10 +465,11 @@ public class QueryEngine {
         }
     }
 
-    private KeyRecordIterator retryWithFilterExpression(String namespace, Qualifier qualifier, Statement statement) {
+    private KeyRecordIterator retryWithFilterExpression(String namespace, Qualifier qualifier, Statement statement,
+                                                        @Nullable QueryPolicyHints queryHints) {
         // retry without sIndex filter
         qualifier.setHasSecIndexFilter(false);
-        QueryPolicy localQueryPolicyFallback = getQueryPolicy(qualifier, true);
+        QueryPolicy localQueryPolicyFallback = getQueryPolicy(qualifier, true, queryHints);
         statement.setFilter(null);
         RecordSet rs = client.query(localQueryPolicyFallback, statement);
         return new KeyRecordIterator(namespace, rs);
@@ -191,11 +484,180 @@ public class QueryEngine {
      * @return A KeyRecordIterator for counting
      */
     public KeyRecordIterator selectForCount(String namespace, String set, @Nullable Query query) {
+        return selectHeaders(namespace, set, query, getMaxRecords(getQueryHints(query)));
+    }
+
+    /**
+     * Select records filtered by a query to check whether any record matches it. Each node is asked for at most one
+     * record header, and the query is cancelled when the returned iterator is closed, so it should be closed as soon as
+     * the first record is found.
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param query     {@link Query} for filtering results
+     * @return A KeyRecordIterator with at most one record per node
+     */
+    public KeyRecordIterator selectForExists(String namespace, String set, @Nullable Query query) {
+        // Max records are divided between nodes, so each node stops after its first matching record
+        return selectHeaders(namespace, set, query, Math.max(client.getNodes().length, 1));
+    }
+
+    /**
+     * Count records filtered by a query. Only record headers are read, the query is split into partition ranges
+     * counted concurrently, and the result is not limited by max records of queries.
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param query     {@link Query} for filtering records
+     * @return Amount of matching records
+     */
+    public long count(String namespace, String set, @Nullable Query query) {
+        if (isQueryCriteriaNotNull(query) && query.getCriteriaObject() != null) {
+            query.getCriteriaObject().setDataSettings(dataSettings);
+        }
+
+        QueryPolicyHints queryHints = getQueryHints(query);
+        List<QueryContext> unionContexts = queryContextBuilder.buildUnion(namespace, set, query, null);
+        if (unionContexts != null) {
+            try (KeyRecordIterator iterator = selectUnion(namespace, unionContexts, query.getCriteriaObject(), false, 0,
+                queryHints)) {
+                long count = 0;
+                while (iterator.hasNext()) {
+                    iterator.next();
+                    count++;
+                }
+                return count;
+            }
+        }
+
         QueryContext queryContext = queryContextBuilder.build(namespace, set, query);
+        processDslQualifier(queryContext, namespace);
         Statement statement = queryContext.statement();
-        statement.setMaxRecords(queryMaxRecords);
+        applyRecordsPerSecond(statement, queryHints);
+        QueryPolicy localQueryPolicy = getQueryPolicy(queryContext.qualifier(), false, queryHints);
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
+        }
+
+        Supplier<QueryPolicy> fallbackPolicy = queryContext.qualifier() != null && statement.getFilter() != null
+            ? getFallbackQueryPolicy(queryContext.qualifier(), false, queryHints)
+            : null;
+        long count = countPartitionRanges(localQueryPolicy, statement, fallbackPolicy);
+        if (isObservable(queryContext)) {
+            queryContextBuilder.getQueryPlanner().recordExecution(namespace, set, statement.getFilter(), count);
+        }
+        return count;
+    }
+
+    /**
+     * Estimate the amount of records filtered by a query without running it. The amount of records in the set is used
+     * for a query without qualifiers, otherwise an estimation based on secondary index statistics, whether or not the
+     * query planner is enabled. Qualifiers evaluated as a filter expression are not taken into account, so the
+     * estimation is an upper bound in this case.
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param query     {@link Query} for filtering records
+     * @return Estimated amount of matching records, or {@link QueryPlanner#UNKNOWN} if there is no estimation
+     */
+    public long estimateCount(String namespace, String set, @Nullable Query query) {
+        QueryPlan queryPlan = explain(namespace, set, query);
+        if (queryPlan.scan() && queryPlan.residualQualifier() == null) {
+            return Utils.getSetObjectsCount(client, namespace, set);
+        }
+        return queryPlan.estimatedRecords();
+    }
+
+    /**
+     * Count records of each partition range in a separate thread and sum the results
+     */
+    private long countPartitionRanges(QueryPolicy queryPolicy, Statement statement,
+                                      @Nullable Supplier<QueryPolicy> fallbackPolicy) {
+        // At least one range per node, so that each node is read concurrently
+        List<PartitionFilter> ranges =
+            PartitionRangesUtils.splitIntoRanges(Math.max(partitionRanges, client.getNodes().length));
+        int concurrency = partitionRangesConcurrency > 0
+            ? Math.min(partitionRangesConcurrency, ranges.size())
+            : ranges.size();
+        Queue<PartitionFilter> pendingRanges = new ConcurrentLinkedQueue<>(ranges);
+        List<Future<Long>> counts = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            counts.add(partitionRangesExecutor.submit(() -> {
+                long count = 0;
+                PartitionFilter partitionFilter;
+                while ((partitionFilter = pendingRanges.poll()) != null) {
+                    count += countPartitionRange(queryPolicy,
+                        PartitionRangesUtils.copyForRange(statement, ranges.size()), partitionFilter, fallbackPolicy);
+                }
+                return count;
+            }));
+        }
+
+        long total = 0;
+        try {
+            for (Future<Long> count : counts) {
+                total += count.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while counting records", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException("Failed to count records", e.getCause());
+        } finally {
+            // Stop counting the remaining ranges in case of a failure
+            pendingRanges.clear();
+            counts.forEach(count -> count.cancel(true));
+        }
+        return total;
+    }
+
+    /**
+     * Count records of a partition range, retrying the range without secondary index filter if the fallback policy is
+     * given and the secondary index cannot be used
+     */
+    private long countPartitionRange(QueryPolicy queryPolicy, Statement statement, PartitionFilter partitionFilter,
+                                     @Nullable Supplier<QueryPolicy> fallbackPolicy) {
+        try {
+            return countRecords(client.queryPartitions(queryPolicy, statement, partitionFilter));
+        } catch (AerospikeException e) {
+            if (fallbackPolicy == null || !SEC_INDEX_ERROR_RESULT_CODES.contains(e.getResultCode())) throw e;
+            log.warn("Got secondary index related exception (resultCode: {}), " +
+                "counting partition range with filter expression only (scan operation)", e.getResultCode());
+            // The statement is a copy for this range only. Partition filter keeps the state of a query, so the retry
+            // uses a new one
+            statement.setFilter(null);
+            return countRecords(client.queryPartitions(fallbackPolicy.get(), statement,
+                PartitionFilter.range(partitionFilter.getBegin(), partitionFilter.getCount())));
+        }
+    }
+
+    private static long countRecords(RecordSet recordSet) {
+        long count = 0;
+        try (RecordSet rs = recordSet) {
+            while (rs.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private KeyRecordIterator selectHeaders(String namespace, String set, @Nullable Query query, long maxRecords) {
+        QueryPolicyHints queryHints = getQueryHints(query);
+        List<QueryContext> unionContexts = queryContextBuilder.buildUnion(namespace, set, query, null);
+        if (unionContexts != null) {
+            return selectUnion(namespace, unionContexts, query.getCriteriaObject(), false, maxRecords,
+                queryHints);
+        }
+
+        QueryContext queryContext = queryContextBuilder.build(namespace, set, query);
+        Statement statement = queryContext.statement();
+        statement.setMaxRecords(maxRecords);
+        applyRecordsPerSecond(statement, queryHints);
         Qualifier qualifier = isQueryCriteriaNotNull(query) ? query.getCriteriaObject() : null;
-        QueryPolicy localQueryPolicy = getQueryPolicy(qualifier, false);
+        QueryPolicy localQueryPolicy = getQueryPolicy(qualifier, false, queryHints);
 
         if (!scansEnabled && statement.getFilter() == null) {
             throw new IllegalStateException(SCANS_DISABLED_MESSAGE);
@@ -205,15 +667,36 @@ public class QueryEngine {
         return new KeyRecordIterator(namespace, rs);
     }
 
-    private QueryPolicy getQueryPolicy(Qualifier qualifier, boolean includeBins) {
-        QueryPolicy queryPolicy = new QueryPolicy(client.getQueryPolicyDefault());
+    private QueryPolicy getQueryPolicy(Qualifier qualifier, boolean includeBins,
+                                       @Nullable QueryPolicyHints queryHints) {
+        QueryPolicy defaultPolicy = client.getQueryPolicyDefault();
+        QueryPolicy queryPolicy = new QueryPolicy(queryHints == null
+            ? defaultPolicy
+            : queryHints.getQueryPolicy(defaultPolicy));
         queryPolicy.filterExp = qualifier == null
             ? null
             : getFilterExpression(qualifier);
-        queryPolicy.includeBinData = includeBins;
+        // A hint can only exclude bins from queries reading them
+        queryPolicy.includeBinData = includeBins
+            && (queryHints == null || !Boolean.FALSE.equals(queryHints.getIncludeBinData()));
         return queryPolicy;
     }
 
+    private long getMaxRecords(@Nullable QueryPolicyHints queryHints) {
+        return queryHints == null ? queryMaxRecords : queryHints.getMaxRecords(queryMaxRecords);
+    }
+
+    @Nullable
+    private static QueryPolicyHints getQueryHints(@Nullable Query query) {
+        return query == null ? null : query.getQueryHints();
+    }
+
+    private static void applyRecordsPerSecond(Statement statement, @Nullable QueryPolicyHints queryHints) {
+        if (queryHints != null && queryHints.getRecordsPerSecond() != null) {
+            statement.setRecordsPerSecond(queryHints.getRecordsPerSecond());
+        }
+    }
+
     private Expression getFilterExpression(@NonNull Qualifier qualifier) {
         // If a filter Exp is already set, use it
         if (qualifier.hasFilterExpression()) {
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.exp.Expression;
+import com.aerospike.client.query.Filter;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.lang.Nullable;
+
+/**
+ * Describes how a query is going to be executed.
+ *
+ * @param indexName          Name of the secondary index used by the query, null if no secondary index is used
+ * @param filter             Secondary index Filter, null if no secondary index is used
+ * @param residualQualifier  Qualifier evaluated as a filter expression on each record read, null if there is none
+ * @param residualExpression Filter expression built from the residual qualifier, null if there is none
+ * @param scan               Whether the query reads all records of the set (no secondary index Filter is used)
+ * @param estimatedRecords   Estimated amount of records read by the query, {@link QueryPlanner#UNKNOWN} if there is
+ *                           no estimation
+ */
+public record QueryPlan(@Nullable String indexName, @Nullable Filter filter, @Nullable Qualifier residualQualifier,
+                        @Nullable Expression residualExpression, boolean scan, long estimatedRecords) {
+
+}
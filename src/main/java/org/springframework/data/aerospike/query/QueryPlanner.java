@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.Filter;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Chooses which qualifier of a combined query is used to build secondary index {@link Filter}. The rest of the
+ * qualifiers are applied as a filter expression on the records read using the secondary index.
+ */
+public interface QueryPlanner {
+
+    /**
+     * Value returned when the amount of records cannot be estimated.
+     */
+    long UNKNOWN = -1;
+
+    /**
+     * Choose one of the candidate qualifiers to build secondary index Filter from.
+     *
+     * @param namespace       Namespace of the query
+     * @param set             Set of the query
+     * @param candidates      Inner qualifiers of an AND-combined query that can be used to build secondary index
+     *                        Filter, in the order of the query
+     * @param qualifiersCount Amount of all inner qualifiers including the candidates
+     * @return The chosen qualifier, or null if no secondary index Filter should be used
+     */
+    @Nullable
+    Qualifier chooseFilterQualifier(String namespace, String set, List<Qualifier> candidates, int qualifiersCount);
+
+    /**
+     * Estimate the amount of records read by a query.
+     *
+     * @param namespace Namespace of the query
+     * @param set       Set of the query
+     * @param filter    Secondary index Filter of the query, null for a scan
+     * @return Estimated amount of records, or {@link #UNKNOWN}
+     */
+    long estimateRecords(String namespace, String set, @Nullable Filter filter);
+
+    /**
+     * Record the amount of records returned by an executed query that used only secondary index Filter, so that
+     * subsequent estimations can rely on the observed selectivity.
+     *
+     * @param namespace    Namespace of the query
+     * @param set          Set of the query
+     * @param filter       Secondary index Filter of the query
+     * @param recordsCount Amount of records returned by the query
+     */
+    default void recordExecution(String namespace, String set, Filter filter, long recordsCount) {
+    }
+}
@@ -17,10 +17,18 @@
 package org.springframework.data.aerospike.query;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.listener.RecordSequenceListener;
 import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.client.query.Filter;
 import com.aerospike.client.query.KeyRecord;
+import com.aerospike.client.query.PartitionFilter;
 import com.aerospike.client.query.Statement;
 import com.aerospike.client.reactor.IAerospikeReactorClient;
+import com.aerospike.client.task.ExecuteTask;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -28,10 +36,20 @@ import org.reactivestreams.Publisher;
 import org.springframework.data.aerospike.config.AerospikeDataSettings;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.repository.query.QueryPolicyHints;
+import org.springframework.data.aerospike.util.Utils;
 import org.springframework.lang.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.springframework.data.aerospike.query.QualifierUtils.clearSecIndexFilterFlags;
 import static org.springframework.data.aerospike.query.QualifierUtils.isQueryCriteriaNotNull;
 import static org.springframework.data.aerospike.query.QueryEngine.SEC_INDEX_ERROR_RESULT_CODES;
 
@@ -59,6 +77,26 @@ public class ReactorQueryEngine {
     @Setter
     @Getter
     private long queryMaxRecords;
+    /**
+     * Amount of partition ranges a query is split into for parallel execution. Non-positive value or 1 means that a
+     * query is executed as a single stream.
+     */
+    @Setter
+    @Getter
+    private int partitionRanges;
+    /**
+     * Maximum amount of partition ranges of a query executed concurrently. Non-positive value means all ranges at once.
+     */
+    @Setter
+    @Getter
+    private int partitionRangesConcurrency;
+    /**
+     * Maximum amount of secondary index queries of a union (OR or IN on indexed bins) executed concurrently.
+     * Non-positive value means all queries of a union at once.
+     */
+    @Setter
+    @Getter
+    private int unionConcurrency = 16;
 
     public ReactorQueryEngine(IAerospikeReactorClient client,
                               QueryContextBuilder queryContextBuilder,
@@ -97,16 +135,32 @@ public class ReactorQueryEngine {
         if (query != null) {
             query.getCriteriaObject().setDataSettings(dataSettings);
         }
+        QueryPolicyHints queryHints = getQueryHints(query);
+        long maxRecords = getMaxRecords(queryHints);
+        List<QueryContext> unionContexts = queryContextBuilder.buildUnion(namespace, set, query, binNames);
+        if (unionContexts != null) {
+            return selectUnion(unionContexts, query.getCriteriaObject(), true, maxRecords, queryHints);
+        }
         QueryContext queryContext = queryContextBuilder.build(namespace, set, query, binNames);
         Statement statement = queryContext.statement();
-        statement.setMaxRecords(queryMaxRecords);
-        QueryPolicy localQueryPolicy = getQueryPolicy(queryContext.qualifier(), true);
+        statement.setMaxRecords(maxRecords);
+        applyRecordsPerSecond(statement, queryHints);
+        QueryPolicy localQueryPolicy = getQueryPolicy(queryContext.qualifier(), true, queryHints);
 
         if (!scansEnabled && statement.getFilter() == null) {
             return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
         }
 
-        return client.query(localQueryPolicy, statement)
+        if (PartitionRangesUtils.isSplitIntoRanges(partitionRanges)) {
+            return selectPartitionRanges(localQueryPolicy, statement, queryContext.qualifier(), queryHints);
+        }
+
+        Flux<KeyRecord> results = client.query(localQueryPolicy, statement);
+        if (queryContextBuilder.getQueryPlanner() != null && statement.getFilter() != null
+            && queryContext.qualifier() == null) {
+            results = observed(namespace, set, statement, results);
+        }
+        return results
             .onErrorResume(throwable -> {
                 if (queryContext.qualifier() != null // No sense to retry if qualifier is null
                     && statement.getFilter() != null
@@ -117,17 +171,222 @@ public class ReactorQueryEngine {
                         "Got secondary index related exception (resultCode: {}), " +
                             "retrying with filter expression only (scan operation)",
                         ae.getResultCode());
-                    return retryWithFilterExpressionOnly(queryContext.qualifier(), statement);
+                    return retryWithFilterExpressionOnly(queryContext.qualifier(), statement, queryHints);
                 }
                 // for other exceptions
                 return Mono.error(throwable);
             });
     }
 
-    private Publisher<KeyRecord> retryWithFilterExpressionOnly(Qualifier qualifier, Statement statement) {
+    /**
+     * Describe how a query is going to be executed without running it
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param query     {@link Query} to describe
+     * @return {@link QueryPlan} of the query
+     */
+    public QueryPlan explain(String namespace, String set, @Nullable Query query) {
+        if (isQueryCriteriaNotNull(query) && query.getCriteriaObject() != null) {
+            query.getCriteriaObject().setDataSettings(dataSettings);
+        }
+        QueryContext queryContext = queryContextBuilder.build(namespace, set, query);
+        return queryContextBuilder.explain(queryContext, filterExpressionsBuilder);
+    }
+
+    /**
+     * Record the amount of records returned by a query that used only secondary index Filter in the query planner
+     */
+    private Flux<KeyRecord> observed(String namespace, String set, Statement statement, Flux<KeyRecord> results) {
+        Filter filter = statement.getFilter();
+        long maxRecords = statement.getMaxRecords();
+        return Flux.defer(() -> {
+            AtomicLong count = new AtomicLong();
+            return results
+                .doOnNext(keyRecord -> count.incrementAndGet())
+                .doOnComplete(() -> {
+                    // Record only complete results, a query stopped by max records says nothing about selectivity
+                    if (maxRecords <= 0 || count.get() < maxRecords) {
+                        queryContextBuilder.getQueryPlanner().recordExecution(namespace, set, filter, count.get());
+                    }
+                });
+        });
+    }
+
+    /**
+     * Select one page of records filtered by a query, starting from the position of the given cursor. The cursor is
+     * updated while the results are emitted, so it can be used to continue with the next page after the Flux has
+     * completed.
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param binNames  Bin names to return from the query
+     * @param query     {@link Query} for filtering results
+     * @param cursor    {@link PartitionsCursor} to start from
+     * @param pageSize  Maximum amount of records to return
+     * @return A Flux<KeyRecord> emitting the results
+     */
+    public Flux<KeyRecord> selectPage(String namespace, String set, String[] binNames, @Nullable Query query,
+                                      PartitionsCursor cursor, long pageSize) {
+        if (isQueryCriteriaNotNull(query)) {
+            query.getCriteriaObject().setDataSettings(dataSettings);
+        }
+        QueryContext queryContext = queryContextBuilder.build(namespace, set, query, binNames);
+        Statement statement = queryContext.statement();
+        statement.setMaxRecords(pageSize);
+        QueryPolicyHints queryHints = getQueryHints(query);
+        applyRecordsPerSecond(statement, queryHints);
+        QueryPolicy localQueryPolicy = getQueryPolicy(queryContext.qualifier(), true, queryHints);
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
+        }
+
+        return client.queryPartitions(localQueryPolicy, statement, cursor.getPartitionFilter());
+    }
+
+    /**
+     * Apply operations to all records filtered by a query using server-side background query. The records are not
+     * returned to the client.
+     *
+     * @param namespace        Namespace to store the data
+     * @param set              Set storing the data
+     * @param query            {@link Query} for filtering records
+     * @param recordsPerSecond Limit of records per second processed on each server node, 0 means no limit
+     * @param operations       Operations to apply to each matching record
+     * @return A Mono<ExecuteTask> emitting the task to track the background query
+     */
+    public Mono<ExecuteTask> execute(String namespace, String set, @Nullable Query query, int recordsPerSecond,
+                                     Operation... operations) {
+        if (isQueryCriteriaNotNull(query)) {
+            query.getCriteriaObject().setDataSettings(dataSettings);
+        }
+        QueryContext queryContext = queryContextBuilder.build(namespace, set, query);
+        Statement statement = queryContext.statement();
+        statement.setRecordsPerSecond(recordsPerSecond);
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            return Mono.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
+        }
+
+        WritePolicy writePolicy = client.getAerospikeClient().copyWritePolicyDefault();
+        writePolicy.filterExp = getQueryPolicy(queryContext.qualifier(), false, null).filterExp;
+        // Starting a background query sends the statement to every node and waits for the nodes to accept it, which
+        // is blocking, so it is done on the bounded elastic scheduler. Completion of the query is not awaited
+        return Mono.fromCallable(() -> client.getAerospikeClient().execute(writePolicy, statement, operations))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Split the query into partition ranges and execute them concurrently, merging the results into one Flux
+     *
+     * @param queryPolicy Query policy to use for each partition range
+     * @param statement   Statement to be executed for each partition range
+     * @param qualifier   Qualifier of the query to retry a range without secondary index filter, can be null
+     * @param queryHints  Query policy hints of the query, can be null
+     * @return A Flux<KeyRecord> emitting the merged results limited to max records of the statement
+     */
+    private Flux<KeyRecord> selectPartitionRanges(QueryPolicy queryPolicy, Statement statement,
+                                                  @Nullable Qualifier qualifier,
+                                                  @Nullable QueryPolicyHints queryHints) {
+        List<PartitionFilter> ranges = PartitionRangesUtils.splitIntoRanges(partitionRanges);
+        int concurrency = partitionRangesConcurrency > 0 ? partitionRangesConcurrency : ranges.size();
+        Supplier<QueryPolicy> fallbackPolicy = qualifier != null && statement.getFilter() != null
+            ? getFallbackQueryPolicy(qualifier, true, queryHints)
+            : null;
+        Flux<KeyRecord> results = Flux.fromIterable(ranges)
+            .flatMap(partitionFilter -> {
+                Flux<KeyRecord> rangeResults = client.queryPartitions(queryPolicy,
+                    PartitionRangesUtils.copyForRange(statement, ranges.size()), partitionFilter);
+                if (fallbackPolicy == null) return rangeResults;
+                return rangeResults.onErrorResume(this::isSecIndexError, throwable -> {
+                    log.warn("Got secondary index related exception (resultCode: {}), " +
+                            "retrying partition range with filter expression only (scan operation)",
+                        ((AerospikeException) throwable).getResultCode());
+                    Statement fallbackStatement = PartitionRangesUtils.copyForRange(statement, ranges.size());
+                    fallbackStatement.setFilter(null);
+                    // Partition filter keeps the state of a query, so the retry uses a new one
+                    return client.queryPartitions(fallbackPolicy.get(), fallbackStatement,
+                        PartitionFilter.range(partitionFilter.getBegin(), partitionFilter.getCount()));
+                });
+            }, concurrency);
+        // Matching records can be distributed unevenly, so the merged results are limited
+        return statement.getMaxRecords() > 0 ? results.take(statement.getMaxRecords()) : results;
+    }
+
+    private boolean isSecIndexError(Throwable throwable) {
+        return throwable instanceof AerospikeException ae && SEC_INDEX_ERROR_RESULT_CODES.contains(ae.getResultCode());
+    }
+
+    /**
+     * Returns a supplier of the query policy to retry a query without secondary index filter. The policy is built
+     * once on the first retry, since building it changes the qualifier.
+     */
+    private Supplier<QueryPolicy> getFallbackQueryPolicy(Qualifier qualifier, boolean includeBins,
+                                                         @Nullable QueryPolicyHints queryHints) {
+        AtomicReference<QueryPolicy> fallbackPolicy = new AtomicReference<>();
+        return () -> {
+            synchronized (fallbackPolicy) {
+                if (fallbackPolicy.get() == null) {
+                    qualifier.setHasSecIndexFilter(false);
+                    fallbackPolicy.set(getQueryPolicy(qualifier, includeBins, queryHints));
+                }
+                return fallbackPolicy.get();
+            }
+        };
+    }
+
+    /**
+     * Execute secondary index queries of a union (OR-combined or IN qualifiers) concurrently, merging the results
+     * into one Flux without duplicates. If a secondary index of any branch is not usable, the union is given up and
+     * the whole qualifier is queried once as a filter expression
+     *
+     * @param unionContexts   Query contexts of the inner qualifiers
+     * @param parentQualifier Qualifier of the whole query
+     * @param includeBins     Whether to read bins or only record headers
+     * @param maxRecords      Maximum amount of distinct records to emit, non-positive value means no limit
+     * @param queryHints      Query policy hints of the query, can be null
+     * @return A Flux<KeyRecord> emitting the merged results
+     */
+    private Flux<KeyRecord> selectUnion(List<QueryContext> unionContexts, Qualifier parentQualifier,
+                                        boolean includeBins, long maxRecords, @Nullable QueryPolicyHints queryHints) {
+        List<Flux<KeyRecord>> branchQueries = unionContexts.stream()
+            .map(branch -> {
+                Statement statement = branch.statement();
+                // Each branch can return all records of the union
+                statement.setMaxRecords(maxRecords);
+                applyRecordsPerSecond(statement, queryHints);
+                return client.query(getQueryPolicy(branch.qualifier(), includeBins, queryHints), statement);
+            })
+            .toList();
+        // All branches share namespace, set and bin names
+        Statement fallbackStatement = PartitionRangesUtils.copyForRange(unionContexts.get(0).statement(), 1);
+        fallbackStatement.setFilter(null);
+        int concurrency = unionConcurrency > 0 ? unionConcurrency : branchQueries.size();
+        Flux<KeyRecord> union = Flux.defer(() -> {
+            // Records of merged branches are emitted serially, so the set is not accessed concurrently
+            DigestSet digests = new DigestSet();
+            return Flux.fromIterable(branchQueries)
+                .flatMap(branchQuery -> branchQuery, concurrency)
+                // Records already emitted before the error are skipped as duplicates
+                .onErrorResume(this::isSecIndexError, throwable -> {
+                    log.warn("Got secondary index related exception (resultCode: {}), " +
+                            "retrying union with filter expression only (scan operation)",
+                        ((AerospikeException) throwable).getResultCode());
+                    clearSecIndexFilterFlags(parentQualifier);
+                    return client.query(getQueryPolicy(parentQualifier, includeBins, queryHints),
+                        fallbackStatement);
+                })
+                .filter(keyRecord -> digests.add(keyRecord.key.digest));
+        });
+        return maxRecords > 0 ? union.take(maxRecords) : union;
+    }
+
+    private Publisher<KeyRecord> retryWithFilterExpressionOnly(Qualifier qualifier, Statement statement,
+                                                             @Nullable QueryPolicyHints queryHints) {
         // retry without sIndex filter
         if (qualifier != null) qualifier.setHasSecIndexFilter(false);
-        QueryPolicy localQueryPolicyFallback = getQueryPolicy(qualifier, true);
+        QueryPolicy localQueryPolicyFallback = getQueryPolicy(qualifier, true, queryHints);
         statement.setFilter(null);
         return client.query(localQueryPolicyFallback, statement);
     }
@@ -141,11 +400,150 @@ public class ReactorQueryEngine {
      * @return A Flux<KeyRecord> for counting
      */
     public Flux<KeyRecord> selectForCount(String namespace, String set, @Nullable Query query) {
+        return selectHeaders(namespace, set, query, getMaxRecords(getQueryHints(query)));
+    }
+
+    /**
+     * Select records filtered by a query to check whether any record matches it. Each node is asked for at most one
+     * record header, and the query is cancelled when the returned Flux is cancelled, e.g. by
+     * {@link Flux#hasElements()} after the first record.
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param query     {@link Query} for filtering results
+     * @return A Flux<KeyRecord> with at most one record per node
+     */
+    public Flux<KeyRecord> selectForExists(String namespace, String set, @Nullable Query query) {
+        // Max records are divided between nodes, so each node stops after its first matching record
+        return selectHeaders(namespace, set, query, Math.max(client.getAerospikeClient().getNodes().length, 1));
+    }
+
+    /**
+     * Count records filtered by a query. Only record headers are read, the query is split into partition ranges
+     * counted concurrently, and the result is not limited by max records of queries.
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param query     {@link Query} for filtering records
+     * @return A Mono<Long> emitting the amount of matching records
+     */
+    public Mono<Long> count(String namespace, String set, @Nullable Query query) {
+        if (isQueryCriteriaNotNull(query)) {
+            query.getCriteriaObject().setDataSettings(dataSettings);
+        }
+        QueryPolicyHints queryHints = getQueryHints(query);
+        List<QueryContext> unionContexts = queryContextBuilder.buildUnion(namespace, set, query, null);
+        if (unionContexts != null) {
+            return selectUnion(unionContexts, query.getCriteriaObject(), false, 0, queryHints).count();
+        }
         QueryContext queryContext = queryContextBuilder.build(namespace, set, query);
         Statement statement = queryContext.statement();
-        statement.setMaxRecords(queryMaxRecords);
+        applyRecordsPerSecond(statement, queryHints);
+        QueryPolicy localQueryPolicy = getQueryPolicy(queryContext.qualifier(), false, queryHints);
+
+        if (!scansEnabled && statement.getFilter() == null) {
+            return Mono.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
+        }
+
+        // At least one range per node, so that each node is read concurrently
+        List<PartitionFilter> ranges = PartitionRangesUtils.splitIntoRanges(
+            Math.max(partitionRanges, client.getAerospikeClient().getNodes().length));
+        int concurrency = partitionRangesConcurrency > 0 ? partitionRangesConcurrency : ranges.size();
+        Supplier<QueryPolicy> fallbackPolicy = queryContext.qualifier() != null && statement.getFilter() != null
+            ? getFallbackQueryPolicy(queryContext.qualifier(), false, queryHints)
+            : null;
+        Mono<Long> count = Flux.fromIterable(ranges)
+            .flatMap(partitionFilter -> {
+                Mono<Long> rangeCount = countPartitions(localQueryPolicy,
+                    PartitionRangesUtils.copyForRange(statement, ranges.size()), partitionFilter);
+                if (fallbackPolicy == null) return rangeCount;
+                return rangeCount.onErrorResume(this::isSecIndexError, throwable -> {
+                    log.warn("Got secondary index related exception (resultCode: {}), " +
+                            "counting partition range with filter expression only (scan operation)",
+                        ((AerospikeException) throwable).getResultCode());
+                    Statement fallbackStatement = PartitionRangesUtils.copyForRange(statement, ranges.size());
+                    fallbackStatement.setFilter(null);
+                    // Partition filter keeps the state of a query, so the retry uses a new one
+                    return countPartitions(fallbackPolicy.get(), fallbackStatement,
+                        PartitionFilter.range(partitionFilter.getBegin(), partitionFilter.getCount()));
+                });
+            }, concurrency)
+            .reduce(0L, Long::sum);
+        if (queryContextBuilder.getQueryPlanner() != null && statement.getFilter() != null
+            && queryContext.qualifier() == null) {
+            count = count.doOnNext(recordsCount -> queryContextBuilder.getQueryPlanner()
+                .recordExecution(namespace, set, statement.getFilter(), recordsCount));
+        }
+        return count;
+    }
+
+    /**
+     * Estimate the amount of records filtered by a query without running it. The amount of records in the set is used
+     * for a query without qualifiers, otherwise an estimation based on secondary index statistics, whether or not the
+     * query planner is enabled. Qualifiers evaluated as a filter expression are not taken into account, so the
+     * estimation is an upper bound in this case.
+     *
+     * @param namespace Namespace to store the data
+     * @param set       Set storing the data
+     * @param query     {@link Query} for filtering records
+     * @return A Mono<Long> emitting the estimated amount of matching records, or {@link QueryPlanner#UNKNOWN} if
+     * there is no estimation
+     */
+    public Mono<Long> estimateCount(String namespace, String set, @Nullable Query query) {
+        // Statistics are read using info commands, which are blocking
+        return Mono.fromCallable(() -> {
+            QueryPlan queryPlan = explain(namespace, set, query);
+            if (queryPlan.scan() && queryPlan.residualQualifier() == null) {
+                return Utils.getSetObjectsCount(client.getAerospikeClient(), namespace, set);
+            }
+            return queryPlan.estimatedRecords();
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Count records of a partition range in the listener without creating KeyRecord objects. The query is terminated
+     * on the next record when the count is cancelled.
+     */
+    private Mono<Long> countPartitions(QueryPolicy queryPolicy, Statement statement,
+                                       PartitionFilter partitionFilter) {
+        return Mono.create(sink -> {
+            AtomicLong count = new AtomicLong();
+            AtomicBoolean disposed = new AtomicBoolean();
+            sink.onDispose(() -> disposed.set(true));
+            client.getAerospikeClient().queryPartitions(null, new RecordSequenceListener() {
+                @Override
+                public void onRecord(Key key, Record record) throws AerospikeException {
+                    if (disposed.get()) throw new AerospikeException.QueryTerminated();
+                    count.incrementAndGet();
+                }
+
+                @Override
+                public void onSuccess() {
+                    sink.success(count.get());
+                }
+
+                @Override
+                public void onFailure(AerospikeException exception) {
+                    // Termination of a cancelled count is not an error
+                    if (!disposed.get()) sink.error(exception);
+                }
+            }, queryPolicy, statement, partitionFilter);
+        });
+    }
+
+    private Flux<KeyRecord> selectHeaders(String namespace, String set, @Nullable Query query, long maxRecords) {
+        QueryPolicyHints queryHints = getQueryHints(query);
+        List<QueryContext> unionContexts = queryContextBuilder.buildUnion(namespace, set, query, null);
+        if (unionContexts != null) {
+            return selectUnion(unionContexts, query.getCriteriaObject(), false, maxRecords, queryHints);
+        }
+
+        QueryContext queryContext = queryContextBuilder.build(namespace, set, query);
+        Statement statement = queryContext.statement();
+        statement.setMaxRecords(maxRecords);
+        applyRecordsPerSecond(statement, queryHints);
         Qualifier qualifier = isQueryCriteriaNotNull(query) ? query.getCriteriaObject() : null;
-        QueryPolicy localQueryPolicy = getQueryPolicy(qualifier, false);
+        QueryPolicy localQueryPolicy = getQueryPolicy(qualifier, false, queryHints);
 
         if (!scansEnabled && statement.getFilter() == null) {
             return Flux.error(new IllegalStateException(QueryEngine.SCANS_DISABLED_MESSAGE));
@@ -154,12 +552,33 @@ public class ReactorQueryEngine {
         return client.query(localQueryPolicy, statement);
     }
 
-    private QueryPolicy getQueryPolicy(Qualifier qualifier, boolean includeBins) {
-        QueryPolicy queryPolicy = new QueryPolicy(client.getQueryPolicyDefault());
+    private QueryPolicy getQueryPolicy(Qualifier qualifier, boolean includeBins,
+                                       @Nullable QueryPolicyHints queryHints) {
+        QueryPolicy defaultPolicy = client.getQueryPolicyDefault();
+        QueryPolicy queryPolicy = new QueryPolicy(queryHints == null
+            ? defaultPolicy
+            : queryHints.getQueryPolicy(defaultPolicy));
         queryPolicy.filterExp = qualifier != null && qualifier.hasFilterExpression()
             ? qualifier.getFilterExpression()
             : filterExpressionsBuilder.build(qualifier);
-        queryPolicy.includeBinData = includeBins;
+        // A hint can only exclude bins from queries reading them
+        queryPolicy.includeBinData = includeBins
+            && (queryHints == null || !Boolean.FALSE.equals(queryHints.getIncludeBinData()));
         return queryPolicy;
     }
+
+    private long getMaxRecords(@Nullable QueryPolicyHints queryHints) {
+        return queryHints == null ? queryMaxRecords : queryHints.getMaxRecords(queryMaxRecords);
+    }
+
+    @Nullable
+    private static QueryPolicyHints getQueryHints(@Nullable Query query) {
+        return query == null ? null : query.getQueryHints();
+    }
+
+    private static void applyRecordsPerSecond(Statement statement, @Nullable QueryPolicyHints queryHints) {
+        if (queryHints != null && queryHints.getRecordsPerSecond() != null) {
+            statement.setRecordsPerSecond(queryHints.getRecordsPerSecond());
+        }
+    }
 }
@@ -17,8 +17,7 @@ package org.springframework.data.aerospike.repository.query;
 
 import org.springframework.data.aerospike.core.AerospikeTemplate;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
-import org.springframework.data.aerospike.query.model.Index;
-import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.PartitionsCursor;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -32,7 +31,6 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.lang.Nullable;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -50,7 +48,6 @@ public class AerospikePartTreeQuery extends BaseAerospikePartTreeQuery<Stream<?>
 
     private final AerospikeTemplate template;
     private final String namespace;
-    private final Map<IndexKey, Index> indexCache;
 
     public AerospikePartTreeQuery(QueryMethod queryMethod,
                                   QueryMethodValueEvaluationContextAccessor evalContextAccessor,
@@ -60,7 +57,7 @@ public class AerospikePartTreeQuery extends BaseAerospikePartTreeQuery<Stream<?>
             template.getAerospikeConverter(), template.getServerVersionSupport(), template.getDSLParser());
         this.template = template;
         this.namespace = template.getNamespace();
-        this.indexCache = template.getIndexesCache();
+        compileQueryAnnotation(namespace, template.getIndexesCache());
         // each queryMethod here is AerospikeQueryMethod
     }
 
@@ -73,10 +70,19 @@ public class AerospikePartTreeQuery extends BaseAerospikePartTreeQuery<Stream<?>
         // Each queryMethod here is AerospikeQueryMethod
         AerospikeQueryMethod method = (AerospikeQueryMethod) queryMethod;
         if (method.hasQueryAnnotation()) {
-            return findByQueryAnnotation(method, targetClass, namespace, indexCache, parameters);
+            return findByQueryAnnotation(method, targetClass, namespace, template.getIndexesCache(),
+                parameters);
         }
         Query query = prepareQuery(parameters, accessor);
 
+        if (queryMethod.isScrollQuery()) {
+            // Scrolling is resumed from the partitions status of the previous window
+            PartitionsCursor cursor = getPartitionsCursor(accessor);
+            List<?> results = template.findUsingCursor(query, entityClass, targetClass, cursor,
+                getScrollWindowSize(query, accessor));
+            return createWindow(results, cursor);
+        }
+
         // queries with id equality have their own processing flow
         if (parameters != null && parameters.length > 0) {
             Qualifier criteria = query.getCriteriaObject();
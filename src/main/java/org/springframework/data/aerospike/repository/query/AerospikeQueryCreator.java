@@ -23,7 +23,6 @@ import org.springframework.data.aerospike.query.QueryParam;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.core.PropertyPath;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
@@ -38,9 +37,6 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.convertIfNecessary;
-import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.getFieldName;
-import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.getNestedPropertyPath;
-import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.isPojo;
 
 /**
  * @author Peter Milne
@@ -51,15 +47,23 @@ public class AerospikeQueryCreator extends AbstractQueryCreator<Query, CriteriaD
     private final AerospikeMappingContext context;
     private final MappingAerospikeConverter converter;
     private final ServerVersionSupport versionSupport;
-    private final boolean isCombinedQuery;
+    private final PartTreePlan plan;
 
     public AerospikeQueryCreator(PartTree tree, ParameterAccessor parameters, AerospikeMappingContext context,
                                  MappingAerospikeConverter converter, ServerVersionSupport versionSupport) {
-        super(tree, parameters);
+        this(PartTreePlan.of(tree, context), parameters, context, converter, versionSupport);
+    }
+
+    /**
+     * @param plan Precomputed plan of the query method, its {@link PartTree} is used to create the query
+     */
+    public AerospikeQueryCreator(PartTreePlan plan, ParameterAccessor parameters, AerospikeMappingContext context,
+                                 MappingAerospikeConverter converter, ServerVersionSupport versionSupport) {
+        super(plan.getTree(), parameters);
         this.context = context;
         this.converter = converter;
         this.versionSupport = versionSupport;
-        this.isCombinedQuery = tree.getParts().toList().size() > 1;
+        this.plan = plan;
     }
 
     @Override
@@ -86,12 +90,10 @@ public class AerospikeQueryCreator extends AbstractQueryCreator<Query, CriteriaD
 
     @Override
     protected CriteriaDefinition create(Part part, Iterator<Object> iterator) {
-        PersistentPropertyPath<AerospikePersistentProperty> path =
-            context.getPersistentPropertyPath(part.getProperty());
-        AerospikePersistentProperty property = path.getLeafProperty();
+        PartTreePlan.PartPlan partPlan = plan.getPartPlan(part, context);
         Iterator<Object> paramIterator = iterator;
 
-        if (isCombinedQuery && iterator.hasNext()) {
+        if (plan.isCombinedQuery() && iterator.hasNext()) {
             Object nextParam = iterator.next();
             if (!(nextParam instanceof QueryParam)) {
                 throw new IllegalArgumentException(String.format("%s: expected CombinedQueryParam, instead got %s",
@@ -100,92 +102,36 @@ public class AerospikeQueryCreator extends AbstractQueryCreator<Query, CriteriaD
             paramIterator = Arrays.stream(((QueryParam) nextParam).arguments()).iterator();
         }
 
-        return create(part, property, paramIterator);
+        return create(part, partPlan, paramIterator);
     }
 
-    private CriteriaDefinition create(Part part, AerospikePersistentProperty property, Iterator<?> parameters) {
-        FilterOperation filterOperation = getFilterOperation(part.getType());
-        List<Object> queryParameters = getQueryParameters(parameters, filterOperation);
+    private CriteriaDefinition create(Part part, PartTreePlan.PartPlan partPlan, Iterator<?> parameters) {
+        List<Object> queryParameters = getQueryParameters(parameters, partPlan.filterOperation());
         // In case of byte[] it does not get converted to an ArrayList, so queryParameters contain byte array
-        IAerospikeQueryCreator queryCreator = getQueryCreator(part, property, queryParameters, filterOperation);
+        IAerospikeQueryCreator queryCreator = getQueryCreator(part, partPlan, queryParameters);
 
         queryCreator.validate();
         return queryCreator.process();
     }
 
-    private IAerospikeQueryCreator getQueryCreator(Part part, AerospikePersistentProperty property,
-                                                   List<Object> queryParameters, FilterOperation filterOperation) {
-        String fieldName = getFieldName(part.getProperty().getSegment(), property);
-        IAerospikeQueryCreator queryCreator;
-
-        if (property.isIdProperty()) {
-            if (part.getType() == Part.Type.SIMPLE_PROPERTY) {
-                queryCreator = new IdQueryCreator(part, queryParameters);
-            } else {
-                queryCreator = new SimplePropertyQueryCreator(part, part.getProperty(), property, fieldName,
-                    queryParameters, filterOperation, converter, false, versionSupport);
-            }
-        } else if (property.isCollectionLike()) {
-            if (part.getProperty().hasNext()) { // a POJO field
-                PropertyPath nestedProperty = getNestedPropertyPath(part.getProperty());
-                queryCreator = new CollectionQueryCreator(part, nestedProperty, property, fieldName, queryParameters,
-                    filterOperation, converter, true, versionSupport);
-            } else {
-                queryCreator = new CollectionQueryCreator(part, part.getProperty(), property, fieldName,
-                    queryParameters, filterOperation, converter, false, versionSupport);
-            }
-        } else if (property.isMap()) {
-            if (part.getProperty().hasNext()) { // a POJO field
-                PropertyPath nestedProperty = getNestedPropertyPath(part.getProperty());
-                queryCreator = new MapQueryCreator(part, nestedProperty, property, fieldName, queryParameters,
-                    filterOperation, converter, versionSupport, true);
-            } else {
-                queryCreator = new MapQueryCreator(part, part.getProperty(), property, fieldName, queryParameters,
-                    filterOperation,
-                    converter, versionSupport, false);
-            }
-        } else {
-            if (part.getProperty().hasNext()) { // a POJO field (a simple property field or an inner POJO)
-                PropertyPath nestedProperty = getNestedPropertyPath(part.getProperty());
-                if (isPojo(nestedProperty.getType())) {
-                    queryCreator = new PojoQueryCreator(part, nestedProperty, property, fieldName, queryParameters,
-                        filterOperation, converter, true, versionSupport);
-                } else {
-                    queryCreator = new SimplePropertyQueryCreator(part, nestedProperty, property, fieldName,
-                        queryParameters, filterOperation, converter, true, versionSupport);
-                }
-            } else if (isPojo(part.getProperty().getType())) { // a first level POJO or a Map
-                queryCreator = new PojoQueryCreator(part, part.getProperty(), property, fieldName, queryParameters,
-                    filterOperation, converter, false, versionSupport);
-            } else {
-                queryCreator = new SimplePropertyQueryCreator(part, part.getProperty(), property, fieldName,
-                    queryParameters, filterOperation, converter, false, versionSupport);
-            }
-        }
-
-        return queryCreator;
-    }
-
-    private FilterOperation getFilterOperation(Part.Type type) {
-        return switch (type) {
-            case AFTER, GREATER_THAN -> FilterOperation.GT;
-            case GREATER_THAN_EQUAL -> FilterOperation.GTEQ;
-            case BEFORE, LESS_THAN -> FilterOperation.LT;
-            case LESS_THAN_EQUAL -> FilterOperation.LTEQ;
-            case BETWEEN -> FilterOperation.BETWEEN;
-            case LIKE, REGEX -> FilterOperation.LIKE;
-            case STARTING_WITH -> FilterOperation.STARTS_WITH;
-            case ENDING_WITH -> FilterOperation.ENDS_WITH;
-            case CONTAINING -> FilterOperation.CONTAINING;
-            case NOT_CONTAINING -> FilterOperation.NOT_CONTAINING;
-            case WITHIN -> FilterOperation.GEO_WITHIN;
-            case SIMPLE_PROPERTY, TRUE, FALSE -> FilterOperation.EQ;
-            case NEGATING_SIMPLE_PROPERTY -> FilterOperation.NOTEQ;
-            case IN -> FilterOperation.IN;
-            case NOT_IN -> FilterOperation.NOT_IN;
-            case EXISTS, IS_NOT_NULL -> FilterOperation.IS_NOT_NULL;
-            case IS_NULL -> FilterOperation.IS_NULL;
-            default -> throw new IllegalArgumentException(String.format("Unsupported keyword '%s'", type));
+    private IAerospikeQueryCreator getQueryCreator(Part part, PartTreePlan.PartPlan partPlan,
+                                                   List<Object> queryParameters) {
+        PropertyPath propertyPath = partPlan.propertyPath();
+        AerospikePersistentProperty property = partPlan.property();
+        String fieldName = partPlan.fieldName();
+        FilterOperation filterOperation = partPlan.filterOperation();
+        boolean isNested = partPlan.isNested();
+
+        return switch (partPlan.creatorType()) {
+            case ID -> new IdQueryCreator(part, queryParameters);
+            case COLLECTION -> new CollectionQueryCreator(part, propertyPath, property, fieldName, queryParameters,
+                filterOperation, converter, isNested, versionSupport);
+            case MAP -> new MapQueryCreator(part, propertyPath, property, fieldName, queryParameters,
+                filterOperation, converter, versionSupport, isNested);
+            case POJO -> new PojoQueryCreator(part, propertyPath, property, fieldName, queryParameters,
+                filterOperation, converter, isNested, versionSupport);
+            case SIMPLE_PROPERTY -> new SimplePropertyQueryCreator(part, propertyPath, property, fieldName,
+                queryParameters, filterOperation, converter, isNested, versionSupport);
         };
     }
 
@@ -22,6 +22,7 @@ import org.springframework.data.core.PropertyPath;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 import java.util.Arrays;
@@ -342,7 +343,36 @@ public class AerospikeQueryCreatorUtils {
                                                       String indexToUse,
                                                       Map<IndexKey, Index> indexCache, Object[] parameters,
                                                       DSLParser dslParser) {
-        // Map cached indexes to DSLParser input
+        return parseDslExpression(dslExpression, getDslIndexContext(namespace, indexToUse, indexCache), parameters,
+            dslParser);
+    }
+
+    /**
+     * Parse DSL expression by providing DSL string, index context and placeholder values to {@link DSLParser}
+     *
+     * @param dslExpression DSL string to use
+     * @param indexContext  Secondary indexes to choose from, can be null
+     * @param parameters    Values to replace DSL expression placeholders with
+     * @param dslParser     {@link DSLParser} instance
+     * @return {@link ParsedExpression}
+     */
+    static ParsedExpression parseDslExpression(String dslExpression, @Nullable IndexContext indexContext,
+                                               Object[] parameters, DSLParser dslParser) {
+        return dslParser.parseExpression(ExpressionContext.of(dslExpression, PlaceholderValues.of(parameters)),
+            indexContext);
+    }
+
+    /**
+     * Map cached secondary indexes to {@link DSLParser} input
+     *
+     * @param namespace  Namespace to use
+     * @param indexToUse Explicitly given secondary index name
+     * @param indexCache Cache of existing secondary indexes
+     * @return {@link IndexContext}, or null if there are no secondary indexes
+     */
+    @Nullable
+    static IndexContext getDslIndexContext(String namespace, @Nullable String indexToUse,
+                                           Map<IndexKey, Index> indexCache) {
         List<com.aerospike.dsl.Index> indexes = indexCache.values().stream().map(value ->
                 com.aerospike.dsl.Index.builder()
                     .name(value.getName())
@@ -352,14 +382,12 @@ public class AerospikeQueryCreatorUtils {
                     .binValuesRatio(value.getBinValuesRatio())
                     .build())
             .toList();
+        if (indexes.isEmpty()) {
+            return null;
+        }
 
         // Use explicitly given secondary index if it is provided
         List<com.aerospike.dsl.Index> singleIndexList = indexes.stream().filter(idx -> areNamesEqual(idx, indexToUse)).toList();
-
-        // Parse the given expression
-        return dslParser.parseExpression(
-            ExpressionContext.of(dslExpression, PlaceholderValues.of(parameters)),
-            indexes.isEmpty() ? null : IndexContext.of(namespace, singleIndexList.isEmpty() ? indexes : singleIndexList)
-        );
+        return IndexContext.of(namespace, singleIndexList.isEmpty() ? indexes : singleIndexList);
     }
 }
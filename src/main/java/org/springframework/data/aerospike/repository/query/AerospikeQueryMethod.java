@@ -2,6 +2,7 @@ package org.springframework.data.aerospike.repository.query;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.aerospike.annotation.Query;
+import org.springframework.data.aerospike.annotation.QueryHints;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
@@ -18,6 +19,8 @@ public class AerospikeQueryMethod extends QueryMethod {
 
     private final Map<Class<? extends Annotation>, Optional<Annotation>> annotationCache;
     private final Method method;
+    @Nullable
+    private final QueryPolicyHints queryHints;
 
     /**
      * Creates a new {@link QueryMethod} from the given parameters. Looks up the correct query to use for following
@@ -31,6 +34,10 @@ public class AerospikeQueryMethod extends QueryMethod {
         super(method, metadata, factory, null);
         this.method = method;
         this.annotationCache = new ConcurrentReferenceHashMap<>();
+        // Hints are shared by all queries of the method, so that their query policy is built once
+        this.queryHints = lookupInAnnotationCache(QueryHints.class)
+            .map(QueryPolicyHints::from)
+            .orElse(null);
     }
 
     @SuppressWarnings("unchecked")
@@ -79,4 +86,12 @@ public class AerospikeQueryMethod extends QueryMethod {
             .map(Query::indexToUse) //
             .filter(StringUtils::hasText);
     }
+
+    /**
+     * Returns query policy hints declared in the {@link QueryHints} annotation or {@literal null}.
+     */
+    @Nullable
+    QueryPolicyHints getQueryHints() {
+        return queryHints;
+    }
 }
@@ -15,19 +15,20 @@
  */
 package org.springframework.data.aerospike.repository.query;
 
-import com.aerospike.client.exp.Expression;
-import com.aerospike.client.query.Filter;
-import com.aerospike.dsl.ParsedExpression;
 import com.aerospike.dsl.api.DSLParser;
-import com.aerospike.dsl.client.exp.Exp;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.query.PartitionsCursor;
 import org.springframework.data.aerospike.query.model.Index;
 import org.springframework.data.aerospike.query.model.IndexKey;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.aerospike.server.version.ServerVersionSupport;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.expression.ValueEvaluationContext;
 import org.springframework.data.expression.ValueEvaluationContextProvider;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -39,6 +40,7 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Constructor;
@@ -46,8 +48,6 @@ import java.util.List;
 import java.util.Map;
 
 import static org.springframework.data.aerospike.core.QualifierUtils.excludeIdQualifier;
-import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.parseDslExpression;
-import static org.springframework.data.aerospike.util.Utils.getNewFilter;
 
 /**
  * @author Peter Milne
@@ -56,14 +56,20 @@ import static org.springframework.data.aerospike.util.Utils.getNewFilter;
  */
 public abstract class BaseAerospikePartTreeQuery<T> implements RepositoryQuery {
 
+    protected static final String PARTITIONS_CURSOR_KEY = "partitionsCursor";
+
     protected final QueryMethod queryMethod;
     protected final Class<?> entityClass;
     private final QueryMethodValueEvaluationContextAccessor evaluationContextAccessor;
-    private final Class<? extends AbstractQueryCreator<?, ?>> queryCreator;
     private final AerospikeMappingContext context;
     private final MappingAerospikeConverter converter;
     private final ServerVersionSupport versionSupport;
     private final DSLParser dslParser;
+    @Nullable
+    private final PartTreePlan partTreePlan;
+    private final Constructor<? extends AbstractQueryCreator<?, ?>> planQueryCreatorConstructor;
+    private final Constructor<? extends AbstractQueryCreator<?, ?>> treeQueryCreatorConstructor;
+    private volatile CompiledDslExpression compiledDslExpression;
 
     protected BaseAerospikePartTreeQuery(QueryMethod queryMethod,
                                          QueryMethodValueEvaluationContextAccessor evalContextAccessor,
@@ -73,12 +79,36 @@ public abstract class BaseAerospikePartTreeQuery<T> implements RepositoryQuery {
                                          DSLParser dslParser) {
         this.queryMethod = queryMethod;
         this.evaluationContextAccessor = evalContextAccessor;
-        this.queryCreator = queryCreator;
         this.entityClass = queryMethod.getEntityInformation().getJavaType();
         this.context = context;
         this.converter = converter;
         this.versionSupport = versionSupport;
         this.dslParser = dslParser;
+        // Query method name is parsed once, @Query annotated methods are not derived from the name
+        this.partTreePlan = queryMethod instanceof AerospikeQueryMethod aerospikeQueryMethod
+            && aerospikeQueryMethod.hasQueryAnnotation()
+            ? null
+            : createPartTreePlan(queryMethod.getName(), entityClass, context);
+        this.planQueryCreatorConstructor = ClassUtils.getConstructorIfAvailable(queryCreator, PartTreePlan.class,
+            ParameterAccessor.class, AerospikeMappingContext.class, MappingAerospikeConverter.class,
+            ServerVersionSupport.class);
+        this.treeQueryCreatorConstructor = ClassUtils.getConstructorIfAvailable(queryCreator, PartTree.class,
+            ParameterAccessor.class, AerospikeMappingContext.class, MappingAerospikeConverter.class,
+            ServerVersionSupport.class);
+    }
+
+    /**
+     * Returns the plan of a derived query method, or null if the method name cannot be parsed. In this case the name
+     * is parsed on each invocation, so that the error is thrown when the method is called, as without a plan
+     */
+    @Nullable
+    private static PartTreePlan createPartTreePlan(String methodName, Class<?> entityClass,
+                                                   AerospikeMappingContext context) {
+        try {
+            return PartTreePlan.of(new PartTree(methodName, entityClass), context);
+        } catch (RuntimeException e) {
+            return null;
+        }
     }
 
     @Override
@@ -96,7 +126,9 @@ public abstract class BaseAerospikePartTreeQuery<T> implements RepositoryQuery {
      * @return A new {@link Query} object
      */
     protected Query prepareQuery(Object[] parameters, ParametersParameterAccessor accessor) {
-        PartTree tree = new PartTree(queryMethod.getName(), entityClass);
+        PartTree tree = partTreePlan != null
+            ? partTreePlan.getTree()
+            : new PartTree(queryMethod.getName(), entityClass);
         Query baseQuery = createQuery(accessor, tree);
 
         Qualifier criteria = baseQuery.getCriteriaObject();
@@ -115,6 +147,7 @@ public abstract class BaseAerospikePartTreeQuery<T> implements RepositoryQuery {
         }
 
         query.setDistinct(tree.isDistinct());
+        query.setQueryHints(getQueryHints());
 
         if (accessor.getSort().isSorted()) {
             query.setSort(accessor.getSort());
@@ -140,6 +173,13 @@ public abstract class BaseAerospikePartTreeQuery<T> implements RepositoryQuery {
         return query;
     }
 
+    @Nullable
+    private QueryPolicyHints getQueryHints() {
+        return queryMethod instanceof AerospikeQueryMethod aerospikeQueryMethod
+            ? aerospikeQueryMethod.getQueryHints()
+            : null;
+    }
+
     /**
      * Creates a {@link Query} instance using a {@link AbstractQueryCreator}. This method instantiates the query creator
      * with the necessary components and then delegates to it to create the actual query.
@@ -149,11 +189,13 @@ public abstract class BaseAerospikePartTreeQuery<T> implements RepositoryQuery {
      * @return A {@link Query} object constructed by the query creator
      */
     public Query createQuery(ParametersParameterAccessor accessor, PartTree tree) {
-        Constructor<? extends AbstractQueryCreator<?, ?>> constructor = ClassUtils
-            .getConstructorIfAvailable(queryCreator, PartTree.class, ParameterAccessor.class,
-                AerospikeMappingContext.class, MappingAerospikeConverter.class, ServerVersionSupport.class);
-        return (Query) BeanUtils.instantiateClass(constructor, tree, accessor, context, converter, versionSupport)
-            .createQuery();
+        // Use the precomputed plan when the query creator supports it and the tree is the one of this query method
+        if (planQueryCreatorConstructor != null && partTreePlan != null && partTreePlan.getTree() == tree) {
+            return (Query) BeanUtils.instantiateClass(planQueryCreatorConstructor, partTreePlan, accessor, context,
+                converter, versionSupport).createQuery();
+        }
+        return (Query) BeanUtils.instantiateClass(treeQueryCreatorConstructor, tree, accessor, context, converter,
+            versionSupport).createQuery();
     }
 
     /**
@@ -248,31 +290,105 @@ public abstract class BaseAerospikePartTreeQuery<T> implements RepositoryQuery {
         newQuery.setOffset(query.getOffset());
         newQuery.setRows(query.getRows());
         newQuery.setDistinct(query.isDistinct());
+        newQuery.setQueryHints(query.getQueryHints());
         return newQuery;
     }
 
+    /**
+     * Resolves the {@link PartitionsCursor} to start a scroll query from. An initial scroll position starts from the
+     * beginning, other positions must be taken from a {@link Window} previously returned by a scroll query.
+     *
+     * @param accessor The accessor for method parameters, providing access to scroll position
+     * @return A {@link PartitionsCursor} to start the query from
+     * @throws IllegalArgumentException if the scroll position does not contain a partitions cursor
+     */
+    protected static PartitionsCursor getPartitionsCursor(ParameterAccessor accessor) {
+        ScrollPosition position = accessor.getScrollPosition();
+        if (position == null || position.isInitial()) {
+            return PartitionsCursor.initial();
+        }
+        if (position instanceof KeysetScrollPosition keysetPosition
+            && keysetPosition.getKeys().get(PARTITIONS_CURSOR_KEY) instanceof String token) {
+            return PartitionsCursor.fromToken(token);
+        }
+        throw new IllegalArgumentException("Scroll position must be either initial or taken from the last element " +
+            "of a previously returned window");
+    }
+
+    /**
+     * Determines the size of a window returned by a scroll query, either using "first"/"top" keyword in the query
+     * method name or using a {@link Limit} parameter.
+     *
+     * @param query    The prepared {@link Query}
+     * @param accessor The accessor for method parameters, providing access to limit
+     * @return Window size
+     * @throws IllegalArgumentException if the scroll query is not limited
+     */
+    protected static int getScrollWindowSize(Query query, ParameterAccessor accessor) {
+        if (query.getRows() > 0) {
+            return query.getRows();
+        }
+        Limit limit = accessor.getLimit();
+        if (limit.isLimited()) {
+            return limit.max();
+        }
+        throw new IllegalArgumentException("Scroll query must be limited using \"first\"/\"top\" keyword " +
+            "or a Limit parameter");
+    }
+
+    /**
+     * Creates a {@link Window} for the results of a scroll query. Only the position of the last element can be used to
+     * continue scrolling, it contains the encoded partitions cursor.
+     *
+     * @param results The results of the current window
+     * @param cursor  The {@link PartitionsCursor} pointing to the beginning of the next window
+     * @return A new {@link Window}
+     */
+    protected static <E> Window<E> createWindow(List<E> results, PartitionsCursor cursor) {
+        String token = cursor.toToken();
+        return Window.from(results, index -> {
+            if (index != results.size() - 1) {
+                throw new UnsupportedOperationException("Only the last element of a window can be used " +
+                    "to continue scrolling");
+            }
+            return ScrollPosition.forward(Map.of(PARTITIONS_CURSOR_KEY, token));
+        }, !cursor.isDone());
+    }
+
     protected abstract T findByQuery(Query query, Class<?> targetClass);
 
+    /**
+     * Compiles the DSL expression of a {@link org.springframework.data.aerospike.annotation.Query} annotated method
+     * for the current secondary indexes when the query method is created. If the expression cannot be compiled, it is
+     * compiled again on invocation, so that the error is thrown when the method is called
+     */
+    protected void compileQueryAnnotation(String namespace, Map<IndexKey, Index> indexCache) {
+        if (queryMethod instanceof AerospikeQueryMethod aerospikeQueryMethod
+            && aerospikeQueryMethod.hasQueryAnnotation()) {
+            CompiledDslExpression expression = new CompiledDslExpression(aerospikeQueryMethod.getQueryAnnotation(),
+                namespace, aerospikeQueryMethod.getQueryAnnotationIndexToUse(),
+                queryMethod.getParameters().getNumberOfParameters() > 0, dslParser);
+            try {
+                expression.compile(indexCache);
+            } catch (RuntimeException e) {
+                // Compiled again on invocation
+            }
+            compiledDslExpression = expression;
+        }
+    }
+
     protected T findByQueryAnnotation(AerospikeQueryMethod queryMethod, Class<?> targetClass, String namespace,
                                       Map<IndexKey, Index> indexCache, Object[] parameters) {
+        CompiledDslExpression expression = compiledDslExpression;
+        if (expression == null) {
+            expression = new CompiledDslExpression(queryMethod.getQueryAnnotation(), namespace,
+                queryMethod.getQueryAnnotationIndexToUse(), parameters != null && parameters.length > 0, dslParser);
+            compiledDslExpression = expression;
+        }
 
-        // Parse the given expression
-        ParsedExpression expr =
-            parseDslExpression(queryMethod.getQueryAnnotation(), namespace, queryMethod.getQueryAnnotationIndexToUse(),
-                indexCache, parameters, dslParser);
-
-        // Create the query
-        Filter filter = getNewFilter(expr.getResult().getFilter());
-        Exp dslExp = expr.getResult().getExp();
-        Expression expression = dslExp == null
-            ? null
-            : Expression.fromBase64(com.aerospike.dsl.client.exp.Exp.build(dslExp).getBase64());
-        Query query = new Query(
-            Qualifier.filterBuilder()
-                .setFilter(filter)
-                .setExpression(expression)
-                .build()
-        );
+        // Bind parameters to the expression compiled for the current indexes
+        Query query = new Query(expression.bind(indexCache, parameters));
+        query.setQueryHints(getQueryHints());
         return findByQuery(query, targetClass);
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.repository.query;
+
+import com.aerospike.client.exp.Expression;
+import com.aerospike.client.query.Filter;
+import com.aerospike.dsl.IndexContext;
+import com.aerospike.dsl.ParsedExpression;
+import com.aerospike.dsl.PlaceholderValues;
+import com.aerospike.dsl.api.DSLParser;
+import com.aerospike.dsl.client.exp.Exp;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.getDslIndexContext;
+import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.parseDslExpression;
+import static org.springframework.data.aerospike.util.Utils.getNewFilter;
+
+/**
+ * DSL expression of a {@link org.springframework.data.aerospike.annotation.Query} annotated method, parsed once and
+ * reused for subsequent invocations by binding new placeholder values.
+ * <p>
+ * The expression is compiled for the secondary indexes cache when the query method is created, and again when the
+ * cache is refreshed, as the chosen secondary index Filter depends on the existing indexes. Expressions without
+ * placeholders are parsed at this point and keep the resulting Filter and filter expression. Expressions with
+ * placeholders keep the secondary indexes mapped to the parser input, and are parsed on the first invocation, as the
+ * chosen secondary index Filter depends on the types of placeholder values.
+ */
+final class CompiledDslExpression {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final String dslExpression;
+    private final String namespace;
+    @Nullable
+    private final String indexToUse;
+    private final boolean hasPlaceholders;
+    private final DSLParser dslParser;
+    private volatile Compiled compiled;
+
+    private record Compiled(Map<IndexKey, Index> indexCache, @Nullable IndexContext indexContext,
+                            @Nullable ParsedExpression parsedExpression, @Nullable FilterWithExpression constant) {
+
+    }
+
+    private record FilterWithExpression(@Nullable Filter filter, @Nullable Expression expression) {
+
+    }
+
+    CompiledDslExpression(String dslExpression, String namespace, @Nullable String indexToUse,
+                          boolean hasPlaceholders, DSLParser dslParser) {
+        this.dslExpression = dslExpression;
+        this.namespace = namespace;
+        this.indexToUse = indexToUse;
+        this.hasPlaceholders = hasPlaceholders;
+        this.dslParser = dslParser;
+    }
+
+    /**
+     * Compile the expression for the given secondary indexes cache
+     *
+     * @param indexCache Current cache of secondary indexes
+     */
+    void compile(Map<IndexKey, Index> indexCache) {
+        IndexContext indexContext = getDslIndexContext(namespace, indexToUse, indexCache);
+        if (hasPlaceholders) {
+            compiled = new Compiled(indexCache, indexContext, null, null);
+        } else {
+            ParsedExpression parsedExpression = parseDslExpression(dslExpression, indexContext, NO_PARAMETERS,
+                dslParser);
+            var result = parsedExpression.getResult();
+            compiled = new Compiled(indexCache, indexContext, parsedExpression,
+                convert(result.getFilter(), result.getExp()));
+        }
+    }
+
+    /**
+     * Create a qualifier with secondary index Filter and filter expression for the given placeholder values
+     *
+     * @param indexCache Current cache of secondary indexes
+     * @param parameters Values to replace placeholders with
+     * @return {@link Qualifier} to be used in a query
+     */
+    Qualifier bind(Map<IndexKey, Index> indexCache, Object[] parameters) {
+        Compiled current = compiled;
+        // The cache is replaced by a new instance on each refresh
+        if (current == null || current.indexCache() != indexCache) {
+            compile(indexCache);
+            current = compiled;
+        }
+        if (current.constant() != null) {
+            return toQualifier(current.constant());
+        }
+        if (current.parsedExpression() == null) {
+            ParsedExpression parsedExpression = parseDslExpression(dslExpression, current.indexContext(), parameters,
+                dslParser);
+            compiled = new Compiled(indexCache, current.indexContext(), parsedExpression, null);
+            var result = parsedExpression.getResult();
+            return toQualifier(convert(result.getFilter(), result.getExp()));
+        }
+        var result = current.parsedExpression().getResult(PlaceholderValues.of(parameters));
+        return toQualifier(convert(result.getFilter(), result.getExp()));
+    }
+
+    private static FilterWithExpression convert(com.aerospike.dsl.client.query.Filter dslFilter, Exp dslExp) {
+        Filter filter = getNewFilter(dslFilter);
+        // Serialized expression is passed as is, without encoding it as base64 and decoding it back
+        Expression expression = dslExp == null ? null : Expression.fromBytes(Exp.build(dslExp).getBytes());
+        return new FilterWithExpression(filter, expression);
+    }
+
+    private static Qualifier toQualifier(FilterWithExpression filterWithExpression) {
+        // A new qualifier for each query, as qualifiers are modified during query execution
+        return Qualifier.filterBuilder()
+            .setFilter(filterWithExpression.filter())
+            .setExpression(filterWithExpression.expression())
+            .build();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.repository.query;
+
+import lombok.Getter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.mapping.AerospikePersistentProperty;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.getFieldName;
+import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.getNestedPropertyPath;
+import static org.springframework.data.aerospike.repository.query.AerospikeQueryCreatorUtils.isPojo;
+
+/**
+ * Immutable plan of a derived query method: the parsed {@link PartTree} and, for each of its parts, the resolved
+ * persistent property, field name, {@link FilterOperation} and the type of {@link IAerospikeQueryCreator} to use.
+ * <p>
+ * The plan is created once per repository method, so that each invocation only binds parameter values. Parts that
+ * cannot be resolved (e.g. using an unsupported keyword) are not planned, they are resolved on each invocation, so
+ * that the error is thrown when the method is called and not at repository creation.
+ */
+public final class PartTreePlan {
+
+    @Getter
+    private final PartTree tree;
+    @Getter
+    private final boolean combinedQuery;
+    private final Map<Part, PartPlan> partPlans;
+
+    enum CreatorType {
+        ID, SIMPLE_PROPERTY, COLLECTION, MAP, POJO
+    }
+
+    /**
+     * Resolved metadata of a single part of the query
+     */
+    record PartPlan(AerospikePersistentProperty property, PropertyPath propertyPath, String fieldName,
+                    FilterOperation filterOperation, CreatorType creatorType, boolean isNested) {
+
+    }
+
+    private PartTreePlan(PartTree tree, Map<Part, PartPlan> partPlans) {
+        this.tree = tree;
+        this.combinedQuery = tree.getParts().stream().count() > 1;
+        this.partPlans = partPlans;
+    }
+
+    /**
+     * Create a plan for the given {@link PartTree}.
+     *
+     * @param tree    Parsed query method name
+     * @param context Mapping context to resolve persistent properties
+     * @return A new {@link PartTreePlan}
+     */
+    public static PartTreePlan of(PartTree tree, AerospikeMappingContext context) {
+        Map<Part, PartPlan> partPlans = new IdentityHashMap<>();
+        tree.getParts().forEach(part -> {
+            try {
+                partPlans.put(part, createPartPlan(part, context));
+            } catch (RuntimeException e) {
+                // Left to be resolved on invocation
+            }
+        });
+        return new PartTreePlan(tree, Collections.unmodifiableMap(partPlans));
+    }
+
+    /**
+     * Get the resolved metadata of the given part. Parts that do not belong to the planned tree are resolved on
+     * demand.
+     */
+    PartPlan getPartPlan(Part part, AerospikeMappingContext context) {
+        PartPlan partPlan = partPlans.get(part);
+        return partPlan != null ? partPlan : createPartPlan(part, context);
+    }
+
+    static PartPlan createPartPlan(Part part, AerospikeMappingContext context) {
+        AerospikePersistentProperty property = context.getPersistentPropertyPath(part.getProperty())
+            .getLeafProperty();
+        String fieldName = getFieldName(part.getProperty().getSegment(), property);
+        FilterOperation filterOperation = getFilterOperation(part.getType());
+        boolean isNested = part.getProperty().hasNext();
+        PropertyPath propertyPath = isNested ? getNestedPropertyPath(part.getProperty()) : part.getProperty();
+
+        CreatorType creatorType;
+        if (property.isIdProperty()) {
+            creatorType = part.getType() == Part.Type.SIMPLE_PROPERTY ? CreatorType.ID : CreatorType.SIMPLE_PROPERTY;
+            // id property is always queried as a first level field
+            propertyPath = part.getProperty();
+            isNested = false;
+        } else if (property.isCollectionLike()) {
+            creatorType = CreatorType.COLLECTION;
+        } else if (property.isMap()) {
+            creatorType = CreatorType.MAP;
+        } else if (isPojo(propertyPath.getType())) { // a first level POJO or a Map, or an inner POJO
+            creatorType = CreatorType.POJO;
+        } else {
+            creatorType = CreatorType.SIMPLE_PROPERTY;
+        }
+        return new PartPlan(property, propertyPath, fieldName, filterOperation, creatorType, isNested);
+    }
+
+    private static FilterOperation getFilterOperation(Part.Type type) {
+        return switch (type) {
+            case AFTER, GREATER_THAN -> FilterOperation.GT;
+            case GREATER_THAN_EQUAL -> FilterOperation.GTEQ;
+            case BEFORE, LESS_THAN -> FilterOperation.LT;
+            case LESS_THAN_EQUAL -> FilterOperation.LTEQ;
+            case BETWEEN -> FilterOperation.BETWEEN;
+            case LIKE, REGEX -> FilterOperation.LIKE;
+            case STARTING_WITH -> FilterOperation.STARTS_WITH;
+            case ENDING_WITH -> FilterOperation.ENDS_WITH;
+            case CONTAINING -> FilterOperation.CONTAINING;
+            case NOT_CONTAINING -> FilterOperation.NOT_CONTAINING;
+            case WITHIN -> FilterOperation.GEO_WITHIN;
+            case SIMPLE_PROPERTY, TRUE, FALSE -> FilterOperation.EQ;
+            case NEGATING_SIMPLE_PROPERTY -> FilterOperation.NOTEQ;
+            case IN -> FilterOperation.IN;
+            case NOT_IN -> FilterOperation.NOT_IN;
+            case EXISTS, IS_NOT_NULL -> FilterOperation.IS_NOT_NULL;
+            case IS_NULL -> FilterOperation.IS_NULL;
+            default -> throw new IllegalArgumentException(String.format("Unsupported keyword '%s'", type));
+        };
+    }
+}
@@ -20,6 +20,7 @@ import lombok.Setter;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Peter Milne
@@ -38,6 +39,12 @@ public class Query {
     private Sort sort;
     @Setter
     private boolean isDistinct;
+    /**
+     * Query policy hints of this query, {@literal null} means the default query policy and the configured max records
+     */
+    @Setter
+    @Nullable
+    private QueryPolicyHints queryHints;
 
     /**
      * Creates new instance of {@link Query} with given criteria.
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.aerospike.repository.query;
+
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.Replica;
+import com.aerospike.client.query.QueryDuration;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.aerospike.annotation.QueryHints;
+import org.springframework.lang.Nullable;
+
+/**
+ * Query policy hints of a {@link Query}, overriding the client's default query policy and the configured max records
+ * for this query only. Hints that are {@literal null} are not applied.
+ * <p>
+ * Instances are immutable and cache the query policy built from the default one, so an instance should be reused
+ * for queries with the same hints, e.g. it is created once per repository query method annotated with
+ * {@link QueryHints}.
+ */
+@Getter
+public class QueryPolicyHints {
+
+    @Nullable
+    private final Integer socketTimeout;
+    @Nullable
+    private final Integer totalTimeout;
+    @Nullable
+    private final Long maxRecords;
+    @Nullable
+    private final Integer recordsPerSecond;
+    @Nullable
+    private final Replica replica;
+    @Nullable
+    private final Boolean includeBinData;
+    @Nullable
+    private final QueryDuration expectedDuration;
+    @Getter(AccessLevel.NONE)
+    private volatile CachedPolicy cachedPolicy;
+
+    private record CachedPolicy(QueryPolicy defaultPolicy, QueryPolicy policy) {
+
+    }
+
+    @Builder
+    private QueryPolicyHints(@Nullable Integer socketTimeout, @Nullable Integer totalTimeout,
+                             @Nullable Long maxRecords, @Nullable Integer recordsPerSecond, @Nullable Replica replica,
+                             @Nullable Boolean includeBinData, @Nullable QueryDuration expectedDuration) {
+        this.socketTimeout = socketTimeout;
+        this.totalTimeout = totalTimeout;
+        this.maxRecords = maxRecords;
+        this.recordsPerSecond = recordsPerSecond;
+        this.replica = replica;
+        this.includeBinData = includeBinData;
+        this.expectedDuration = expectedDuration;
+    }
+
+    /**
+     * Create hints from the given annotation, attributes with default values are not set
+     *
+     * @param annotation Query hints annotation of a repository query method
+     * @return New {@link QueryPolicyHints}
+     */
+    public static QueryPolicyHints from(QueryHints annotation) {
+        return QueryPolicyHints.builder()
+            .socketTimeout(annotation.socketTimeout() < 0 ? null : annotation.socketTimeout())
+            .totalTimeout(annotation.totalTimeout() < 0 ? null : annotation.totalTimeout())
+            .maxRecords(annotation.maxRecords() < 0 ? null : annotation.maxRecords())
+            .recordsPerSecond(annotation.recordsPerSecond() < 0 ? null : annotation.recordsPerSecond())
+            .replica(single(annotation.replica(), "replica"))
+            .includeBinData(single(toObjects(annotation.includeBinData()), "includeBinData"))
+            .expectedDuration(single(annotation.expectedDuration(), "expectedDuration"))
+            .build();
+    }
+
+    /**
+     * Returns the given default query policy with the timeouts, replica and expected duration hints applied. The
+     * result is cached while the same default policy is given, so it must not be modified.
+     *
+     * @param defaultPolicy Default query policy of the client
+     * @return Query policy with hints applied, to be copied before modifying
+     */
+    public QueryPolicy getQueryPolicy(QueryPolicy defaultPolicy) {
+        CachedPolicy cached = cachedPolicy;
+        if (cached == null || cached.defaultPolicy() != defaultPolicy) {
+            cached = new CachedPolicy(defaultPolicy, applyTo(new QueryPolicy(defaultPolicy)));
+            cachedPolicy = cached;
+        }
+        return cached.policy();
+    }
+
+    /**
+     * Returns max records of a query, either the hint or the given configured value
+     */
+    public long getMaxRecords(long configuredMaxRecords) {
+        return maxRecords == null ? configuredMaxRecords : maxRecords;
+    }
+
+    private QueryPolicy applyTo(QueryPolicy queryPolicy) {
+        if (socketTimeout != null) queryPolicy.socketTimeout = socketTimeout;
+        if (totalTimeout != null) queryPolicy.totalTimeout = totalTimeout;
+        if (replica != null) queryPolicy.replica = replica;
+        if (expectedDuration != null) queryPolicy.expectedDuration = expectedDuration;
+        return queryPolicy;
+    }
+
+    private static Boolean[] toObjects(boolean[] values) {
+        Boolean[] result = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    @Nullable
+    private static <V> V single(V[] values, String attributeName) {
+        if (values.length > 1) {
+            throw new IllegalArgumentException(String.format(
+                "@QueryHints attribute %s expects at most one value, got %d", attributeName, values.length));
+        }
+        return values.length == 0 ? null : values[0];
+    }
+}
@@ -17,8 +17,7 @@ package org.springframework.data.aerospike.repository.query;
 
 import org.springframework.data.aerospike.core.ReactiveAerospikeTemplate;
 import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
-import org.springframework.data.aerospike.query.model.Index;
-import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.PartitionsCursor;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,7 +32,6 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -49,7 +47,6 @@ public class ReactiveAerospikePartTreeQuery extends BaseAerospikePartTreeQuery<F
 
     private final ReactiveAerospikeTemplate template;
     private final String namespace;
-    private final Map<IndexKey, Index> indexCache;
 
     public ReactiveAerospikePartTreeQuery(QueryMethod queryMethod,
                                           QueryMethodValueEvaluationContextAccessor evalContextAccessor,
@@ -59,7 +56,7 @@ public class ReactiveAerospikePartTreeQuery extends BaseAerospikePartTreeQuery<F
             template.getAerospikeConverter(), template.getServerVersionSupport(), template.getDSLParser());
         this.template = template;
         this.namespace = template.getNamespace();
-        this.indexCache = template.getIndexesCache();
+        compileQueryAnnotation(namespace, template.getIndexesCache());
     }
 
     @Override
@@ -71,10 +68,19 @@ public class ReactiveAerospikePartTreeQuery extends BaseAerospikePartTreeQuery<F
         // Each queryMethod here is AerospikeQueryMethod
         AerospikeQueryMethod method = (AerospikeQueryMethod) queryMethod;
         if (method.hasQueryAnnotation()) {
-            return findByQueryAnnotation(method, targetClass, namespace, indexCache, parameters);
+            return findByQueryAnnotation(method, targetClass, namespace, template.getIndexesCache(),
+                parameters);
         }
         Query query = prepareQuery(parameters, accessor);
 
+        if (queryMethod.isScrollQuery()) {
+            // Scrolling is resumed from the partitions status of the previous window
+            PartitionsCursor cursor = getPartitionsCursor(accessor);
+            return template.findUsingCursor(query, entityClass, targetClass, cursor,
+                    getScrollWindowSize(query, accessor))
+                .map(results -> createWindow(results, cursor));
+        }
+
         // queries with id equality have their own processing flow
         if (parameters != null && parameters.length > 0) {
             Qualifier criteria = query.getCriteriaObject();
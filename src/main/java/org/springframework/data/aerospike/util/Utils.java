@@ -53,7 +53,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -86,6 +89,25 @@ public class Utils {
         return InfoResponseUtils.getPropertyFromConfigResponse(response, "replication-factor", Integer::parseInt);
     }
 
+    /**
+     * Get the amount of records in the given set across the cluster, replicas are not counted
+     *
+     * @param client    Aerospike client
+     * @param namespace Namespace name
+     * @param setName   Set name
+     * @return Amount of records in the set
+     */
+    public static long getSetObjectsCount(IAerospikeClient client, String namespace, String setName) {
+        Node[] nodes = client.getNodes();
+        int replicationFactor = getReplicationFactor(client, nodes, namespace);
+
+        long totalObjects = Arrays.stream(nodes)
+            .mapToLong(node -> getObjectsCount(client, node, namespace, setName))
+            .sum();
+
+        return (nodes.length > 1) ? (totalObjects / replicationFactor) : totalObjects;
+    }
+
     public static Node getRandomNode(Node[] nodes) {
         if (nodes.length == 0) {
             throw new AerospikeException(ResultCode.SERVER_NOT_AVAILABLE, "Command failed because cluster is empty.");
@@ -360,6 +382,45 @@ public class Utils {
         };
     }
 
+    /**
+     * Creates an executor with a bounded amount of daemon threads. Tasks submitted when all threads are busy wait in an
+     * unbounded queue. Idle threads are stopped after a minute.
+     *
+     * @param threadName Name of the threads
+     * @param threads    Maximum amount of threads, at least one thread is used
+     * @return New {@link ThreadPoolExecutor}, to be shut down by its owner
+     */
+    public static ThreadPoolExecutor newBoundedDaemonExecutor(String threadName, int threads) {
+        int poolSize = Math.max(threads, 1);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Changes the maximum amount of threads of an executor created by
+     * {@link #newBoundedDaemonExecutor(String, int)}
+     *
+     * @param executor Executor to resize
+     * @param threads  Maximum amount of threads, at least one thread is used
+     */
+    public static void setExecutorThreads(ThreadPoolExecutor executor, int threads) {
+        int poolSize = Math.max(threads, 1);
+        // Maximum pool size cannot be less than core pool size at any moment
+        if (poolSize > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(poolSize);
+            executor.setCorePoolSize(poolSize);
+        } else {
+            executor.setCorePoolSize(poolSize);
+            executor.setMaximumPoolSize(poolSize);
+        }
+    }
+
     /**
      * Creates an equality filter for the specified bin name and value.
      * Supports BLOB, STRING, and INTEGER particle types.
@@ -0,0 +1,73 @@
+package org.springframework.data.aerospike.convert;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.sample.SampleClasses.SimpleClassWithPersistenceConstructor;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.sample.SampleClasses.SimpleClassWithPersistenceConstructor.SIMPLESET2;
+
+public class EntityChangeTrackerTests extends BaseMappingAerospikeConverterTest {
+
+    private final MappingAerospikeConverter trackingConverter = getMappingAerospikeConverter(trackingSettings());
+    private final Key key = new Key(NAMESPACE, SIMPLESET2, "1");
+
+    @Test
+    public void shouldReturnChangedAndRemovedBins() {
+        Map<String, Object> bins = Map.of(settings.getClassKey(), SimpleClassWithPersistenceConstructor.class.getName(),
+            "field1", "value", "field2", 1L, "unmapped", "value");
+        SimpleClassWithPersistenceConstructor entity = trackingConverter.read(
+            SimpleClassWithPersistenceConstructor.class, AerospikeReadData.forRead(key, new Record(bins, 5, 0)));
+
+        entity.setField2(2);
+        EntityChangeTracker.Changes changes = trackingConverter.getChangeTracker().getChanges(entity, write(entity));
+
+        assertThat(changes).isNotNull();
+        assertThat(changes.generation()).isEqualTo(5);
+        assertThat(changes.bins()).extracting(bin -> bin.name).containsExactlyInAnyOrder("field2", "unmapped");
+        assertThat(changes.bins()).filteredOn(bin -> bin.name.equals("unmapped"))
+            .extracting(bin -> bin.value.getObject()).containsOnlyNulls();
+    }
+
+    @Test
+    public void shouldTrackSavedEntity() {
+        SimpleClassWithPersistenceConstructor entity = new SimpleClassWithPersistenceConstructor(1, "value", 1);
+        EntityChangeTracker changeTracker = trackingConverter.getChangeTracker();
+        assertThat(changeTracker.getChanges(entity, write(entity))).isNull();
+
+        changeTracker.track(entity, write(entity), 2);
+        EntityChangeTracker.Changes changes = changeTracker.getChanges(entity, write(entity));
+
+        assertThat(changes).isNotNull();
+        assertThat(changes.bins()).isEmpty();
+        assertThat(changes.generation()).isEqualTo(2);
+
+        // Another instance with equal values is not tracked
+        assertThat(changeTracker.getChanges(new SimpleClassWithPersistenceConstructor(1, "value", 1),
+            write(entity))).isNull();
+        changeTracker.forget(entity);
+        assertThat(changeTracker.getChanges(entity, write(entity))).isNull();
+    }
+
+    @Test
+    public void shouldNotTrackWhenDisabled() {
+        assertThat(converter.getChangeTracker()).isNull();
+    }
+
+    private AerospikeWriteData write(Object entity) {
+        AerospikeWriteData data = AerospikeWriteData.forWrite(NAMESPACE);
+        data.setSetName(SIMPLESET2);
+        trackingConverter.write(entity, data);
+        return data;
+    }
+
+    private static AerospikeDataSettings trackingSettings() {
+        AerospikeDataSettings settings = new AerospikeDataSettings(null);
+        settings.setChangeTracking(true);
+        return settings;
+    }
+}
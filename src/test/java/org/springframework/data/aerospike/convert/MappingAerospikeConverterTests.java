@@ -46,6 +46,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.data.aerospike.assertions.KeyAssert.assertThat;
 import static org.springframework.data.aerospike.sample.SampleClasses.*;
 import static org.springframework.data.aerospike.sample.SampleClasses.SimpleClass.SIMPLESET;
+import static org.springframework.data.aerospike.sample.SampleClasses.SimpleClassWithPersistenceConstructor.SIMPLESET2;
 import static org.springframework.data.aerospike.sample.SampleClasses.User.SIMPLESET3;
 import static org.springframework.data.aerospike.util.AerospikeExpirationPolicy.DO_NOT_UPDATE_EXPIRATION;
 import static org.springframework.data.aerospike.util.AerospikeExpirationPolicy.NEVER_EXPIRE;
@@ -136,6 +137,17 @@ public class MappingAerospikeConverterTests extends BaseMappingAerospikeConverte
         assertThat(read).isEqualTo(user);
     }
 
+    @Test
+    public void shouldWriteOnlyRequestedBins() {
+        AerospikeWriteData forWrite = AerospikeWriteData.forWrite(NAMESPACE);
+        forWrite.setRequestedBins(list("field1", "field2"));
+        SimpleClassWithPersistenceConstructor document = new SimpleClassWithPersistenceConstructor(17, "abyrvalg", 13);
+        converter.write(document, forWrite);
+
+        assertThat(forWrite.getBins()).containsExactly(new Bin("field1", "abyrvalg"), new Bin("field2", 13));
+        assertThat(forWrite.getKey()).isEqualTo(new Key(NAMESPACE, SIMPLESET2, "17"));
+    }
+
     @Test
     public void shouldThrowExceptionIfIdAnnotationIsNotGiven() {
         @Data
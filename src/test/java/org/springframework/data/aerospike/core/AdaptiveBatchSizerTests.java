@@ -0,0 +1,71 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.core.AdaptiveBatchSizer.BatchType;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveBatchSizerTests {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    public void shouldIncreaseSizeAdditivelyAfterFastFullBatches() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(settings());
+
+        sizer.onSuccess(BatchType.READ, "set", 100, FAST, 1_000);
+        sizer.onSuccess(BatchType.READ, "set", 110, FAST, 1_000);
+
+        assertThat(sizer.getBatchSize(BatchType.READ, "set")).isEqualTo(120);
+        assertThat(sizer.getBatchSize(BatchType.READ, "other")).isEqualTo(100);
+        assertThat(sizer.getBatchSize(BatchType.WRITE, "set")).isEqualTo(200);
+    }
+
+    @Test
+    public void shouldNotIncreaseSizeAfterPartialBatch() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(settings());
+
+        sizer.onSuccess(BatchType.READ, "set", 7, FAST, 100);
+
+        assertThat(sizer.getBatchSize(BatchType.READ, "set")).isEqualTo(100);
+    }
+
+    @Test
+    public void shouldHalveSizeAfterSlowOrLargeBatchOrTimeout() {
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(settings());
+
+        sizer.onSuccess(BatchType.WRITE, "set", 200, SLOW, 1_000);
+        assertThat(sizer.getBatchSize(BatchType.WRITE, "set")).isEqualTo(100);
+        sizer.onSuccess(BatchType.WRITE, "set", 100, FAST, 10_000_000);
+        assertThat(sizer.getBatchSize(BatchType.WRITE, "set")).isEqualTo(50);
+        sizer.onTimeout(BatchType.WRITE, "set");
+        sizer.onTimeout(BatchType.WRITE, "set");
+        sizer.onTimeout(BatchType.WRITE, "set");
+
+        assertThat(sizer.getBatchSize(BatchType.WRITE, "set")).isEqualTo(10);
+        assertThat(sizer.getBatchSizes(BatchType.WRITE)).containsEntry("set", 10);
+    }
+
+    @Test
+    public void shouldNotAdjustNonPositiveBatchSize() {
+        AerospikeDataSettings settings = settings();
+        settings.setBatchReadSize(0);
+        AdaptiveBatchSizer sizer = new AdaptiveBatchSizer(settings);
+
+        sizer.onTimeout(BatchType.READ, "set");
+
+        assertThat(sizer.getBatchSize(BatchType.READ, "set")).isZero();
+        assertThat(sizer.getBatchSizes(BatchType.READ)).isEmpty();
+    }
+
+    private static AerospikeDataSettings settings() {
+        AerospikeDataSettings settings = new AerospikeDataSettings(null);
+        settings.setBatchReadSize(100);
+        settings.setBatchWriteSize(200);
+        return settings;
+    }
+}
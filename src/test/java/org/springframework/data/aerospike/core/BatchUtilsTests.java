@@ -0,0 +1,365 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Record;
+import com.aerospike.client.Value;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.exp.Expression;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.reactor.IAerospikeReactorClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.convert.AerospikeCustomConversions;
+import org.springframework.data.aerospike.convert.AerospikeTypeAliasAccessor;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.query.FilterExpressionsBuilder;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.QueryEngine;
+import org.springframework.data.aerospike.query.ReactorQueryEngine;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.data.aerospike.repository.query.Query;
+import org.springframework.data.aerospike.util.Utils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.aerospike.convert.AerospikeConverter.CLASS_KEY_DEFAULT;
+
+public class BatchUtilsTests {
+
+    private static final Query QUERY = new Query(Qualifier.builder()
+        .setPath("firstName")
+        .setValue("vasili")
+        .setFilterOperation(FilterOperation.EQ)
+        .build());
+    private static final Expression FILTER_EXPRESSION =
+        Exp.build(Exp.eq(Exp.stringBin("firstName"), Exp.val("vasili")));
+
+    private ThreadPoolExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Utils.newBoundedDaemonExecutor("batch-chunks-test", 4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldRunEachTaskOnceWithLimitedConcurrency() {
+        int tasksCount = 50;
+        AtomicIntegerArray runs = new AtomicIntegerArray(tasksCount);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        BatchUtils.runConcurrently(executor, tasksCount, 3, index -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(2);
+            runs.incrementAndGet(index);
+            running.decrementAndGet();
+        });
+
+        for (int i = 0; i < tasksCount; i++) {
+            assertThat(runs.get(i)).isOne();
+        }
+        assertThat(maxRunning.get()).isBetween(1, 3);
+        assertThat(executor.getLargestPoolSize()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void shouldRunTasksInCallingThreadWhenExecutorIsBusy() throws InterruptedException {
+        ThreadPoolExecutor singleThreadExecutor = Utils.newBoundedDaemonExecutor("batch-chunks-busy-test", 1);
+        CountDownLatch release = new CountDownLatch(1);
+        singleThreadExecutor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        try {
+            BatchUtils.runConcurrently(singleThreadExecutor, 10, 4, index -> threads.add(Thread.currentThread()));
+
+            // Completed without waiting for the busy executor
+            assertThat(threads).hasSize(10).containsOnly(Thread.currentThread());
+        } finally {
+            release.countDown();
+            singleThreadExecutor.shutdown();
+            assertThat(singleThreadExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+        // Helpers cancelled before they started are not run later
+        assertThat(threads).hasSize(10);
+    }
+
+    @Test
+    public void shouldRunTasksSequentiallyWithoutExecutor() {
+        List<Integer> indexes = new CopyOnWriteArrayList<>();
+
+        BatchUtils.runConcurrently(null, 5, 4, indexes::add);
+
+        assertThat(indexes).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void shouldRethrowFirstFailureAndStopStartingTasks() {
+        List<Integer> indexes = new CopyOnWriteArrayList<>();
+
+        assertThatThrownBy(() -> BatchUtils.runConcurrently(null, 5, 4, index -> {
+            indexes.add(index);
+            if (index == 2) throw new IllegalStateException("Chunk failed");
+        }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Chunk failed");
+        assertThat(indexes).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void shouldRunTasksInCallingThreadWhenExecutorIsShutDown() {
+        executor.shutdownNow();
+        List<Integer> indexes = new CopyOnWriteArrayList<>();
+
+        BatchUtils.runConcurrently(executor, 5, 4, indexes::add);
+
+        assertThat(indexes).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void shouldWriteChunksOneByOneWithinTransaction() {
+        AerospikeDataSettings settings = new AerospikeDataSettings(null);
+        settings.setBatchWriteConcurrency(4);
+        MappingAerospikeConverter converter = new MappingAerospikeConverter(new AerospikeMappingContext(),
+            new AerospikeCustomConversions(Collections.emptyList()), new AerospikeTypeAliasAccessor(CLASS_KEY_DEFAULT),
+            settings);
+        IAerospikeClient client = Mockito.mock(IAerospikeClient.class);
+        TemplateContext templateContext = TemplateContext.builder().client(client).converter(converter).build();
+
+        assertThat(BatchUtils.getBatchWriteConcurrency(templateContext)).isEqualTo(4);
+        TransactionSynchronizationManager.bindResource(client, new Object());
+        try {
+            assertThat(BatchUtils.getBatchWriteConcurrency(templateContext)).isOne();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(client);
+        }
+    }
+
+    @Test
+    public void shouldStopReadingHeadersAfterFirstChunkWithExistingRecord() {
+        IAerospikeClient client = Mockito.mock(IAerospikeClient.class);
+        when(client.copyBatchPolicyDefault()).thenAnswer(invocation -> new BatchPolicy());
+        List<BatchPolicy> policies = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            policies.add(invocation.getArgument(0));
+            markExistingRecords(invocation.getArgument(1), "2", "3");
+            return true;
+        }).when(client).get(any(BatchPolicy.class), ArgumentMatchers.<List<BatchRead>>any());
+        TemplateContext templateContext = TemplateContext.builder()
+            .client(client)
+            .converter(converterWithBatchReadSize(1))
+            .namespace("test")
+            .queryEngine(queryEngineWithFilterExpression())
+            .build();
+
+        assertThat(BatchUtils.existsByIdsUsingQuery(List.of("1", "2", "3", "4"), "Person", QUERY, templateContext))
+            .isTrue();
+        // The second chunk has a matching record, the remaining chunks are not read
+        assertThat(policies).hasSize(2).allMatch(policy -> policy.filterExp == FILTER_EXPRESSION);
+    }
+
+    @Test
+    public void shouldStopReadingHeadersAfterFirstChunkWithExistingRecordReactively() {
+        IAerospikeClient client = Mockito.mock(IAerospikeClient.class);
+        when(client.copyBatchPolicyDefault()).thenAnswer(invocation -> new BatchPolicy());
+        IAerospikeReactorClient reactorClient = Mockito.mock(IAerospikeReactorClient.class);
+        when(reactorClient.getAerospikeClient()).thenReturn(client);
+        List<BatchPolicy> policies = new CopyOnWriteArrayList<>();
+        when(reactorClient.get(any(BatchPolicy.class), ArgumentMatchers.<List<BatchRead>>any()))
+            .thenAnswer(invocation -> {
+                policies.add(invocation.getArgument(0));
+                List<BatchRead> batchReads = invocation.getArgument(1);
+                markExistingRecords(batchReads, "2", "3");
+                return Mono.just(batchReads);
+            });
+        ReactorQueryEngine reactorQueryEngine = Mockito.mock(ReactorQueryEngine.class);
+        FilterExpressionsBuilder filterExpressionsBuilder = filterExpressionsBuilder();
+        when(reactorQueryEngine.getFilterExpressionsBuilder()).thenReturn(filterExpressionsBuilder);
+        TemplateContext templateContext = TemplateContext.builder()
+            .client(client)
+            .reactorClient(reactorClient)
+            .converter(converterWithBatchReadSize(1))
+            .namespace("test")
+            .reactorQueryEngine(reactorQueryEngine)
+            .build();
+
+        Boolean exists = BatchUtils.findHeadersByIdsUsingQueryReactively(List.of("1", "2", "3", "4"), "Person",
+                QUERY, templateContext)
+            .filter(keyRecord -> keyRecord.record != null)
+            .hasElements()
+            .block();
+
+        assertThat(exists).isTrue();
+        // The second chunk has a matching record, the remaining chunks are not read
+        assertThat(policies).hasSize(2).allMatch(policy -> policy.filterExp == FILTER_EXPRESSION);
+    }
+
+    @Test
+    public void shouldReadHeadersOfAllChunksWhenNoRecordExists() {
+        IAerospikeClient client = Mockito.mock(IAerospikeClient.class);
+        when(client.copyBatchPolicyDefault()).thenAnswer(invocation -> new BatchPolicy());
+        AtomicInteger batchReads = new AtomicInteger();
+        doAnswer(invocation -> {
+            batchReads.incrementAndGet();
+            return true;
+        }).when(client).get(any(BatchPolicy.class), ArgumentMatchers.<List<BatchRead>>any());
+        TemplateContext templateContext = TemplateContext.builder()
+            .client(client)
+            .converter(converterWithBatchReadSize(1))
+            .namespace("test")
+            .queryEngine(queryEngineWithFilterExpression())
+            .build();
+
+        assertThat(BatchUtils.existsByIdsUsingQuery(List.of("1", "2", "3", "4"), "Person", QUERY, templateContext))
+            .isFalse();
+        assertThat(batchReads).hasValue(4);
+    }
+
+    @Test
+    public void shouldEstimateSizeWithoutSerializingValues() {
+        assertThat(BatchUtils.estimateSize(null)).isZero();
+        assertThat(BatchUtils.estimateSize("abcd")).isEqualTo(4);
+        assertThat(BatchUtils.estimateSize(new byte[10])).isEqualTo(10);
+        assertThat(BatchUtils.estimateSize(42L)).isEqualTo(8);
+        assertThat(BatchUtils.estimateSize(Value.get("abcd"))).isEqualTo(4);
+        assertThat(BatchUtils.estimateSize(List.of("a", List.of(1, 2, 3)))).isEqualTo(32);
+        assertThat(BatchUtils.estimateSize(Value.get(Map.of("a", 1, "b", 2)))).isEqualTo(64);
+    }
+
+    @Test
+    public void shouldProcessChunksOneByOneWithoutConcurrency() {
+        InFlightCounter counter = new InFlightCounter();
+
+        List<Integer> results = BatchUtils.processChunksReactively(Flux.range(0, 4),
+                chunk -> counter.track(Mono.delay(Duration.ofMillis(40 - chunk * 10)).thenReturn(chunk)), 1, false)
+            .collectList()
+            .block();
+
+        assertThat(results).containsExactly(0, 1, 2, 3);
+        assertThat(counter.maxInFlight).hasValue(1);
+    }
+
+    @Test
+    public void shouldEmitResultsInOrderOfChunksWhenOrdered() {
+        InFlightCounter counter = new InFlightCounter();
+
+        // Later chunks complete first
+        List<Integer> results = BatchUtils.processChunksReactively(Flux.range(0, 6),
+                chunk -> counter.track(Mono.delay(Duration.ofMillis(60 - chunk * 10)).thenReturn(chunk)), 3, true)
+            .collectList()
+            .block();
+
+        assertThat(results).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(counter.maxInFlight).hasValue(3);
+    }
+
+    @Test
+    public void shouldEmitResultsAsChunksCompleteWhenUnordered() {
+        InFlightCounter counter = new InFlightCounter();
+
+        List<Integer> results = BatchUtils.processChunksReactively(Flux.range(0, 3),
+                chunk -> counter.track(Mono.delay(Duration.ofMillis(300 - chunk * 100)).thenReturn(chunk)), 3, false)
+            .collectList()
+            .block();
+
+        assertThat(results).containsExactly(2, 1, 0);
+        assertThat(counter.maxInFlight).hasValue(3);
+    }
+
+    @Test
+    public void shouldLimitChunksInFlightToConcurrency() {
+        InFlightCounter counter = new InFlightCounter();
+
+        List<Integer> results = BatchUtils.processChunksReactively(Flux.range(0, 20),
+                chunk -> counter.track(Mono.delay(Duration.ofMillis(5)).thenReturn(chunk)), 4, false)
+            .collectList()
+            .block();
+
+        assertThat(results).hasSize(20).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 20).boxed().toList());
+        assertThat(counter.maxInFlight.get()).isBetween(1, 4);
+    }
+
+    private static class InFlightCounter {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        <T> Mono<T> track(Mono<T> chunkResult) {
+            return chunkResult
+                .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doFinally(signal -> inFlight.decrementAndGet());
+        }
+    }
+
+    private static MappingAerospikeConverter converterWithBatchReadSize(int batchReadSize) {
+        AerospikeDataSettings settings = new AerospikeDataSettings(null);
+        settings.setBatchReadSize(batchReadSize);
+        return new MappingAerospikeConverter(new AerospikeMappingContext(),
+            new AerospikeCustomConversions(Collections.emptyList()), new AerospikeTypeAliasAccessor(CLASS_KEY_DEFAULT),
+            settings);
+    }
+
+    private static QueryEngine queryEngineWithFilterExpression() {
+        QueryEngine queryEngine = Mockito.mock(QueryEngine.class);
+        FilterExpressionsBuilder filterExpressionsBuilder = filterExpressionsBuilder();
+        when(queryEngine.getFilterExpressionsBuilder()).thenReturn(filterExpressionsBuilder);
+        return queryEngine;
+    }
+
+    private static FilterExpressionsBuilder filterExpressionsBuilder() {
+        FilterExpressionsBuilder filterExpressionsBuilder = Mockito.mock(FilterExpressionsBuilder.class);
+        when(filterExpressionsBuilder.build(any())).thenReturn(FILTER_EXPRESSION);
+        return filterExpressionsBuilder;
+    }
+
+    /**
+     * Simulates the server returning headers of the records with the given ids, other records are filtered out
+     */
+    private static void markExistingRecords(List<BatchRead> batchReads, String... existingIds) {
+        List<String> ids = List.of(existingIds);
+        batchReads.stream()
+            .filter(batchRead -> ids.contains(batchRead.key.userKey.toString()))
+            .forEach(batchRead -> batchRead.record = new Record(Map.of(), 1, 0));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostProcessingUtilsTests {
+
+    private static final Sort SORT_BY_AGE = Sort.by("age");
+
+    @Test
+    public void shouldReturnSortedTopKWithOffset() {
+        List<Person> persons = persons(31, 5, 17, 42, 8, 23, 1, 15);
+
+        List<Integer> ages = PostProcessingUtils.applyPostProcessingOnResults(persons.stream(), SORT_BY_AGE, 2, 3)
+            .map(Person::getAge)
+            .toList();
+
+        assertThat(ages).containsExactly(8, 15, 17);
+    }
+
+    @Test
+    public void shouldKeepOrderOfEqualElements() {
+        List<Person> persons = IntStream.range(0, 10)
+            .mapToObj(i -> Person.builder().id("id" + i).age(i % 2).build())
+            .toList();
+
+        List<String> ids = PostProcessingUtils.applyPostProcessingOnResults(persons.stream(), SORT_BY_AGE, 1, 3)
+            .map(Person::getId)
+            .toList();
+
+        assertThat(ids).containsExactly("id2", "id4", "id6");
+    }
+
+    @Test
+    public void shouldReturnEmptyResultsWhenOffsetExceedsResults() {
+        assertThat(PostProcessingUtils.applyPostProcessingOnResults(persons(3, 2, 1).stream(), SORT_BY_AGE, 5, 2))
+            .isEmpty();
+    }
+
+    @Test
+    public void shouldCloseSourceStream() {
+        boolean[] closed = {false};
+        Stream<Person> source = persons(3, 2, 1).stream().onClose(() -> closed[0] = true);
+
+        PostProcessingUtils.applyPostProcessingOnResults(source, SORT_BY_AGE, 0, 2).close();
+
+        assertThat(closed[0]).isTrue();
+    }
+
+    @Test
+    public void shouldReturnSortedTopKReactively() {
+        Flux<Person> persons = Flux.fromIterable(persons(31, 5, 17, 42, 8, 23, 1, 15));
+
+        StepVerifier.create(PostProcessingUtils.applyPostProcessingOnResults(persons, SORT_BY_AGE, 1, 2)
+                .map(Person::getAge))
+            .expectNext(5, 8)
+            .verifyComplete();
+    }
+
+    private static List<Person> persons(int... ages) {
+        return IntStream.range(0, ages.length)
+            .mapToObj(i -> Person.builder().id("id" + i).age(ages[i]).build())
+            .toList();
+    }
+}
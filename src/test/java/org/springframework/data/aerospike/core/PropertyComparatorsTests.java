@@ -0,0 +1,88 @@
+package org.springframework.data.aerospike.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.sample.Address;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyComparatorsTests {
+
+    @Test
+    public void shouldCompareByPrimitiveProperty() {
+        List<Person> persons = new ArrayList<>(List.of(person("a", 30), person("b", 10), person("c", 20)));
+
+        persons.sort(PropertyComparators.getComparator(Sort.Order.desc("age")));
+
+        assertThat(persons).extracting(Person::getId).containsExactly("a", "c", "b");
+    }
+
+    @Test
+    public void shouldCompareStringsIgnoringCaseWithNullsLast() {
+        List<Person> persons = new ArrayList<>(List.of(
+            Person.builder().id("1").firstName("bob").build(),
+            Person.builder().id("2").build(),
+            Person.builder().id("3").firstName("Alice").build()));
+
+        persons.sort(PropertyComparators.getComparator(Sort.Order.asc("firstName")));
+
+        assertThat(persons).extracting(Person::getId).containsExactly("3", "1", "2");
+    }
+
+    @Test
+    public void shouldCompareByNestedProperty() {
+        List<Person> persons = new ArrayList<>(List.of(
+            Person.builder().id("1").address(new Address("Foo Street 2", 2, "C0124", "C0125")).build(),
+            Person.builder().id("2").build(),
+            Person.builder().id("3").address(new Address("Foo Street 1", 1, "C0123", "C0124")).build()));
+
+        persons.sort(PropertyComparators.getComparator(Sort.Order.asc("address.zipCode")));
+
+        assertThat(persons).extracting(Person::getId).containsExactly("3", "1", "2");
+    }
+
+    @Test
+    public void shouldCompareByNestedPropertyOfValueDeclaredAsObject() {
+        List<Holder> holders = new ArrayList<>(List.of(new Holder("1", new Rank(3)), new Holder("2", null),
+            new Holder("3", new Rank(1))));
+
+        holders.sort(PropertyComparators.getComparator(Sort.Order.desc("value.rank")));
+
+        assertThat(holders).extracting(Holder::id).containsExactly("2", "1", "3");
+    }
+
+    @Test
+    public void shouldTreatUnknownNestedPropertyAsEqual() {
+        Comparator<Person> comparator = PropertyComparators.getComparator(Sort.Order.asc("address.unknown"));
+        Person first = Person.builder().id("1").address(new Address("Foo Street 1", 1, "C0123", "C0124")).build();
+        Person second = Person.builder().id("2").address(new Address("Foo Street 2", 2, "C0124", "C0125")).build();
+
+        assertThat(comparator.compare(first, second)).isZero();
+    }
+
+    @Test
+    public void shouldTreatUnknownPropertyAsEqual() {
+        Comparator<Person> comparator = PropertyComparators.getComparator(Sort.Order.asc("unknown"));
+
+        assertThat(comparator.compare(person("a", 1), person("b", 2))).isZero();
+    }
+
+    private static Person person(String id, int age) {
+        return Person.builder().id(id).age(age).build();
+    }
+
+    @SuppressWarnings("unused")
+    private record Holder(String id, Object value) {
+
+    }
+
+    @SuppressWarnings("unused")
+    private record Rank(int rank) {
+
+    }
+}
@@ -0,0 +1,164 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.IAerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.convert.AerospikeCustomConversions;
+import org.springframework.data.aerospike.convert.AerospikeTypeAliasAccessor;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.aerospike.util.Utils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.aerospike.convert.AerospikeConverter.CLASS_KEY_DEFAULT;
+
+public class ReadCoalescerTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final long NO_LINGER_FLUSH = 60_000;
+
+    private IAerospikeClient client;
+    private TemplateContext templateContext;
+    private final Map<Key, Record> records = new ConcurrentHashMap<>();
+    private final List<List<Key>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        client = Mockito.mock(IAerospikeClient.class);
+        when(client.copyBatchPolicyDefault()).thenAnswer(invocation -> new BatchPolicy());
+        when(client.get(any(BatchPolicy.class), any(Key[].class))).thenAnswer(invocation -> {
+            Key[] keys = invocation.getArgument(1);
+            batches.add(List.of(keys));
+            return Arrays.stream(keys).map(records::get).toArray(Record[]::new);
+        });
+        MappingAerospikeConverter converter = new MappingAerospikeConverter(new AerospikeMappingContext(),
+            new AerospikeCustomConversions(Collections.emptyList()), new AerospikeTypeAliasAccessor(CLASS_KEY_DEFAULT),
+            new AerospikeDataSettings(null));
+        templateContext = TemplateContext.builder()
+            .client(client)
+            .converter(converter)
+            .exceptionTranslator(new DefaultAerospikeExceptionTranslator())
+            .build();
+    }
+
+    @Test
+    public void shouldReadBatchWhenMaxSizeIsReached() {
+        records.put(key("1"), record("Alice"));
+        ReadCoalescer coalescer = new ReadCoalescer(templateContext, 2, NO_LINGER_FLUSH, Runnable::run);
+
+        CompletableFuture<Record> first = coalescer.submit(key("1"), Person.class, null);
+        // A pending read of the same key is shared
+        assertThat(coalescer.submit(key("1"), Person.class, null)).isSameAs(first);
+        assertThat(batches).isEmpty();
+        CompletableFuture<Record> missing = coalescer.submit(key("2"), Person.class, null);
+
+        assertThat(batches).containsExactly(List.of(key("1"), key("2")));
+        assertThat(first.join().getString("firstName")).isEqualTo("Alice");
+        assertThat(missing.join()).isNull();
+    }
+
+    @Test
+    public void shouldReadBatchAfterLingerTime() {
+        records.put(key("1"), record("Alice"));
+        ReadCoalescer coalescer = new ReadCoalescer(templateContext, 100, 10, Runnable::run);
+
+        CompletableFuture<Record> future = coalescer.submit(key("1"), Person.class, null);
+
+        assertThat(future).succeedsWithin(TIMEOUT);
+        assertThat(future.join().getString("firstName")).isEqualTo("Alice");
+        assertThat(batches).containsExactly(List.of(key("1")));
+    }
+
+    @Test
+    public void shouldReadBatchAfterLingerTimeWhenExecutorIsShutDown() {
+        records.put(key("1"), record("Alice"));
+        ThreadPoolExecutor executor = Utils.newBoundedDaemonExecutor("read-coalescer-test", 1);
+        executor.shutdownNow();
+        ReadCoalescer coalescer = new ReadCoalescer(templateContext, 100, 10, executor);
+
+        assertThat(coalescer.submit(key("1"), Person.class, null)).succeedsWithin(TIMEOUT);
+    }
+
+    @Test
+    public void shouldNotShareResultOfBatchBeingReadWithLaterReads() throws InterruptedException {
+        records.put(key("1"), record("before write"));
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Key[] keys = invocation.getArgument(1);
+            Record[] result = Arrays.stream(keys).map(records::get).toArray(Record[]::new);
+            batches.add(List.of(keys));
+            if (batches.size() == 1) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return result;
+        }).when(client).get(any(BatchPolicy.class), any(Key[].class));
+        ReadCoalescer coalescer = new ReadCoalescer(templateContext, 1, NO_LINGER_FLUSH, Runnable::run);
+
+        CompletableFuture<Record> beforeWrite = CompletableFuture.supplyAsync(
+            () -> coalescer.read(key("1"), Person.class, null));
+        assertThat(firstBatchStarted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        records.put(key("1"), record("after write"));
+
+        // Read after the write while the first batch is still being read
+        Record afterWrite = coalescer.read(key("1"), Person.class, null);
+        releaseFirstBatch.countDown();
+
+        assertThat(afterWrite.getString("firstName")).isEqualTo("after write");
+        assertThat(beforeWrite).succeedsWithin(TIMEOUT);
+        assertThat(beforeWrite.join().getString("firstName")).isEqualTo("before write");
+        assertThat(batches).hasSize(2);
+    }
+
+    @Test
+    public void shouldTranslateErrorForEachRead() {
+        doThrow(new AerospikeException(ResultCode.TIMEOUT)).when(client)
+            .get(any(BatchPolicy.class), any(Key[].class));
+        ReadCoalescer coalescer = new ReadCoalescer(templateContext, 2, NO_LINGER_FLUSH, Runnable::run);
+
+        CompletableFuture<Record> first = coalescer.submit(key("1"), Person.class, null);
+        CompletableFuture<Record> second = coalescer.submit(key("2"), Person.class, null);
+
+        assertThat(first).failsWithin(TIMEOUT)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QueryTimeoutException.class);
+        assertThat(second).failsWithin(TIMEOUT)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QueryTimeoutException.class);
+    }
+
+    private static Key key(String id) {
+        return new Key("test", "Person", id);
+    }
+
+    private static Record record(String firstName) {
+        return new Record(Map.<String, Object>of("firstName", firstName), 1, 0);
+    }
+}
@@ -0,0 +1,154 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.convert.AerospikeCustomConversions;
+import org.springframework.data.aerospike.convert.AerospikeTypeAliasAccessor;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.convert.AerospikeConverter.CLASS_KEY_DEFAULT;
+
+public class RecordComparatorsTests {
+
+    private AerospikeMappingContext mappingContext;
+    private MappingAerospikeConverter converter;
+
+    @BeforeEach
+    public void setUp() {
+        mappingContext = new AerospikeMappingContext();
+        converter = new MappingAerospikeConverter(mappingContext,
+            new AerospikeCustomConversions(Collections.emptyList()), new AerospikeTypeAliasAccessor(CLASS_KEY_DEFAULT),
+            new AerospikeDataSettings(null));
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldSortStringsIgnoringCaseWithNullsLastAsEntities() {
+        List<KeyRecord> records = List.of(
+            keyRecord("1", "bob", 30),
+            keyRecord("2", null, 20),
+            keyRecord("3", "Alice", 40),
+            keyRecord("4", "alice", 10),
+            keyRecord("5", "Carl", null));
+
+        assertSameOrderAsEntities(records, Sort.by("firstName"), 0, -1);
+        assertSameOrderAsEntities(records, Sort.by(Sort.Order.desc("firstName")), 0, -1);
+    }
+
+    @Test
+    public void shouldSortMissingPrimitiveBinAsZeroAsEntities() {
+        List<KeyRecord> records = List.of(
+            keyRecord("1", "a", 5),
+            keyRecord("2", "b", null),
+            keyRecord("3", "c", -3),
+            keyRecord("4", "d", 0));
+
+        assertSameOrderAsEntities(records, Sort.by("age"), 0, -1);
+        assertSameOrderAsEntities(records, Sort.by(Sort.Order.desc("age")), 0, -1);
+    }
+
+    @Test
+    public void shouldSortBySeveralPropertiesWithOffsetAndLimitAsEntities() {
+        List<KeyRecord> records = List.of(
+            keyRecord("1", "Bob", 30),
+            keyRecord("2", "alice", 30),
+            keyRecord("3", null, 30),
+            keyRecord("4", "Carl", 20),
+            keyRecord("5", "bob", 20),
+            keyRecord("6", "Alice", null),
+            keyRecord("7", "dave", 40));
+        Sort sort = Sort.by(Sort.Order.desc("age"), Sort.Order.asc("firstName"));
+
+        assertSameOrderAsEntities(records, sort, 0, -1);
+        assertSameOrderAsEntities(records, sort, 2, 3);
+        assertSameOrderAsEntities(records, sort, 5, 10);
+        assertSameOrderAsEntities(records, sort, 10, 2);
+    }
+
+    @Test
+    public void shouldSortWithOffsetAndLimitReactively() {
+        List<KeyRecord> records = List.of(
+            keyRecord("1", "Bob", 30),
+            keyRecord("2", null, 10),
+            keyRecord("3", "alice", 20),
+            keyRecord("4", "Carl", 40));
+
+        List<String> ids = PostProcessingUtils.applyPostProcessingOnResults(Flux.fromIterable(records),
+                getComparator(Sort.by("firstName")), 1, 2)
+            .map(keyRecord -> MappingUtils.mapToEntity(keyRecord, Person.class, converter).getId())
+            .collectList()
+            .block();
+
+        assertThat(ids).containsExactly("1", "4");
+    }
+
+    @Test
+    public void shouldUseBinNameOfProperty() {
+        Sort sort = Sort.by("emailAddress");
+
+        assertThat(RecordComparators.getSortBinNames(sort, Person.class, mappingContext, converter))
+            .containsExactly("email");
+        List<KeyRecord> records = List.of(
+            keyRecord("1", Map.of("email", "b@example.com")),
+            keyRecord("2", Map.of()),
+            keyRecord("3", Map.of("email", "A@example.com")));
+        assertSameOrderAsEntities(records, sort, 0, -1);
+    }
+
+    @Test
+    public void shouldNotCreateComparatorForUnsupportedProperties() {
+        assertThat(getComparator(Sort.by("id"))).isNull();
+        assertThat(getComparator(Sort.by("address.zipCode"))).isNull();
+        assertThat(getComparator(Sort.by("dateOfBirth"))).isNull();
+        assertThat(getComparator(Sort.by("age", "unknown"))).isNull();
+        assertThat(getComparator(Sort.unsorted())).isNull();
+    }
+
+    private void assertSameOrderAsEntities(List<KeyRecord> records, Sort sort, long offset, long limit) {
+        Comparator<KeyRecord> comparator = getComparator(sort);
+        assertThat(comparator).isNotNull();
+
+        List<String> recordIds = PostProcessingUtils.applyPostProcessingOnResults(records.stream(), comparator,
+                offset, limit)
+            .map(keyRecord -> MappingUtils.mapToEntity(keyRecord, Person.class, converter).getId())
+            .toList();
+        List<String> entityIds = PostProcessingUtils.applyPostProcessingOnResults(records.stream()
+                .map(keyRecord -> MappingUtils.mapToEntity(keyRecord, Person.class, converter)), sort, offset,
+                limit < 0 ? 0 : limit)
+            .map(Person::getId)
+            .toList();
+
+        assertThat(recordIds).isEqualTo(entityIds);
+    }
+
+    private Comparator<KeyRecord> getComparator(Sort sort) {
+        return RecordComparators.getComparator(sort, Person.class, mappingContext, converter);
+    }
+
+    private static KeyRecord keyRecord(String id, String firstName, Integer age) {
+        Map<String, Object> bins = new HashMap<>();
+        if (firstName != null) bins.put("firstName", firstName);
+        // Integer bins are read as Long
+        if (age != null) bins.put("age", age.longValue());
+        return keyRecord(id, bins);
+    }
+
+    private static KeyRecord keyRecord(String id, Map<String, Object> bins) {
+        return new KeyRecord(new Key("test", "Person", id), new Record(new HashMap<>(bins), 1, 0));
+    }
+}
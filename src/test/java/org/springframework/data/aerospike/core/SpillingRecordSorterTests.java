@@ -0,0 +1,82 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.query.KeyRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpillingRecordSorterTests {
+
+    private static final Comparator<KeyRecord> BY_AGE = Comparator.comparingLong(r -> r.record.getLong("age"));
+
+    @Test
+    public void shouldMergeSpilledRunsKeepingOrderOfEqualRecords() {
+        List<KeyRecord> sorted;
+        try (SpillingRecordSorter sorter = new SpillingRecordSorter(BY_AGE, new String[]{"age"}, 3)) {
+            int[] ages = {5, 3, 9, 1, 3, 7, 5, 1, 8, 3};
+            for (int i = 0; i < ages.length; i++) {
+                sorter.add(keyRecord("id" + i, ages[i]));
+            }
+            sorted = toList(sorter);
+            assertThat(sorter.isSpilled()).isTrue();
+        }
+
+        assertThat(sorted).extracting(r -> r.record.getLong("age"))
+            .containsExactly(1L, 1L, 3L, 3L, 3L, 5L, 5L, 7L, 8L, 9L);
+        assertThat(sorted).extracting(r -> r.key.userKey.toString())
+            .containsExactly("id3", "id7", "id1", "id4", "id9", "id0", "id6", "id5", "id8", "id2");
+        // Spilled records contain only sort bins, keys are restored with digests
+        assertThat(sorted.get(0).record.bins).containsOnlyKeys("age");
+        assertThat(sorted.get(0).key).isEqualTo(new Key("test", "testSet", "id3"));
+    }
+
+    @Test
+    public void shouldMergeRunsInSeveralPassesWhenThereAreMoreRunsThanFanIn() {
+        List<KeyRecord> sorted;
+        try (SpillingRecordSorter sorter = new SpillingRecordSorter(BY_AGE, new String[]{"age"}, 2, 3)) {
+            for (int i = 0; i < 40; i++) {
+                sorter.add(keyRecord("id" + i, i % 4));
+            }
+            assertThat(sorter.getRunsCount()).isEqualTo(20);
+            sorted = toList(sorter);
+            // Together with the remaining buffer, the last merge reads at most 3 sources
+            assertThat(sorter.getRunsCount()).isLessThanOrEqualTo(2);
+        }
+
+        assertThat(sorted).hasSize(40);
+        assertThat(sorted).extracting(r -> r.record.getLong("age")).isSorted();
+        // Equal records keep the order in which they were added
+        assertThat(sorted.subList(0, 10)).extracting(r -> r.key.userKey.toString())
+            .containsExactly("id0", "id4", "id8", "id12", "id16", "id20", "id24", "id28", "id32", "id36");
+    }
+
+    @Test
+    public void shouldReturnBufferedRecordsWhenNotSpilled() {
+        KeyRecord first = keyRecord("a", 2);
+        KeyRecord second = keyRecord("b", 1);
+        try (SpillingRecordSorter sorter = new SpillingRecordSorter(BY_AGE, new String[]{"age"}, 10)) {
+            sorter.add(first);
+            sorter.add(second);
+
+            assertThat(toList(sorter)).containsExactly(second, first);
+            assertThat(sorter.isSpilled()).isFalse();
+        }
+    }
+
+    private static List<KeyRecord> toList(SpillingRecordSorter sorter) {
+        List<KeyRecord> result = new ArrayList<>();
+        sorter.iterator().forEachRemaining(result::add);
+        return result;
+    }
+
+    private static KeyRecord keyRecord(String id, long age) {
+        return new KeyRecord(new Key("test", "testSet", id), new Record(Map.of("age", age, "name", id), 1, 0));
+    }
+}
@@ -0,0 +1,189 @@
+package org.springframework.data.aerospike.core;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchWritePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.aerospike.config.AerospikeDataSettings;
+import org.springframework.data.aerospike.convert.AerospikeCustomConversions;
+import org.springframework.data.aerospike.convert.AerospikeTypeAliasAccessor;
+import org.springframework.data.aerospike.convert.MappingAerospikeConverter;
+import org.springframework.data.aerospike.mapping.AerospikeMappingContext;
+import org.springframework.data.aerospike.sample.Person;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.convert.AerospikeConverter.CLASS_KEY_DEFAULT;
+import static org.springframework.data.aerospike.core.BaseAerospikeTemplate.OperationType.INSERT_OPERATION;
+import static org.springframework.data.aerospike.core.BaseAerospikeTemplate.OperationType.SAVE_OPERATION;
+
+public class WriteCoalescerTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final long NO_LINGER_FLUSH = 60_000;
+
+    private TemplateContext templateContext;
+    private final List<List<BatchRecord>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        AerospikeMappingContext mappingContext = new AerospikeMappingContext();
+        MappingAerospikeConverter converter = new MappingAerospikeConverter(mappingContext,
+            new AerospikeCustomConversions(Collections.emptyList()), new AerospikeTypeAliasAccessor(CLASS_KEY_DEFAULT),
+            new AerospikeDataSettings(null));
+        converter.afterPropertiesSet();
+        templateContext = TemplateContext.builder()
+            .converter(converter)
+            .namespace("test")
+            .mappingContext(mappingContext)
+            .exceptionTranslator(new DefaultAerospikeExceptionTranslator())
+            .batchWritePolicyDefault(new BatchWritePolicy())
+            .build();
+    }
+
+    @Test
+    public void shouldWriteBatchWhenMaxSizeIsReached() {
+        WriteCoalescer coalescer = coalescer(3, NO_LINGER_FLUSH, allSucceed());
+
+        CompletableFuture<Void> first = coalescer.submit(person("1", "Alice"), "Person", SAVE_OPERATION);
+        CompletableFuture<Void> second = coalescer.submit(person("2", "Bob"), "Person", SAVE_OPERATION);
+        assertThat(batches).isEmpty();
+        CompletableFuture<Void> third = coalescer.submit(person("3", "Carl"), "Person", SAVE_OPERATION);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(WriteCoalescerTests::firstName).containsExactly("Alice", "Bob", "Carl");
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(third).isCompleted();
+    }
+
+    @Test
+    public void shouldWriteBatchAfterLingerTime() {
+        WriteCoalescer coalescer = coalescer(100, 10, allSucceed());
+
+        CompletableFuture<Void> future = coalescer.submit(person("1", "Alice"), "Person", SAVE_OPERATION);
+
+        assertThat(future).succeedsWithin(TIMEOUT);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(WriteCoalescerTests::firstName).containsExactly("Alice");
+    }
+
+    @Test
+    public void shouldWriteBatchesSeparatelyPerSetAndOperation() {
+        WriteCoalescer coalescer = coalescer(2, NO_LINGER_FLUSH, allSucceed());
+
+        coalescer.submit(person("1", "Alice"), "Person", SAVE_OPERATION);
+        coalescer.submit(person("2", "Bob"), "Person", INSERT_OPERATION);
+        coalescer.submit(person("3", "Carl"), "OtherSet", SAVE_OPERATION);
+        assertThat(batches).isEmpty();
+        coalescer.submit(person("4", "Dave"), "Person", SAVE_OPERATION);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(WriteCoalescerTests::firstName).containsExactly("Alice", "Dave");
+    }
+
+    @Test
+    public void shouldNotReorderWritesOfSameKey() {
+        List<CompletableFuture<Void>> results = new CopyOnWriteArrayList<>();
+        WriteCoalescer coalescer = coalescer(100, NO_LINGER_FLUSH, batchRecords -> {
+            batchRecords.forEach(batchRecord -> batchRecord.resultCode = ResultCode.OK);
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            results.add(result);
+            return result;
+        });
+
+        CompletableFuture<Void> first = coalescer.submit(person("1", "first"), "Person", SAVE_OPERATION);
+        coalescer.submit(person("2", "other"), "Person", SAVE_OPERATION);
+        // The pending batch with the same key is written first
+        CompletableFuture<Void> second = coalescer.submit(person("1", "second"), "Person", SAVE_OPERATION);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(WriteCoalescerTests::firstName).containsExactly("first", "other");
+
+        // The next batch with the same key waits until the first one completes
+        coalescer.submit(person("1", "third"), "Person", SAVE_OPERATION);
+        assertThat(batches).hasSize(1);
+        assertThat(first).isNotDone();
+
+        results.get(0).complete(null);
+        assertThat(first).isCompleted();
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).extracting(WriteCoalescerTests::firstName).containsExactly("second");
+        assertThat(second).isNotDone();
+
+        results.get(1).complete(null);
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    public void shouldTranslateErrorOfEachRecordSeparately() {
+        WriteCoalescer coalescer = coalescer(2, NO_LINGER_FLUSH, batchRecords -> {
+            batchRecords.get(0).resultCode = ResultCode.OK;
+            batchRecords.get(1).resultCode = ResultCode.KEY_EXISTS_ERROR;
+            return CompletableFuture.completedFuture(true);
+        });
+
+        CompletableFuture<Void> inserted = coalescer.submit(person("1", "Alice"), "Person", INSERT_OPERATION);
+        CompletableFuture<Void> existing = coalescer.submit(person("2", "Bob"), "Person", INSERT_OPERATION);
+
+        assertThat(inserted).isCompleted();
+        assertThat(existing).failsWithin(TIMEOUT)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    public void shouldTranslateErrorOfBatchForEachRecord() {
+        WriteCoalescer coalescer = coalescer(2, NO_LINGER_FLUSH,
+            batchRecords -> CompletableFuture.failedFuture(new AerospikeException(ResultCode.TIMEOUT)));
+
+        CompletableFuture<Void> first = coalescer.submit(person("1", "Alice"), "Person", SAVE_OPERATION);
+        CompletableFuture<Void> second = coalescer.submit(person("2", "Bob"), "Person", SAVE_OPERATION);
+
+        assertThat(first).failsWithin(TIMEOUT)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QueryTimeoutException.class);
+        assertThat(second).failsWithin(TIMEOUT)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QueryTimeoutException.class);
+    }
+
+    private WriteCoalescer coalescer(int maxBatchSize, long lingerMillis,
+                                     Function<List<BatchRecord>, CompletableFuture<?>> writer) {
+        return new WriteCoalescer(batchRecords -> {
+            batches.add(batchRecords);
+            return writer.apply(batchRecords);
+        }, templateContext, maxBatchSize, lingerMillis, Runnable::run);
+    }
+
+    private static Function<List<BatchRecord>, CompletableFuture<?>> allSucceed() {
+        return batchRecords -> {
+            batchRecords.forEach(batchRecord -> batchRecord.resultCode = ResultCode.OK);
+            return CompletableFuture.completedFuture(true);
+        };
+    }
+
+    private static Person person(String id, String firstName) {
+        return Person.builder().id(id).firstName(firstName).build();
+    }
+
+    private static String firstName(BatchRecord batchRecord) {
+        return Arrays.stream(((BatchWrite) batchRecord).ops)
+            .filter(operation -> "firstName".equals(operation.binName))
+            .map(operation -> operation.value.toString())
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -21,12 +21,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.core.model.CountMode;
 import org.springframework.data.aerospike.query.FilterOperation;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -168,6 +170,34 @@ public class AerospikeTemplateCountTests extends BaseBlockingIntegrationTests {
         assertThat(count).isZero();
     }
 
+    @Test
+    void countApproximately() {
+        template.insert(new Person(id, "vasili", 50));
+        String id2 = nextId();
+        template.insert(new Person(id2, "vasili", 51));
+        String id3 = nextId();
+        template.insert(new Person(id3, "petya", 52));
+
+        // Without qualifiers the amount of records in the set is returned
+        Awaitility.await()
+            .atMost(Duration.ofSeconds(15))
+            .until(() -> template.count(null, Person.class, CountMode.APPROXIMATE) == 3L);
+
+        Query query = new Query(Qualifier.builder()
+            .setFilterOperation(FilterOperation.EQ)
+            .setPath("firstName")
+            .setValue("vasili")
+            .build()
+        );
+        // The estimation is an upper bound of the exact count
+        assertThat(template.count(query, Person.class, CountMode.EXACT)).isEqualTo(2);
+        assertThat(template.count(query, Person.class, CountMode.APPROXIMATE)).isGreaterThanOrEqualTo(2);
+
+        template.delete(template.findById(id, Person.class));
+        template.delete(template.findById(id2, Person.class));
+        template.delete(template.findById(id3, Person.class));
+    }
+
     @Test
     void countForObjects() {
         template.insert(new Person(id, "vasili", 50));
@@ -208,6 +238,34 @@ public class AerospikeTemplateCountTests extends BaseBlockingIntegrationTests {
         template.delete(template.findById(id4, Person.class, OVERRIDE_SET_NAME), OVERRIDE_SET_NAME);
     }
 
+    @Test
+    void countByIdsUsingQuery_shouldCountOnlyRecordsMatchingQuery() {
+        template.insert(new Person(id, "vasili", 50));
+        String id2 = nextId();
+        template.insert(new Person(id2, "vasili", 51));
+        String id3 = nextId();
+        template.insert(new Person(id3, "petya", 52));
+        List<String> ids = List.of(id, id2, id3, nextId());
+
+        Query queryVasya = new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setValue("vasili")
+            .setFilterOperation(FilterOperation.EQ)
+            .build());
+        // Only record headers are read, the query is applied as a filter expression
+        assertThat(template.countByIdsUsingQuery(ids, Person.class, queryVasya)).isEqualTo(2);
+
+        Query queryAge = new Query(Qualifier.builder()
+            .setPath("age")
+            .setValue(51)
+            .setFilterOperation(FilterOperation.GT)
+            .build());
+        assertThat(template.countByIdsUsingQuery(ids, Person.class, queryAge)).isEqualTo(1);
+        Query queryVasyaAndAge = new Query(Qualifier.and(queryVasya.getCriteriaObject(), queryAge.getCriteriaObject()));
+        assertThat(template.countByIdsUsingQuery(ids, Person.class, queryVasyaAndAge)).isZero();
+        assertThat(template.countByIdsUsingQuery(ids, Person.class, null)).isEqualTo(3);
+    }
+
     @SuppressWarnings("SameParameterValue")
     private boolean isCountExactlyNum(Long num) {
         return Objects.equals(template.count(Person.class), num);
@@ -17,6 +17,7 @@ package org.springframework.data.aerospike.core.blocking.delete;
 
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.task.ExecuteTask;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -411,6 +412,58 @@ public class AerospikeTemplateDeleteTests extends BaseBlockingIntegrationTests {
         assertThat(template.findById(id, DocumentWithExpiration.class)).isEqualTo(document);
     }
 
+    @Test
+    public void deleteByQuery_deletesMatchingDocumentsOnServer() {
+        Person person1 = new Person(nextId(), "Alicia", 100);
+        Person person2 = new Person(nextId(), "Jenny", 100);
+        Person person3 = new Person(nextId(), "Olivia", 30);
+        template.saveAll(List.of(person1, person2, person3));
+
+        Query ageEq100Query = new Query(Qualifier.builder()
+            .setPath("age")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue(100)
+            .build());
+        template.delete(ageEq100Query, Person.class);
+
+        assertThat(template.findById(person1.getId(), Person.class)).isNull();
+        assertThat(template.findById(person2.getId(), Person.class)).isNull();
+        assertThat(template.findById(person3.getId(), Person.class)).isEqualTo(person3);
+    }
+
+    @Test
+    public void deleteUsingBackgroundQuery_returnsTask() {
+        Person person1 = new Person(nextId(), "Alicia", 100);
+        Person person2 = new Person(nextId(), "Olivia", 30);
+        template.saveAll(List.of(person1, person2));
+
+        Query ageEq100Query = new Query(Qualifier.builder()
+            .setPath("age")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue(100)
+            .build());
+        ExecuteTask task = template.deleteUsingBackgroundQuery(ageEq100Query, Person.class, 100);
+        task.waitTillComplete(50, 0);
+
+        assertThat(template.findById(person1.getId(), Person.class)).isNull();
+        assertThat(template.findById(person2.getId(), Person.class)).isEqualTo(person2);
+    }
+
+    @Test
+    public void deleteUsingBackgroundQuery_rejectsSortedQuery() {
+        Query sortedQuery = new Query(Qualifier.builder()
+            .setPath("age")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue(100)
+            .build());
+        sortedQuery.setSort(Sort.by("firstName"));
+
+        assertThatThrownBy(() -> template.deleteUsingBackgroundQuery(sortedQuery, Person.class, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Background query must not be sorted, have offset or limit, be distinct or contain id " +
+                "qualifier");
+    }
+
     @Disabled
     @Test
     public void deleteByIdsUsingQuery_Paginated() {
@@ -17,8 +17,13 @@ package org.springframework.data.aerospike.core.blocking.exists;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class AerospikeTemplateExistsTests extends BaseBlockingIntegrationTests {
@@ -50,4 +55,64 @@ public class AerospikeTemplateExistsTests extends BaseBlockingIntegrationTests {
     public void existsWithSetName_shouldReturnFalseIfValueIsAbsent() {
         assertThat(template.exists(id, OVERRIDE_SET_NAME)).isFalse();
     }
+
+    @Test
+    public void existsByIdsUsingQuery_shouldReturnTrueOnlyIfMatchingRecordIsPresent() {
+        Person one = new Person(id, "vasili", 50);
+        Person two = new Person(nextId(), "petya", 52);
+        template.insertAll(List.of(one, two));
+        List<String> ids = List.of(one.getId(), two.getId(), nextId());
+
+        Query queryPetya = new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setValue("petya")
+            .setFilterOperation(FilterOperation.EQ)
+            .build());
+        // Only record headers are read, the query is applied as a filter expression
+        assertThat(template.existsByIdsUsingQuery(ids, Person.class, queryPetya)).isTrue();
+        assertThat(template.existsByIdsUsingQuery(List.of(one.getId()), Person.class, queryPetya)).isFalse();
+
+        Query queryOlder = new Query(Qualifier.builder()
+            .setPath("age")
+            .setValue(60)
+            .setFilterOperation(FilterOperation.GT)
+            .build());
+        assertThat(template.existsByIdsUsingQuery(ids, Person.class, queryOlder)).isFalse();
+        assertThat(template.existsByIdsUsingQuery(ids, Person.class, null)).isTrue();
+        template.deleteAll(List.of(one, two));
+    }
+
+    @Test
+    public void existsByQuery_shouldReturnTrueOnlyIfMatchingRecordIsPresent() {
+        // Unique first names, so that records of other tests do not match
+        Person one = new Person(id, "vasili-" + id, 50);
+        template.insert(one);
+
+        assertThat(template.exists(firstNameEq("vasili-" + id), Person.class)).isTrue();
+        assertThat(template.exists(firstNameEq("petya-" + id), Person.class)).isFalse();
+        template.delete(one);
+    }
+
+    @Test
+    public void existsByQuery_withIdQualifier() {
+        Person one = new Person(id, "vasili", 50);
+        template.insert(one);
+
+        // Records are read by ids, the rest of the query is applied as a filter expression
+        Qualifier vasili = firstNameEq("vasili").getCriteriaObject();
+        Qualifier petya = firstNameEq("petya").getCriteriaObject();
+        assertThat(template.exists(new Query(Qualifier.and(Qualifier.idEquals(id), vasili)), Person.class)).isTrue();
+        assertThat(template.exists(new Query(Qualifier.and(Qualifier.idEquals(id), petya)), Person.class)).isFalse();
+        assertThat(template.exists(new Query(Qualifier.idIn(nextId(), id)), Person.class)).isTrue();
+        assertThat(template.exists(new Query(Qualifier.idIn(nextId(), nextId())), Person.class)).isFalse();
+        template.delete(one);
+    }
+
+    private static Query firstNameEq(String firstName) {
+        return new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setValue(firstName)
+            .setFilterOperation(FilterOperation.EQ)
+            .build());
+    }
 }
@@ -0,0 +1,155 @@
+package org.springframework.data.aerospike.core.blocking.save;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.Policy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.sample.Person;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.data.aerospike.sample.SampleClasses.CustomTypeWithListAndMap;
+import static org.springframework.data.aerospike.sample.SampleClasses.DocumentWithByteArray;
+import static org.springframework.data.aerospike.sample.SampleClasses.VersionedClass;
+
+@TestPropertySource(properties = {"spring.data.aerospike.change-tracking=true"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AerospikeTemplateSaveChangedBinsTests extends BaseBlockingIntegrationTests {
+
+    @AfterAll
+    public void afterAll() {
+        template.deleteAll(Person.class);
+        template.deleteAll(VersionedClass.class);
+        template.deleteAll(DocumentWithByteArray.class);
+        template.deleteAll(CustomTypeWithListAndMap.class);
+    }
+
+    @Test
+    public void shouldSaveChangedBinsAndRemoveUnmappedBins() {
+        template.save(Person.builder().id(id).firstName("Alice").lastName("Smith").age(30).build());
+        Key key = new Key(getNameSpace(), template.getSetName(Person.class), id);
+        additionalAerospikeTestOperations.addNewFieldToSavedDataInAerospike(key);
+        int generation = client.get(new Policy(), key).generation;
+
+        Person person = template.findById(id, Person.class);
+        person.setAge(31);
+        template.save(person);
+
+        Record aeroRecord = client.get(new Policy(), key);
+        assertThat(aeroRecord.generation).isEqualTo(generation + 1);
+        assertThat(aeroRecord.bins.get("age")).isEqualTo(31L);
+        assertThat(aeroRecord.bins.get("firstName")).isEqualTo("Alice");
+        assertThat(aeroRecord.bins.get("lastName")).isEqualTo("Smith");
+        assertThat(aeroRecord.bins).doesNotContainKey("notPresent");
+        assertThat(template.findById(id, Person.class)).isEqualTo(person);
+    }
+
+    @Test
+    public void shouldTouchRecordWhenNothingChanged() {
+        template.save(Person.builder().id(id).firstName("Alice").age(30).build());
+        Key key = new Key(getNameSpace(), template.getSetName(Person.class), id);
+        Record saved = client.get(new Policy(), key);
+
+        Person person = template.findById(id, Person.class);
+        template.save(person);
+
+        Record aeroRecord = client.get(new Policy(), key);
+        assertThat(aeroRecord.generation).isEqualTo(saved.generation + 1);
+        assertThat(aeroRecord.bins).isEqualTo(saved.bins);
+    }
+
+    @Test
+    public void shouldSaveSeveralTimesAfterReading() {
+        template.save(Person.builder().id(id).firstName("Alice").age(30).build());
+
+        Person person = template.findById(id, Person.class);
+        person.setAge(31);
+        template.save(person);
+        // The snapshot is updated after saving
+        person.setFirstName("Alicia");
+        template.save(person);
+
+        Person saved = template.findById(id, Person.class);
+        assertThat(saved.getFirstName()).isEqualTo("Alicia");
+        assertThat(saved.getAge()).isEqualTo(31);
+    }
+
+    @Test
+    public void shouldSaveByteArrayChangedInPlace() {
+        byte[] array = {1, 2, 3};
+        DocumentWithByteArray document = new DocumentWithByteArray(id, array);
+        template.save(document);
+
+        // Changed in place after saving
+        array[0] = 4;
+        template.save(document);
+        assertThat(template.findById(id, DocumentWithByteArray.class).getArray()).containsExactly(4, 2, 3);
+
+        // Changed in place after reading
+        DocumentWithByteArray read = template.findById(id, DocumentWithByteArray.class);
+        read.getArray()[1] = 5;
+        template.save(read);
+        assertThat(template.findById(id, DocumentWithByteArray.class).getArray()).containsExactly(4, 5, 3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldSaveObjectValueChangedInPlaceAfterReading() {
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("a", 1);
+        Map<String, Object> map = new HashMap<>();
+        map.put("nested", nested);
+        template.save(new CustomTypeWithListAndMap(id, new ArrayList<>(List.of("a")), map));
+
+        CustomTypeWithListAndMap read = template.findById(id, CustomTypeWithListAndMap.class);
+        ((Map<String, Object>) read.getMapWithObjectValue().get("nested")).put("b", 2);
+        template.save(read);
+
+        CustomTypeWithListAndMap saved = template.findById(id, CustomTypeWithListAndMap.class);
+        assertThat((Map<String, Object>) saved.getMapWithObjectValue().get("nested"))
+            .containsOnlyKeys("a", "b");
+    }
+
+    @Test
+    public void shouldSaveFullyWhenRecordChangedSinceReading() {
+        template.save(Person.builder().id(id).firstName("Alice").lastName("Smith").age(30).build());
+        Key key = new Key(getNameSpace(), template.getSetName(Person.class), id);
+
+        Person person = template.findById(id, Person.class);
+        client.put(null, key, new Bin("lastName", "Jones"));
+        person.setAge(31);
+        template.save(person);
+
+        // Without a version property the document overwrites the concurrent change, like a full save
+        Person saved = template.findById(id, Person.class);
+        assertThat(saved.getLastName()).isEqualTo("Smith");
+        assertThat(saved.getAge()).isEqualTo(31);
+    }
+
+    @Test
+    public void shouldFailToSaveVersionedDocumentChangedSinceReading() {
+        template.save(new VersionedClass(id, "foo"));
+
+        VersionedClass first = template.findById(id, VersionedClass.class);
+        VersionedClass second = template.findById(id, VersionedClass.class);
+        first.setField("changed by first");
+        template.save(first);
+        assertThat(first.getVersion()).isEqualTo(2);
+
+        second.setField("changed by second");
+        assertThatThrownBy(() -> template.save(second))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(template.findById(id, VersionedClass.class).getField()).isEqualTo("changed by first");
+    }
+}
@@ -16,14 +16,20 @@
 package org.springframework.data.aerospike.core.blocking.update;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
 import com.aerospike.client.policy.Policy;
+import com.aerospike.client.task.ExecuteTask;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.RecoverableDataAccessException;
 import org.springframework.data.aerospike.BaseBlockingIntegrationTests;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
 import org.springframework.data.aerospike.util.AsyncUtils;
 
@@ -46,6 +52,30 @@ public class AerospikeTemplateUpdateTests extends BaseBlockingIntegrationTests {
             .isInstanceOf(DataRetrievalFailureException.class);
     }
 
+    @Test
+    public void updateByQuery_appliesOperationsToMatchingRecords() {
+        // a unique bin value so that only the records of this test match the query
+        String firstName = "Alicia-" + nextId();
+        Person person1 = new Person(nextId(), firstName, 100);
+        Person person2 = new Person(nextId(), "Olivia", 100);
+        template.saveAll(List.of(person1, person2));
+
+        Query firstNameEqQuery = new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue(firstName)
+            .build());
+        ExecuteTask task = template.updateByQuery(firstNameEqQuery, Person.class, 0,
+            Operation.add(new Bin("age", 1)), Operation.put(new Bin("firstName", "Updated")));
+        task.waitTillComplete(50, 0);
+
+        Person updated = template.findById(person1.getId(), Person.class);
+        assertThat(updated.getAge()).isEqualTo(101);
+        assertThat(updated.getFirstName()).isEqualTo("Updated");
+        assertThat(template.findById(person2.getId(), Person.class)).isEqualTo(person2);
+        template.deleteAll(List.of(person1, person2)); // cleanup
+    }
+
     @Test
     public void updatesEvenIfDocumentNotChanged() {
         Person person = new Person(id, "Wolfgang", 11);
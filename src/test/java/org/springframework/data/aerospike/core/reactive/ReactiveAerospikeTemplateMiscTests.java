@@ -9,6 +9,9 @@ import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
 import org.springframework.data.aerospike.core.ReactiveAerospikeTemplate;
 import org.springframework.data.aerospike.core.WritePolicyBuilder;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
@@ -73,4 +76,49 @@ public class ReactiveAerospikeTemplateMiscTests extends BaseReactiveIntegrationT
             .expectNext(false)
             .verifyComplete();
     }
+
+    @Test
+    public void existsByQuery_shouldReturnTrueOnlyIfMatchingRecordIsPresent() {
+        // Unique first names, so that records of other tests do not match
+        Person one = new Person(id, "vasili-" + id, 50);
+        reactiveTemplate.insert(one).block();
+
+        StepVerifier.create(reactiveTemplate.exists(firstNameEq("vasili-" + id), Person.class))
+            .expectNext(true)
+            .verifyComplete();
+        StepVerifier.create(reactiveTemplate.exists(firstNameEq("petya-" + id), Person.class))
+            .expectNext(false)
+            .verifyComplete();
+        reactiveTemplate.delete(one).block();
+    }
+
+    @Test
+    public void existsByQuery_withIdQualifier() {
+        Person one = new Person(id, "vasili", 50);
+        reactiveTemplate.insert(one).block();
+
+        // Records are read by ids, the rest of the query is applied as a filter expression
+        Qualifier vasili = firstNameEq("vasili").getCriteriaObject();
+        Qualifier petya = firstNameEq("petya").getCriteriaObject();
+        StepVerifier.create(reactiveTemplate.exists(new Query(Qualifier.and(Qualifier.idEquals(id), vasili)),
+                Person.class))
+            .expectNext(true)
+            .verifyComplete();
+        StepVerifier.create(reactiveTemplate.exists(new Query(Qualifier.and(Qualifier.idEquals(id), petya)),
+                Person.class))
+            .expectNext(false)
+            .verifyComplete();
+        StepVerifier.create(reactiveTemplate.exists(new Query(Qualifier.idIn(nextId(), nextId())), Person.class))
+            .expectNext(false)
+            .verifyComplete();
+        reactiveTemplate.delete(one).block();
+    }
+
+    private static Query firstNameEq(String firstName) {
+        return new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setValue(firstName)
+            .setFilterOperation(FilterOperation.EQ)
+            .build());
+    }
 }
@@ -7,14 +7,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
 import org.springframework.data.aerospike.core.ReactiveAerospikeTemplate;
+import org.springframework.data.aerospike.core.model.CountMode;
 import org.springframework.data.aerospike.query.FilterOperation;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.aerospike.query.qualifier.QualifierBuilder;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
 import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -139,6 +142,91 @@ class ReactiveAerospikeTemplateCountRelatedTests extends BaseReactiveIntegration
             .until(() -> isCountExactlyNum(4L));
     }
 
+    @Test
+    void count_shouldCountApproximately() {
+        String id1 = nextId();
+        reactiveTemplate.insert(new Person(id1, "vasili", 50)).block();
+        String id2 = nextId();
+        reactiveTemplate.insert(new Person(id2, "vasili", 51)).block();
+        String id3 = nextId();
+        reactiveTemplate.insert(new Person(id3, "petya", 52)).block();
+
+        // Without qualifiers the amount of records in the set is returned
+        Awaitility.await()
+            .atMost(Duration.ofSeconds(15))
+            .until(() -> Objects.equals(reactiveTemplate.count(null, Person.class, CountMode.APPROXIMATE).block(),
+                3L));
+
+        Query query = new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setValue("vasili")
+            .setFilterOperation(FilterOperation.EQ)
+            .build());
+        // The estimation is an upper bound of the exact count
+        assertThat(reactiveTemplate.count(query, Person.class, CountMode.EXACT).block()).isEqualTo(2);
+        assertThat(reactiveTemplate.count(query, Person.class, CountMode.APPROXIMATE).block())
+            .isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void countByIdsUsingQuery_shouldCountOnlyRecordsMatchingQuery() {
+        String id1 = nextId();
+        reactiveTemplate.insert(new Person(id1, "vasili", 50)).block();
+        String id2 = nextId();
+        reactiveTemplate.insert(new Person(id2, "vasili", 51)).block();
+        String id3 = nextId();
+        reactiveTemplate.insert(new Person(id3, "petya", 52)).block();
+        List<String> ids = List.of(id1, id2, id3, nextId());
+
+        Query queryVasya = new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setValue("vasili")
+            .setFilterOperation(FilterOperation.EQ)
+            .build());
+        // Only record headers are read, the query is applied as a filter expression
+        assertThat(reactiveTemplate.countByIdsUsingQuery(ids, Person.class, queryVasya).block()).isEqualTo(2);
+
+        Query queryAge = new Query(Qualifier.builder()
+            .setPath("age")
+            .setValue(51)
+            .setFilterOperation(FilterOperation.GT)
+            .build());
+        assertThat(reactiveTemplate.countByIdsUsingQuery(ids, Person.class, queryAge).block()).isEqualTo(1);
+        Query queryVasyaAndAge = new Query(Qualifier.and(queryVasya.getCriteriaObject(), queryAge.getCriteriaObject()));
+        assertThat(reactiveTemplate.countByIdsUsingQuery(ids, Person.class, queryVasyaAndAge).block()).isZero();
+        assertThat(reactiveTemplate.countByIdsUsingQuery(ids, Person.class, null).block()).isEqualTo(3);
+    }
+
+    @Test
+    void existsByIdsUsingQuery_shouldReturnTrueOnlyIfMatchingRecordIsPresent() {
+        String id1 = nextId();
+        reactiveTemplate.insert(new Person(id1, "vasili", 50)).block();
+        String id2 = nextId();
+        reactiveTemplate.insert(new Person(id2, "petya", 52)).block();
+        List<String> ids = List.of(id1, id2, nextId());
+
+        Query queryPetya = new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setValue("petya")
+            .setFilterOperation(FilterOperation.EQ)
+            .build());
+        StepVerifier.create(reactiveTemplate.existsByIdsUsingQuery(ids, Person.class, queryPetya))
+            .expectNext(true)
+            .verifyComplete();
+        StepVerifier.create(reactiveTemplate.existsByIdsUsingQuery(List.of(id1), Person.class, queryPetya))
+            .expectNext(false)
+            .verifyComplete();
+
+        Query queryOlder = new Query(Qualifier.builder()
+            .setPath("age")
+            .setValue(60)
+            .setFilterOperation(FilterOperation.GT)
+            .build());
+        StepVerifier.create(reactiveTemplate.existsByIdsUsingQuery(ids, Person.class, queryOlder))
+            .expectNext(false)
+            .verifyComplete();
+    }
+
     @SuppressWarnings("SameParameterValue")
     private boolean isCountExactlyNum(Long num) {
         return Objects.equals(reactiveTemplate.count(Person.class).block(), num);
@@ -10,6 +10,8 @@ import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
 import org.springframework.data.aerospike.core.ReactiveAerospikeTemplate;
 import org.springframework.data.aerospike.core.model.GroupedKeys;
 import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Customer;
 import org.springframework.data.aerospike.sample.Person;
 import org.springframework.data.aerospike.sample.SampleClasses;
@@ -345,6 +347,25 @@ public class ReactiveAerospikeTemplateDeleteRelatedTests extends BaseReactiveInt
             .containsExactlyInAnyOrderElementsOf(persons2);
     }
 
+    @Test
+    public void deleteByQuery_deletesMatchingDocumentsOnServer() {
+        Person person1 = new Person(nextId(), "Alicia", 100);
+        Person person2 = new Person(nextId(), "Olivia", 30);
+        reactiveTemplate.saveAll(List.of(person1, person2)).blockLast();
+
+        Query ageEq100Query = new Query(Qualifier.builder()
+            .setPath("age")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue(100)
+            .build());
+        StepVerifier.create(reactiveTemplate.delete(ageEq100Query, Person.class)).verifyComplete();
+
+        StepVerifier.create(reactiveTemplate.findById(person1.getId(), Person.class)).verifyComplete();
+        StepVerifier.create(reactiveTemplate.findById(person2.getId(), Person.class))
+            .expectNext(person2)
+            .verifyComplete();
+    }
+
     @Test
     public void deleteAll_rejectsDuplicateIds() {
         String id1 = nextId();
@@ -1,14 +1,20 @@
 package org.springframework.data.aerospike.core.reactive.update;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.policy.Policy;
+import com.aerospike.client.task.ExecuteTask;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.RecoverableDataAccessException;
 import org.springframework.data.aerospike.BaseReactiveIntegrationTests;
+import org.springframework.data.aerospike.query.FilterOperation;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.sample.Person;
 import org.springframework.data.aerospike.sample.SampleClasses.VersionedClass;
 import org.springframework.data.aerospike.util.AsyncUtils;
@@ -33,6 +39,32 @@ public class ReactiveAerospikeTemplateUpdateTests extends BaseReactiveIntegratio
         reactiveTemplate.deleteAll(VersionedClass.class).block();
     }
 
+    @Test
+    public void updateByQuery_appliesOperationsToMatchingRecords() {
+        // a unique bin value so that only the records of this test match the query
+        String firstName = "Alicia-" + nextId();
+        Person person1 = new Person(nextId(), firstName, 100);
+        Person person2 = new Person(nextId(), "Olivia", 100);
+        reactiveTemplate.saveAll(List.of(person1, person2)).blockLast();
+
+        Query firstNameEqQuery = new Query(Qualifier.builder()
+            .setPath("firstName")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue(firstName)
+            .build());
+        ExecuteTask task = reactiveTemplate.updateByQuery(firstNameEqQuery, Person.class, 0,
+            Operation.add(new Bin("age", 1))).block();
+        assertThat(task).isNotNull();
+        task.waitTillComplete(50, 0);
+
+        create(reactiveTemplate.findById(person1.getId(), Person.class))
+            .assertNext(updated -> assertThat(updated.getAge()).isEqualTo(101))
+            .verifyComplete();
+        create(reactiveTemplate.findById(person2.getId(), Person.class))
+            .expectNext(person2)
+            .verifyComplete();
+    }
+
     @Test
     public void shouldThrowExceptionOnUpdateForNonExistingKey() {
         // RecordExistsAction.UPDATE_ONLY
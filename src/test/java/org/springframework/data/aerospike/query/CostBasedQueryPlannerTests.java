@@ -0,0 +1,177 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.aerospike.query.cache.IndexesCache;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexedField;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class CostBasedQueryPlannerTests {
+
+    private static final String NAMESPACE = "TEST";
+    private static final String SET = "testSet";
+
+    private IndexesCache indexesCache;
+
+    @BeforeEach
+    public void beforeEach() {
+        indexesCache = Mockito.mock(IndexesCache.class);
+        when(indexesCache.getAllIndexesForField(any())).thenReturn(List.of());
+    }
+
+    @Test
+    public void shouldChooseQualifierWithLowerEstimatedRecords() {
+        addIndex("age", 10);
+        addIndex("firstName", 10);
+        Qualifier range = qualifier("age", FilterOperation.BETWEEN, Filter.range("age", 1, 100));
+        Qualifier equality = qualifier("firstName", FilterOperation.EQ, Filter.equal("firstName", "Bob"));
+        CostBasedQueryPlanner planner = new CostBasedQueryPlanner(indexesCache, null);
+
+        Qualifier chosen = planner.chooseFilterQualifier(NAMESPACE, SET, List.of(range, equality), 2);
+
+        assertThat(chosen).isSameAs(equality);
+        assertThat(planner.estimateRecords(NAMESPACE, SET, range.getSecondaryIndexFilter())).isEqualTo(1000);
+        assertThat(planner.estimateRecords(NAMESPACE, SET, equality.getSecondaryIndexFilter())).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldCapEstimationBySetSize() {
+        addIndex("age", 10);
+        CostBasedQueryPlanner planner = new CostBasedQueryPlanner(indexesCache, (namespace, set) -> 500, Runnable::run);
+
+        assertThat(planner.estimateRecords(NAMESPACE, SET, Filter.range("age", 1, 100))).isEqualTo(500);
+        assertThat(planner.estimateRecords(NAMESPACE, SET, null)).isEqualTo(500);
+    }
+
+    @Test
+    public void shouldRefreshSetSizeInBackground() {
+        List<Runnable> refreshes = new ArrayList<>();
+        AtomicInteger providerCalls = new AtomicInteger();
+        CostBasedQueryPlanner planner = new CostBasedQueryPlanner(indexesCache, (namespace, set) -> {
+            providerCalls.incrementAndGet();
+            return 500;
+        }, refreshes::add);
+
+        assertThat(planner.estimateRecords(NAMESPACE, SET, null)).isEqualTo(QueryPlanner.UNKNOWN);
+        assertThat(planner.estimateRecords(NAMESPACE, SET, null)).isEqualTo(QueryPlanner.UNKNOWN);
+        assertThat(providerCalls).hasValue(0);
+        // a single refresh is scheduled while it is pending
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+
+        assertThat(planner.estimateRecords(NAMESPACE, SET, null)).isEqualTo(500);
+        assertThat(providerCalls).hasValue(1);
+    }
+
+    @Test
+    public void shouldNotFailEstimationWhenSetSizeRefreshFails() {
+        CostBasedQueryPlanner planner = new CostBasedQueryPlanner(indexesCache, (namespace, set) -> {
+            throw new IllegalStateException("Info command failed");
+        }, Runnable::run);
+
+        assertThat(planner.estimateRecords(NAMESPACE, SET, null)).isEqualTo(QueryPlanner.UNKNOWN);
+    }
+
+    @Test
+    public void shouldKeepObservedRecordsPerFilterValue() {
+        addIndex("firstName", 10);
+        CostBasedQueryPlanner planner = new CostBasedQueryPlanner(indexesCache, null);
+
+        planner.recordExecution(NAMESPACE, SET, Filter.equal("firstName", "Bob"), 5000);
+
+        assertThat(planner.estimateRecords(NAMESPACE, SET, Filter.equal("firstName", "Bob"))).isEqualTo(5000);
+        assertThat(planner.estimateRecords(NAMESPACE, SET, Filter.equal("firstName", "Alice"))).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldPreferObservedRecords() {
+        addIndex("age", 10);
+        addIndex("firstName", 10);
+        Qualifier range = qualifier("age", FilterOperation.BETWEEN, Filter.range("age", 1, 100));
+        Qualifier equality = qualifier("firstName", FilterOperation.EQ, Filter.equal("firstName", "Bob"));
+        CostBasedQueryPlanner planner = new CostBasedQueryPlanner(indexesCache, null);
+
+        planner.recordExecution(NAMESPACE, SET, range.getSecondaryIndexFilter(), 2);
+        planner.recordExecution(NAMESPACE, SET, equality.getSecondaryIndexFilter(), 50);
+
+        assertThat(planner.chooseFilterQualifier(NAMESPACE, SET, List.of(equality, range), 2)).isSameAs(range);
+    }
+
+    @Test
+    public void shouldChooseFirstQualifierWhenNoEstimationIsAvailable() {
+        Qualifier first = qualifier("firstName", FilterOperation.EQ, Filter.equal("firstName", "Bob"));
+        Qualifier second = qualifier("lastName", FilterOperation.EQ, Filter.equal("lastName", "Smith"));
+        CostBasedQueryPlanner planner = new CostBasedQueryPlanner(indexesCache, null);
+
+        assertThat(planner.chooseFilterQualifier(NAMESPACE, SET, List.of(first, second), 2)).isSameAs(first);
+        assertThat(planner.estimateRecords(NAMESPACE, SET, first.getSecondaryIndexFilter()))
+            .isEqualTo(QueryPlanner.UNKNOWN);
+    }
+
+    @Test
+    public void shouldEstimateRecordsInQueryPlanWhenPlannerIsDisabled() {
+        addIndex("age", 10);
+        CostBasedQueryPlanner planner = new CostBasedQueryPlanner(indexesCache, (namespace, set) -> 500, Runnable::run);
+        QueryContext queryContext = new QueryContext(statement(Filter.equal("age", 30)), null);
+
+        // The planner is not used for choosing the Filter, but the records are still estimated
+        QueryContextBuilder withEstimator = new QueryContextBuilder(indexesCache, null,
+            QueryContextBuilder.DEFAULT_UNION_MAX_IN_VALUES, planner);
+        assertThat(withEstimator.getQueryPlanner()).isNull();
+        assertThat(withEstimator.explain(queryContext, new FilterExpressionsBuilder()).estimatedRecords())
+            .isEqualTo(10);
+        QueryContext scanContext = new QueryContext(statement(null), null);
+        assertThat(withEstimator.explain(scanContext, new FilterExpressionsBuilder()).estimatedRecords())
+            .isEqualTo(500);
+
+        QueryContextBuilder withoutEstimator = new QueryContextBuilder(indexesCache, null);
+        assertThat(withoutEstimator.explain(queryContext, new FilterExpressionsBuilder()).estimatedRecords())
+            .isEqualTo(QueryPlanner.UNKNOWN);
+    }
+
+    private void addIndex(String binName, int binValuesRatio) {
+        Index index = Index.builder()
+            .name(binName + "_index")
+            .namespace(NAMESPACE)
+            .set(SET)
+            .bin(binName)
+            .indexType(IndexType.NUMERIC)
+            .indexCollectionType(IndexCollectionType.DEFAULT)
+            .binValuesRatio(binValuesRatio)
+            .build();
+        when(indexesCache.getAllIndexesForField(new IndexedField(NAMESPACE, SET, binName)))
+            .thenReturn(List.of(index));
+    }
+
+    private static Statement statement(@Nullable Filter filter) {
+        Statement statement = new Statement();
+        statement.setNamespace(NAMESPACE);
+        statement.setSetName(SET);
+        statement.setFilter(filter);
+        return statement;
+    }
+
+    private static Qualifier qualifier(String binName, FilterOperation operation, Filter filter) {
+        Qualifier qualifier = Mockito.mock(Qualifier.class);
+        when(qualifier.getBinName()).thenReturn(binName);
+        when(qualifier.getOperation()).thenReturn(operation);
+        when(qualifier.getSecondaryIndexFilter()).thenReturn(filter);
+        return qualifier;
+    }
+}
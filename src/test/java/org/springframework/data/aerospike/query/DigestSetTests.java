@@ -0,0 +1,24 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.Key;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DigestSetTests {
+
+    @Test
+    public void shouldAddOnlyDistinctDigestsWhileGrowing() {
+        DigestSet digests = new DigestSet();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(digests.add(new Key("test", "testSet", i).digest)).isTrue();
+        }
+        for (int i = 0; i < 1000; i++) {
+            // Equal digests are different arrays
+            assertThat(digests.add(new Key("test", "testSet", i).digest)).isFalse();
+        }
+
+        assertThat(digests.size()).isEqualTo(1000);
+        assertThat(digests.add(new Key("test", "otherSet", 1).digest)).isTrue();
+    }
+}
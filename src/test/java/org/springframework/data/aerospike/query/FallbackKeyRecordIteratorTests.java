@@ -0,0 +1,57 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.query.KeyRecord;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FallbackKeyRecordIteratorTests {
+
+    private static final String NAMESPACE = "TEST";
+
+    @Test
+    public void shouldSwitchToFallbackOnSecondaryIndexError() {
+        KeyRecordIterator source = Mockito.mock(KeyRecordIterator.class);
+        when(source.hasNext()).thenThrow(new AerospikeException(ResultCode.INDEX_NOTFOUND));
+        KeyRecord keyRecord = new KeyRecord(new Key(NAMESPACE, "set", "1"), new Record(Map.of(), 1, 0));
+        AtomicInteger fallbackQueries = new AtomicInteger();
+
+        try (KeyRecordIterator iterator = new FallbackKeyRecordIterator(NAMESPACE, source, () -> {
+            fallbackQueries.incrementAndGet();
+            return new KeyRecordIterator(NAMESPACE, keyRecord);
+        })) {
+            assertThat(iterator).toIterable().containsExactly(keyRecord);
+        }
+        // The source is closed and the fallback query runs once
+        verify(source).close();
+        assertThat(fallbackQueries).hasValue(1);
+    }
+
+    @Test
+    public void shouldRethrowOtherErrors() {
+        KeyRecordIterator source = Mockito.mock(KeyRecordIterator.class);
+        when(source.hasNext()).thenThrow(new AerospikeException(ResultCode.TIMEOUT));
+        AtomicInteger fallbackQueries = new AtomicInteger();
+
+        KeyRecordIterator iterator = new FallbackKeyRecordIterator(NAMESPACE, source, () -> {
+            fallbackQueries.incrementAndGet();
+            return new KeyRecordIterator(NAMESPACE);
+        });
+
+        assertThatThrownBy(iterator::hasNext).isInstanceOf(AerospikeException.class)
+            .extracting(e -> ((AerospikeException) e).getResultCode())
+            .isEqualTo(ResultCode.TIMEOUT);
+        assertThat(fallbackQueries).hasValue(0);
+    }
+}
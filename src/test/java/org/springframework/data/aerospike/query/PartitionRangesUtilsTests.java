@@ -0,0 +1,64 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.Filter;
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.Statement;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PartitionRangesUtilsTests {
+
+    @Test
+    public void shouldSplitAllPartitionsIntoContiguousRanges() {
+        List<PartitionFilter> ranges = PartitionRangesUtils.splitIntoRanges(3);
+
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0).getBegin()).isZero();
+        assertThat(ranges.get(0).getCount()).isEqualTo(1366);
+        assertThat(ranges.get(1).getBegin()).isEqualTo(1366);
+        assertThat(ranges.get(1).getCount()).isEqualTo(1365);
+        assertThat(ranges.get(2).getBegin()).isEqualTo(2731);
+        assertThat(ranges.get(2).getCount()).isEqualTo(1365);
+    }
+
+    @Test
+    public void shouldLimitRangesAmountByPartitionsAmount() {
+        assertThat(PartitionRangesUtils.splitIntoRanges(10_000)).hasSize(4096)
+            .allSatisfy(range -> assertThat(range.getCount()).isEqualTo(1));
+        assertThat(PartitionRangesUtils.splitIntoRanges(0)).hasSize(1);
+    }
+
+    @Test
+    public void shouldCopyStatementKeepingMaxRecordsAndDividingRecordsPerSecond() {
+        Statement statement = new Statement();
+        statement.setNamespace("test");
+        statement.setSetName("set");
+        statement.setBinNames("a", "b");
+        statement.setFilter(Filter.equal("a", 1));
+        statement.setMaxRecords(10);
+        statement.setRecordsPerSecond(1000);
+
+        Statement copy = PartitionRangesUtils.copyForRange(statement, 4);
+
+        assertThat(copy).isNotSameAs(statement);
+        assertThat(copy.getNamespace()).isEqualTo("test");
+        assertThat(copy.getSetName()).isEqualTo("set");
+        assertThat(copy.getBinNames()).containsExactly("a", "b");
+        assertThat(copy.getFilter()).isEqualTo(statement.getFilter());
+        // Matching records can be in any range, the merged results are limited instead
+        assertThat(copy.getMaxRecords()).isEqualTo(10);
+        assertThat(copy.getRecordsPerSecond()).isEqualTo(250);
+    }
+
+    @Test
+    public void shouldKeepPositiveRecordsPerSecondForEachRange() {
+        Statement statement = new Statement();
+        statement.setRecordsPerSecond(3);
+
+        assertThat(PartitionRangesUtils.copyForRange(statement, 8).getRecordsPerSecond()).isEqualTo(1);
+        assertThat(PartitionRangesUtils.copyForRange(new Statement(), 8).getRecordsPerSecond()).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.PartitionFilter;
+import com.aerospike.client.query.PartitionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PartitionsCursorTests {
+
+    @Test
+    public void shouldRestoreInitialCursorFromToken() {
+        PartitionsCursor restored = PartitionsCursor.fromToken(PartitionsCursor.initial().toToken());
+
+        assertThat(restored.getPartitionFilter().getBegin()).isZero();
+        assertThat(restored.getPartitionFilter().getCount()).isEqualTo(4096);
+        assertThat(restored.getPartitionFilter().getPartitions()).isNull();
+    }
+
+    @Test
+    public void shouldRestorePartitionsStatusFromToken() {
+        PartitionFilter partitionFilter = PartitionFilter.range(10, 2);
+        PartitionStatus first = new PartitionStatus(10);
+        first.bval = 42;
+        first.digest = new byte[20];
+        first.digest[0] = 7;
+        PartitionStatus second = new PartitionStatus(11);
+        second.retry = true;
+        partitionFilter.setPartitions(new PartitionStatus[]{first, second});
+
+        PartitionsCursor restored = PartitionsCursor.fromToken(PartitionsCursor.of(partitionFilter).toToken());
+
+        PartitionFilter restoredFilter = restored.getPartitionFilter();
+        assertThat(restoredFilter.getBegin()).isEqualTo(10);
+        assertThat(restoredFilter.getCount()).isEqualTo(2);
+        assertThat(restoredFilter.getPartitions()).hasSize(2);
+        assertThat(restoredFilter.getPartitions()[0].id).isEqualTo(10);
+        assertThat(restoredFilter.getPartitions()[0].bval).isEqualTo(42);
+        assertThat(restoredFilter.getPartitions()[0].digest).isEqualTo(first.digest);
+        assertThat(restoredFilter.getPartitions()[0].retry).isFalse();
+        assertThat(restoredFilter.getPartitions()[1].id).isEqualTo(11);
+        assertThat(restoredFilter.getPartitions()[1].digest).isNull();
+        assertThat(restoredFilter.getPartitions()[1].retry).isTrue();
+    }
+
+    @Test
+    public void shouldFailOnInvalidToken() {
+        assertThatThrownBy(() -> PartitionsCursor.fromToken("invalid"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldFailOnTokenWithTruncatedDigest() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(1);
+            out.writeInt(10);
+            out.writeInt(2);
+            out.writeInt(1);
+            out.writeShort(10);
+            out.writeLong(0);
+            out.writeBoolean(false);
+            out.writeBoolean(true);
+            out.write(new byte[5]);
+        }
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+
+        assertThatThrownBy(() -> PartitionsCursor.fromToken(token))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("digest");
+    }
+
+    @Test
+    public void shouldFailOnTokenWithPartitionOutOfRange() {
+        PartitionFilter partitionFilter = PartitionFilter.range(10, 2);
+        partitionFilter.setPartitions(new PartitionStatus[]{new PartitionStatus(20)});
+        String token = PartitionsCursor.of(partitionFilter).toToken();
+
+        assertThatThrownBy(() -> PartitionsCursor.fromToken(token))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("out of range");
+    }
+}
@@ -0,0 +1,79 @@
+package org.springframework.data.aerospike.query;
+
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.aerospike.query.cache.IndexesCache;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexedField;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+import org.springframework.data.aerospike.repository.query.Query;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class QueryContextBuilderTests {
+
+    private static final String NAMESPACE = "TEST";
+    private static final String SET = "testSet";
+
+    private IndexesCache indexesCache;
+    private QueryContextBuilder queryContextBuilder;
+
+    @BeforeEach
+    public void beforeEach() {
+        indexesCache = Mockito.mock(IndexesCache.class);
+        when(indexesCache.getAllIndexesForField(any())).thenReturn(List.of());
+        queryContextBuilder = new QueryContextBuilder(indexesCache);
+    }
+
+    @Test
+    public void shouldNotSplitInQualifierWithOnlyCollectionIndex() {
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.LIST);
+
+        // The index contains elements of lists, not the values of the bin itself
+        assertThat(queryContextBuilder.buildUnion(NAMESPACE, SET, inQuery("age", List.of(25, 26)), null)).isNull();
+    }
+
+    @Test
+    public void shouldNotSplitInQualifierWithIndexOfOtherType() {
+        addIndex("age", IndexType.STRING, IndexCollectionType.DEFAULT);
+
+        assertThat(queryContextBuilder.buildUnion(NAMESPACE, SET, inQuery("age", List.of(25, 26)), null)).isNull();
+    }
+
+    @Test
+    public void shouldNotSplitInQualifierWithValuesOfDifferentTypes() {
+        addIndex("age", IndexType.NUMERIC, IndexCollectionType.DEFAULT);
+
+        // String values cannot be queried using the numeric index
+        assertThat(queryContextBuilder.buildUnion(NAMESPACE, SET, inQuery("age", List.of(25, "26")), null)).isNull();
+    }
+
+    private void addIndex(String binName, IndexType indexType, IndexCollectionType collectionType) {
+        Index index = Index.builder()
+            .name(binName + "_index")
+            .namespace(NAMESPACE)
+            .set(SET)
+            .bin(binName)
+            .indexType(indexType)
+            .indexCollectionType(collectionType)
+            .build();
+        when(indexesCache.hasIndexFor(new IndexedField(NAMESPACE, SET, binName))).thenReturn(true);
+        when(indexesCache.getAllIndexesForField(new IndexedField(NAMESPACE, SET, binName)))
+            .thenReturn(List.of(index));
+    }
+
+    private static Query inQuery(String binName, List<?> values) {
+        return new Query(Qualifier.builder()
+            .setPath(binName)
+            .setFilterOperation(FilterOperation.IN)
+            .setValue(values)
+            .build());
+    }
+}
@@ -27,11 +27,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.aerospike.annotation.Extensive;
 import org.springframework.data.aerospike.query.FilterOperation;
 import org.springframework.data.aerospike.query.KeyRecordIterator;
+import org.springframework.data.aerospike.query.QueryContextBuilder;
 import org.springframework.data.aerospike.query.qualifier.Qualifier;
 import org.springframework.data.aerospike.repository.query.Query;
 import org.springframework.data.aerospike.util.AwaitilityUtils;
 import org.springframework.data.aerospike.util.CollectionUtils;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -385,6 +387,120 @@ class IndexedQualifierTests extends BaseQueryEngineTests {
         }
     }
 
+    @Test
+    void selectOnIndexedOrQualifier_withTwoIndexes() {
+        Qualifier colorEqGreen = Qualifier.builder()
+            .setPath("color")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue(GREEN)
+            .build();
+        Qualifier ageBetween28And29 = Qualifier.builder()
+            .setPath("age")
+            .setFilterOperation(FilterOperation.BETWEEN)
+            .setValue(28)
+            .setSecondValue(29)
+            .build();
+
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC);
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "color_index", "color", IndexType.STRING);
+        try {
+            Query query = new Query(Qualifier.or(colorEqGreen, ageBetween28And29));
+
+            // Each inner qualifier is queried using its secondary index, records matching both are returned once
+            List<KeyRecord> records = CollectionUtils.toStream(
+                queryEngine.select(namespace, INDEXED_SET_NAME, null, query)).toList();
+
+            assertThat(records).extracting(rec -> rec.key).doesNotHaveDuplicates();
+            // Green records are the ones aged 28, so the union consists of exactly the records aged 28 or 29
+            Map<Integer, Integer> ageCount = records.stream()
+                .map(rec -> rec.record.getInt("age"))
+                .collect(Collectors.groupingBy(k -> k, countingInt()));
+            assertThat(ageCount).isEqualTo(Map.of(
+                28, queryEngineTestDataPopulator.ageCount.get(28),
+                29, queryEngineTestDataPopulator.ageCount.get(29)));
+            assertThat(records).filteredOn(rec -> GREEN.equals(rec.record.getString("color")))
+                .hasSize(queryEngineTestDataPopulator.colourCounts.get(GREEN));
+        } finally {
+            tryDropIndex(INDEXED_SET_NAME, "age_index");
+            tryDropIndex(INDEXED_SET_NAME, "color_index");
+        }
+    }
+
+    @Test
+    void selectForExistsOnIndexedOrQualifier_withTwoIndexes() {
+        Qualifier colorEqGreen = Qualifier.builder()
+            .setPath("color")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue(GREEN)
+            .build();
+        Qualifier colorEqBlack = Qualifier.builder()
+            .setPath("color")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue("black")
+            .build();
+        Qualifier ageBetween40And41 = Qualifier.builder()
+            .setPath("age")
+            .setFilterOperation(FilterOperation.BETWEEN)
+            .setValue(40)
+            .setSecondValue(41)
+            .build();
+
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC);
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "color_index", "color", IndexType.STRING);
+        try {
+            // Each inner qualifier is queried using its secondary index, only record headers are read
+            try (KeyRecordIterator iterator = queryEngine.selectForExists(namespace, INDEXED_SET_NAME,
+                new Query(Qualifier.or(colorEqGreen, ageBetween40And41)))) {
+                assertThat(iterator.hasNext()).isTrue();
+                assertThat(iterator.next().record.bins).isNullOrEmpty();
+            }
+            try (KeyRecordIterator iterator = queryEngine.selectForExists(namespace, INDEXED_SET_NAME,
+                new Query(Qualifier.or(colorEqBlack, ageBetween40And41)))) {
+                assertThat(iterator.hasNext()).isFalse();
+            }
+        } finally {
+            tryDropIndex(INDEXED_SET_NAME, "age_index");
+            tryDropIndex(INDEXED_SET_NAME, "color_index");
+        }
+    }
+
+    @Test
+    void selectOnIndexedInQualifier() {
+        withIndex(namespace, INDEXED_SET_NAME, "color_index", "color", IndexType.STRING, () -> {
+            Qualifier colorIn = Qualifier.builder()
+                .setPath("color")
+                .setFilterOperation(FilterOperation.IN)
+                .setValue(List.of(BLUE, GREEN, BLUE))
+                .build();
+
+            // Each value is queried using the secondary index, no scan is needed
+            KeyRecordIterator it = queryEngine.select(namespace, INDEXED_SET_NAME, null, new Query(colorIn));
+
+            assertThat(it).toIterable().isNotEmpty()
+                .allSatisfy(rec -> assertThat(rec.record.getString("color")).isIn(BLUE, GREEN))
+                .extracting(rec -> rec.key)
+                .doesNotHaveDuplicates();
+        });
+    }
+
+    @Test
+    void buildUnionOnIndexedInQualifier_withMoreValuesThanMaximum() {
+        withIndex(namespace, INDEXED_SET_NAME, "color_index", "color", IndexType.STRING, () -> {
+            Query query = new Query(Qualifier.builder()
+                .setPath("color")
+                .setFilterOperation(FilterOperation.IN)
+                .setValue(List.of(BLUE, GREEN, ORANGE, BLUE))
+                .build());
+
+            // Duplicate values are not counted
+            assertThat(new QueryContextBuilder(indexesCache, null, 3)
+                .buildUnion(namespace, INDEXED_SET_NAME, query, null)).hasSize(3);
+            // IN with more values stays a single query with a filter expression
+            assertThat(new QueryContextBuilder(indexesCache, null, 2)
+                .buildUnion(namespace, INDEXED_SET_NAME, query, null)).isNull();
+        });
+    }
+
     @Test
     void selectOnIndexedAndQualifier_withTwoIndexes_usingDslExpression() {
         // Combining in one DSL expression
@@ -17,6 +17,9 @@
 package org.springframework.data.aerospike.query.blocking;
 
 import com.aerospike.client.Value;
+import com.aerospike.client.cdt.ListReturnType;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.exp.ListExp;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.client.query.KeyRecord;
 import org.junit.jupiter.api.BeforeAll;
@@ -452,6 +455,31 @@ class QualifierTests extends BaseQueryEngineTests {
         assertThat(colorCount).isNotEmpty().isEqualTo(expectedCounts);
     }
 
+    @Test
+    void inAndNotInQualifiers_useOneListExpression() {
+        List<String> inColors = Arrays.asList(COLOURS[0], COLOURS[2]);
+        Qualifier in = Qualifier.builder()
+            .setPath("color")
+            .setFilterOperation(FilterOperation.IN)
+            .setValue(inColors)
+            .build();
+        Qualifier notIn = Qualifier.builder()
+            .setPath("color")
+            .setFilterOperation(FilterOperation.NOT_IN)
+            .setValue(inColors)
+            .build();
+
+        Exp colorInList = Exp.gt(ListExp.getByValue(ListReturnType.COUNT, Exp.stringBin("color"), Exp.val(inColors)),
+            Exp.val(0));
+        assertThat(Exp.build(in.getFilterExp())).isEqualTo(Exp.build(colorInList));
+        assertThat(Exp.build(notIn.getFilterExp())).isEqualTo(Exp.build(
+            Exp.or(Exp.not(Exp.binExists("color")), Exp.not(colorInList))));
+
+        KeyRecordIterator it = queryEngine.select(namespace, SET_NAME, null, new Query(notIn));
+        assertThat(it).toIterable().isNotEmpty()
+            .allSatisfy(rec -> assertThat(rec.record.getString("color")).isNotIn(inColors));
+    }
+
     @Test
     void listContainsQualifier() {
         String searchColor = COLOURS[0];
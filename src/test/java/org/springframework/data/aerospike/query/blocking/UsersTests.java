@@ -21,6 +21,51 @@ class UsersTests extends BaseQueryEngineTests {
         assertThat(it).toIterable().hasSize(RECORD_COUNT);
     }
 
+    @Test
+    void allUsers_partitionRanges() {
+        queryEngine.setPartitionRanges(8);
+        queryEngine.setPartitionRangesConcurrency(4);
+        try {
+            KeyRecordIterator it = queryEngine.select(namespace, USERS_SET, null, null);
+
+            assertThat(it).toIterable().hasSize(RECORD_COUNT);
+        } finally {
+            queryEngine.setPartitionRanges(0);
+            queryEngine.setPartitionRangesConcurrency(0);
+        }
+    }
+
+    @Test
+    void allUsers_partitionRangesLimitedToMaxRecords() {
+        long queryMaxRecords = queryEngine.getQueryMaxRecords();
+        queryEngine.setPartitionRanges(8);
+        queryEngine.setQueryMaxRecords(13);
+        try (KeyRecordIterator it = queryEngine.select(namespace, USERS_SET, null, null)) {
+            // The limit applies to the merged results, not to each range
+            assertThat(it).toIterable().hasSize(13);
+        } finally {
+            queryEngine.setPartitionRanges(0);
+            queryEngine.setQueryMaxRecords(queryMaxRecords);
+        }
+    }
+
+    @Test
+    void usersInterrupted_partitionRanges() {
+        queryEngine.setPartitionRanges(8);
+        try (KeyRecordIterator it = queryEngine.select(namespace, USERS_SET, null, null)) {
+            int counter = 0;
+            while (it.hasNext()) {
+                it.next();
+                counter++;
+                if (counter >= 10)
+                    break;
+            }
+            assertThat(counter).isEqualTo(10);
+        } finally {
+            queryEngine.setPartitionRanges(0);
+        }
+    }
+
     @Test
     void usersInterrupted() {
         try (KeyRecordIterator it = queryEngine.select(namespace, USERS_SET, null, null)) {
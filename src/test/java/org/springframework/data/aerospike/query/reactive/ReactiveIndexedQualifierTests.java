@@ -283,6 +283,43 @@ public class ReactiveIndexedQualifierTests extends BaseReactiveQueryEngineTests
         });
     }
 
+    @Test
+    public void selectForExistsOnIndexedOrQualifier_withTwoIndexes() {
+        Qualifier colorEqGreen = Qualifier.builder()
+            .setPath("color")
+            .setFilterOperation(EQ)
+            .setValue(GREEN)
+            .build();
+        Qualifier colorEqBlack = Qualifier.builder()
+            .setPath("color")
+            .setFilterOperation(EQ)
+            .setValue("black")
+            .build();
+        Qualifier ageBetween40And41 = Qualifier.builder()
+            .setPath("age")
+            .setFilterOperation(FilterOperation.BETWEEN)
+            .setValue(40)
+            .setSecondValue(41)
+            .build();
+
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "age_index", "age", IndexType.NUMERIC);
+        tryCreateIndex(namespace, INDEXED_SET_NAME, "color_index", "color", IndexType.STRING);
+        try {
+            // Each inner qualifier is queried using its secondary index, only record headers are read
+            StepVerifier.create(reactiveQueryEngine.selectForExists(namespace, INDEXED_SET_NAME,
+                    new Query(Qualifier.or(colorEqGreen, ageBetween40And41))).hasElements())
+                .expectNext(true)
+                .verifyComplete();
+            StepVerifier.create(reactiveQueryEngine.selectForExists(namespace, INDEXED_SET_NAME,
+                    new Query(Qualifier.or(colorEqBlack, ageBetween40And41))).hasElements())
+                .expectNext(false)
+                .verifyComplete();
+        } finally {
+            tryDropIndex(namespace, INDEXED_SET_NAME, "age_index");
+            tryDropIndex(namespace, INDEXED_SET_NAME, "color_index");
+        }
+    }
+
     @Test
     public void selectWithGeoWithin() {
         withIndex(namespace, INDEXED_GEO_SET, "geo_index", GEO_BIN_NAME, IndexType.GEO2DSPHERE, () -> {
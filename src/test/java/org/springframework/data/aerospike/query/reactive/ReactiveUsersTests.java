@@ -10,6 +10,7 @@ import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.RECORD_COUNT;
 import static org.springframework.data.aerospike.query.QueryEngineTestDataPopulator.USERS_SET;
 
 @Extensive
@@ -34,4 +35,61 @@ public class ReactiveUsersTests extends BaseReactiveQueryEngineTests {
             })
             .verifyComplete();
     }
+
+    @Test
+    public void usersInNorthRegion_partitionRanges() {
+        Qualifier qualifier = Qualifier.builder()
+            .setPath("region")
+            .setFilterOperation(FilterOperation.EQ)
+            .setValue("n")
+            .build();
+        long expectedCount = reactiveQueryEngine.select(namespace, USERS_SET, null, new Query(qualifier))
+            .count().block();
+
+        reactiveQueryEngine.setPartitionRanges(8);
+        reactiveQueryEngine.setPartitionRangesConcurrency(4);
+        try {
+            Flux<KeyRecord> flux = reactiveQueryEngine.select(namespace, USERS_SET, null, new Query(qualifier));
+
+            StepVerifier.create(flux.collectList())
+                .expectNextMatches(results -> {
+                    assertThat(results)
+                        .hasSize((int) expectedCount)
+                        .allSatisfy(rec -> assertThat(rec.record.getString("region")).isEqualTo("n"));
+                    return true;
+                })
+                .verifyComplete();
+        } finally {
+            reactiveQueryEngine.setPartitionRanges(0);
+            reactiveQueryEngine.setPartitionRangesConcurrency(0);
+        }
+    }
+
+    @Test
+    public void allUsers_partitionRanges() {
+        reactiveQueryEngine.setPartitionRanges(16);
+        try {
+            StepVerifier.create(reactiveQueryEngine.select(namespace, USERS_SET, null, null).count())
+                .expectNext((long) RECORD_COUNT)
+                .verifyComplete();
+        } finally {
+            reactiveQueryEngine.setPartitionRanges(0);
+        }
+    }
+
+    @Test
+    public void allUsers_partitionRangesLimitedToMaxRecords() {
+        long queryMaxRecords = reactiveQueryEngine.getQueryMaxRecords();
+        reactiveQueryEngine.setPartitionRanges(8);
+        reactiveQueryEngine.setQueryMaxRecords(13);
+        try {
+            // The limit applies to the merged results, not to each range
+            StepVerifier.create(reactiveQueryEngine.select(namespace, USERS_SET, null, null).count())
+                .expectNext(13L)
+                .verifyComplete();
+        } finally {
+            reactiveQueryEngine.setPartitionRanges(0);
+            reactiveQueryEngine.setQueryMaxRecords(queryMaxRecords);
+        }
+    }
 }
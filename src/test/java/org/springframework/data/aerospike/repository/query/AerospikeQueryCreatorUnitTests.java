@@ -18,6 +18,8 @@ import org.springframework.data.repository.query.parser.PartTree;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.data.aerospike.convert.AerospikeConverter.CLASS_KEY_DEFAULT;
 
 /**
@@ -66,6 +68,31 @@ public class AerospikeQueryCreatorUnitTests {
         creator1.createQuery();
     }
 
+    @Test
+    public void createsQueriesUsingSamePlan() {
+        PartTreePlan plan = PartTreePlan.of(new PartTree("findByFirstNameAndAge", Person.class), context);
+
+        Query first = new AerospikeQueryCreator(plan, new StubParameterAccessor(
+            QueryParam.of("Oliver"), QueryParam.of(20)), context, converter, serverVersionSupport).createQuery();
+        Query second = new AerospikeQueryCreator(plan, new StubParameterAccessor(
+            QueryParam.of("Peter"), QueryParam.of(30)), context, converter, serverVersionSupport).createQuery();
+
+        assertThat(first.getCriteriaObject().getQualifiers()[0].getValue().getObject()).isEqualTo("Oliver");
+        assertThat(second.getCriteriaObject().getQualifiers()[0].getValue().getObject()).isEqualTo("Peter");
+        assertThat(second.getCriteriaObject().getQualifiers()[1].getBinName()).isEqualTo("age");
+    }
+
+    @Test
+    public void failsOnUnsupportedKeywordWhenQueryIsCreated() {
+        // Unsupported keyword does not fail planning, so that a repository using it still starts
+        PartTreePlan plan = PartTreePlan.of(new PartTree("findByFirstNameNotLike", Person.class), context);
+
+        assertThatThrownBy(() -> new AerospikeQueryCreator(plan, new StubParameterAccessor("Oliver"), context,
+            converter, serverVersionSupport).createQuery())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unsupported keyword");
+    }
+
     private MappingAerospikeConverter getMappingAerospikeConverter(AerospikeCustomConversions conversions) {
         MappingAerospikeConverter converter = new MappingAerospikeConverter(new AerospikeMappingContext(),
             conversions, new AerospikeTypeAliasAccessor(CLASS_KEY_DEFAULT), new AerospikeDataSettings(null));
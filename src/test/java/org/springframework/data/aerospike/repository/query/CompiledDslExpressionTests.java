@@ -0,0 +1,95 @@
+package org.springframework.data.aerospike.repository.query;
+
+import com.aerospike.client.Value;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.query.IndexCollectionType;
+import com.aerospike.client.query.IndexType;
+import com.aerospike.dsl.impl.DSLParserImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.query.model.Index;
+import org.springframework.data.aerospike.query.model.IndexKey;
+import org.springframework.data.aerospike.query.qualifier.Qualifier;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledDslExpressionTests {
+
+    private static final String NAMESPACE = "test";
+    private static final String SET_NAME = "person";
+
+    @Test
+    public void shouldBindNewPlaceholderValuesToCompiledExpression() {
+        Map<IndexKey, Index> indexCache = Map.of();
+        CompiledDslExpression expression = new CompiledDslExpression("$.age > ?0", NAMESPACE, null, true,
+            new DSLParserImpl());
+        expression.compile(indexCache);
+
+        Qualifier first = expression.bind(indexCache, new Object[]{10});
+        Qualifier second = expression.bind(indexCache, new Object[]{20});
+        Qualifier third = expression.bind(indexCache, new Object[]{10});
+
+        // Without secondary indexes the whole expression is a filter expression
+        assertThat(first.getFilter()).isNull();
+        assertThat(first.getFilterExpression().getBase64())
+            .isEqualTo(Exp.build(Exp.gt(Exp.intBin("age"), Exp.val(10))).getBase64());
+        assertThat(second.getFilterExpression().getBase64())
+            .isEqualTo(Exp.build(Exp.gt(Exp.intBin("age"), Exp.val(20))).getBase64());
+        assertThat(third.getFilterExpression().getBase64()).isEqualTo(first.getFilterExpression().getBase64());
+        // A new qualifier for each invocation
+        assertThat(third).isNotSameAs(first);
+    }
+
+    @Test
+    public void shouldParseAgainWhenIndexCacheIsReplaced() {
+        CompiledDslExpression expression = new CompiledDslExpression("$.age == ?0", NAMESPACE, null, true,
+            new DSLParserImpl());
+        Map<IndexKey, Index> emptyCache = Map.of();
+        expression.compile(emptyCache);
+        assertThat(expression.bind(emptyCache, new Object[]{10}).getFilter()).isNull();
+
+        // Refreshing indexes replaces the cache with a new instance
+        Map<IndexKey, Index> refreshedCache = indexCacheWithAgeIndex();
+        Qualifier qualifier = expression.bind(refreshedCache, new Object[]{10});
+
+        assertThat(qualifier.getFilter()).isNotNull();
+        assertThat(qualifier.getFilter().getName()).isEqualTo("age");
+        assertThat(qualifier.getFilter().getBegin()).isEqualTo(Value.get(10L));
+        // Placeholder values are bound to the expression parsed for the new cache
+        assertThat(expression.bind(refreshedCache, new Object[]{20}).getFilter().getBegin())
+            .isEqualTo(Value.get(20L));
+        assertThat(expression.bind(emptyCache, new Object[]{20}).getFilter()).isNull();
+    }
+
+    @Test
+    public void shouldCompileExpressionWithoutPlaceholders() {
+        CompiledDslExpression expression = new CompiledDslExpression("$.age == 10", NAMESPACE, null, false,
+            new DSLParserImpl());
+        Map<IndexKey, Index> indexCache = indexCacheWithAgeIndex();
+        expression.compile(indexCache);
+
+        Qualifier first = expression.bind(indexCache, new Object[0]);
+        Qualifier second = expression.bind(indexCache, new Object[0]);
+
+        assertThat(first.getFilter()).isNotNull();
+        assertThat(first.getFilter().getName()).isEqualTo("age");
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getFilter()).isSameAs(first.getFilter());
+    }
+
+    private static Map<IndexKey, Index> indexCacheWithAgeIndex() {
+        Map<IndexKey, Index> indexCache = new HashMap<>();
+        indexCache.put(new IndexKey(NAMESPACE, SET_NAME, "age", IndexType.NUMERIC, IndexCollectionType.DEFAULT),
+            Index.builder()
+                .name("age_index")
+                .namespace(NAMESPACE)
+                .set(SET_NAME)
+                .bin("age")
+                .indexType(IndexType.NUMERIC)
+                .indexCollectionType(IndexCollectionType.DEFAULT)
+                .build());
+        return indexCache;
+    }
+}
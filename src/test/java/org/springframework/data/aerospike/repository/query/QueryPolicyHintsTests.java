@@ -0,0 +1,77 @@
+package org.springframework.data.aerospike.repository.query;
+
+import com.aerospike.client.policy.QueryPolicy;
+import com.aerospike.client.policy.Replica;
+import com.aerospike.client.query.QueryDuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.aerospike.annotation.QueryHints;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class QueryPolicyHintsTests {
+
+    @Test
+    public void shouldCreateHintsFromAnnotationIgnoringUnsetAttributes() throws NoSuchMethodException {
+        QueryPolicyHints hints = QueryPolicyHints.from(annotation("interactive"));
+
+        assertThat(hints.getSocketTimeout()).isNull();
+        assertThat(hints.getTotalTimeout()).isEqualTo(50);
+        assertThat(hints.getMaxRecords(10_000)).isEqualTo(100);
+        assertThat(hints.getRecordsPerSecond()).isNull();
+        assertThat(hints.getReplica()).isEqualTo(Replica.SEQUENCE);
+        assertThat(hints.getIncludeBinData()).isNull();
+        assertThat(hints.getExpectedDuration()).isEqualTo(QueryDuration.SHORT);
+
+        QueryPolicyHints noHints = QueryPolicyHints.from(annotation("noHints"));
+        assertThat(noHints.getMaxRecords(10_000)).isEqualTo(10_000);
+        assertThat(noHints.getIncludeBinData()).isNull();
+    }
+
+    @Test
+    public void shouldApplyHintsToCachedCopyOfDefaultPolicy() throws NoSuchMethodException {
+        QueryPolicyHints hints = QueryPolicyHints.from(annotation("interactive"));
+        QueryPolicy defaultPolicy = new QueryPolicy();
+        defaultPolicy.socketTimeout = 30_000;
+
+        QueryPolicy policy = hints.getQueryPolicy(defaultPolicy);
+
+        assertThat(policy).isNotSameAs(defaultPolicy);
+        assertThat(policy.socketTimeout).isEqualTo(30_000);
+        assertThat(policy.totalTimeout).isEqualTo(50);
+        assertThat(policy.replica).isEqualTo(Replica.SEQUENCE);
+        assertThat(policy.expectedDuration).isEqualTo(QueryDuration.SHORT);
+        assertThat(defaultPolicy.totalTimeout).isNotEqualTo(50);
+        assertThat(hints.getQueryPolicy(defaultPolicy)).isSameAs(policy);
+        assertThat(hints.getQueryPolicy(new QueryPolicy())).isNotSameAs(policy);
+    }
+
+    @Test
+    public void shouldRejectSeveralValuesOfSingleValuedAttribute() {
+        assertThatThrownBy(() -> QueryPolicyHints.from(annotation("severalReplicas")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("replica");
+    }
+
+    private static QueryHints annotation(String methodName)
+        throws NoSuchMethodException {
+        Method method = HintedMethods.class.getDeclaredMethod(methodName);
+        return method.getAnnotation(QueryHints.class);
+    }
+
+    @SuppressWarnings("unused")
+    private interface HintedMethods {
+
+        @QueryHints(totalTimeout = 50, maxRecords = 100,
+            replica = Replica.SEQUENCE, expectedDuration = QueryDuration.SHORT)
+        void interactive();
+
+        @QueryHints
+        void noHints();
+
+        @QueryHints(replica = {Replica.MASTER, Replica.SEQUENCE})
+        void severalReplicas();
+    }
+}
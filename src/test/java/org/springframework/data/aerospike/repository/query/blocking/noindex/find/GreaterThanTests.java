@@ -8,9 +8,12 @@ import org.springframework.data.aerospike.sample.PersonSomeFields;
 import org.springframework.data.aerospike.util.TestUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +49,28 @@ public class GreaterThanTests extends PersonRepositoryQueryTests {
         assertThat(slice3.getContent()).isEmpty();
     }
 
+    @Test
+    void findBySimpleProperty_Integer_Scrolled() {
+        List<Person> result = new ArrayList<>();
+        Window<Person> window = repository.findFirst2ByAgeGreaterThan(40, ScrollPosition.keyset());
+        result.addAll(window.getContent());
+        while (window.hasNext()) {
+            assertThat(window.getContent()).hasSizeLessThanOrEqualTo(2);
+            window = repository.findFirst2ByAgeGreaterThan(40, window.positionAt(window.size() - 1));
+            result.addAll(window.getContent());
+        }
+
+        assertThat(result).containsExactlyInAnyOrder(dave, carter, boyd, leroi);
+    }
+
+    @Test
+    void findBySimpleProperty_Integer_ScrolledFromInvalidPosition() {
+        assertThatThrownBy(() -> repository.findFirst2ByAgeGreaterThan(40, ScrollPosition.offset(2)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Scroll position must be either initial or taken from the last element of a previously " +
+                "returned window");
+    }
+
     @Test
     void findBySimpleProperty_Integer_PaginatedHasPrevHasNext() {
         Slice<Person> first = repository.findByAgeGreaterThan(40, PageRequest.of(0, 1, Sort.by("age")));
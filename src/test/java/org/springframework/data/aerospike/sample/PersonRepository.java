@@ -23,8 +23,10 @@ import org.springframework.data.aerospike.repository.query.CriteriaDefinition.Ae
 import org.springframework.data.aerospike.repository.query.CriteriaDefinition.AerospikeQueryCriterion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -460,6 +462,14 @@ public interface PersonRepository<P extends Person> extends AerospikeRepository<
      */
     Slice<P> findByAgeGreaterThan(long age, Pageable pageable);
 
+    /**
+     * Scroll through entities with age greater than the given numeric parameter, two entities per window
+     *
+     * @param age      integer to compare with
+     * @param position ScrollPosition to continue from
+     */
+    Window<P> findFirst2ByAgeGreaterThan(int age, ScrollPosition position);
+
     // DTO Projection
     Slice<PersonSomeFields> findPersonSomeFieldsByAgeGreaterThan(int age, Pageable pageable);
 